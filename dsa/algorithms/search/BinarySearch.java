@@ -0,0 +1,985 @@
+package dsa.algorithms.search;
+
+
+/**
+ * This class contains search methods which are implemented using Binary Search.
+ *
+ * <p>The methods in this class all throw a {@code NullPointerException},
+ * if the specified array reference is null, except where noted.</p>
+ *
+ * <p>The searched range must be sorted into ascending order, otherwise the results are
+ * undefined. {@code float} and {@code double} ranges must be ordered like
+ * {@link Double#compare(double, double)}, which is the order {@code Arrays.sort} and
+ * {@code RadixSort} produce ({@code -0.0} before {@code 0.0}, {@code NaN} last).
+ * {@code search} and {@code searchLast} find the elements that are {@code ==} to the key,
+ * like {@link LinearSearch}, so they never find {@code NaN} and find {@code -0.0} and
+ * {@code 0.0} alike. {@code lowerBound} and {@code upperBound} use the sort order.</p>
+ *
+ * <p>It is used when the array is sorted and searched more than once.</p>
+ * 
+ * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity">
+ * 	<tr>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Best)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Average)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Worst)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Space Complexity</th>
+ * 	</tr>
+ * 	<tr>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(logn)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(logn)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(logn)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(1)</td>
+ * 	</tr>
+ * </table>
+ *
+ * @author  Sathvik
+ * @version 1.0
+ */
+public class BinarySearch
+{	
+	// Suppresses default constructor, ensuring non-instantiability.
+    private BinarySearch() {}
+
+	private static void rangeCheck(int length, int fromIndex, int toIndex)
+	{
+		if(fromIndex < 0 || toIndex > length)
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+		if(fromIndex > toIndex)
+		{
+			throw new IllegalArgumentException("fromIndex(" + fromIndex +
+												") > toIndex(" + toIndex + ")");
+		}
+	}
+	
+	
+	// char array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(char[] a, char key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(char[] a, int fromIndex, int toIndex, char key) 
+	{
+		int i = lowerBound(a, fromIndex, toIndex, key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(char[] a, int fromIndex, int toIndex, char key) 
+	{
+		int i = upperBound(a, fromIndex, toIndex, key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(char[] a, int fromIndex, int toIndex, char key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] < key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(char[] a, int fromIndex, int toIndex, char key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] <= key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	
+	// byte array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(byte[] a, byte key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(byte[] a, int fromIndex, int toIndex, byte key) 
+	{
+		int i = lowerBound(a, fromIndex, toIndex, key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(byte[] a, int fromIndex, int toIndex, byte key) 
+	{
+		int i = upperBound(a, fromIndex, toIndex, key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(byte[] a, int fromIndex, int toIndex, byte key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] < key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(byte[] a, int fromIndex, int toIndex, byte key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] <= key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	
+	// short array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(short[] a, short key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(short[] a, int fromIndex, int toIndex, short key) 
+	{
+		int i = lowerBound(a, fromIndex, toIndex, key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(short[] a, int fromIndex, int toIndex, short key) 
+	{
+		int i = upperBound(a, fromIndex, toIndex, key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(short[] a, int fromIndex, int toIndex, short key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] < key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(short[] a, int fromIndex, int toIndex, short key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] <= key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	
+	// int array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(int[] a, int key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(int[] a, int fromIndex, int toIndex, int key) 
+	{
+		int i = lowerBound(a, fromIndex, toIndex, key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(int[] a, int fromIndex, int toIndex, int key) 
+	{
+		int i = upperBound(a, fromIndex, toIndex, key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(int[] a, int fromIndex, int toIndex, int key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] < key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(int[] a, int fromIndex, int toIndex, int key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] <= key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	
+	// long array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(long[] a, long key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(long[] a, int fromIndex, int toIndex, long key) 
+	{
+		int i = lowerBound(a, fromIndex, toIndex, key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(long[] a, int fromIndex, int toIndex, long key) 
+	{
+		int i = upperBound(a, fromIndex, toIndex, key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(long[] a, int fromIndex, int toIndex, long key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] < key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(long[] a, int fromIndex, int toIndex, long key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(a[mid] <= key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	
+	// float array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(float[] a, float key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(float[] a, int fromIndex, int toIndex, float key) 
+	{
+		if(key != key)
+		{
+			return -1;
+		}
+		// -0.0 and 0.0 are equal, the first of them is the lower bound of -0.0
+		int i = lowerBound(a, fromIndex, toIndex, key == 0.0f ? -0.0f : key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(float[] a, int fromIndex, int toIndex, float key) 
+	{
+		if(key != key)
+		{
+			return -1;
+		}
+		// -0.0 and 0.0 are equal, the last of them is before the upper bound of 0.0
+		int i = upperBound(a, fromIndex, toIndex, key == 0.0f ? 0.0f : key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(float[] a, int fromIndex, int toIndex, float key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(Float.compare(a[mid], key) < 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(float[] a, int fromIndex, int toIndex, float key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(Float.compare(a[mid], key) <= 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	
+	// double array
+	/**
+	 * Searches the specified sorted array for the specified value using the binary search algorithm.
+	 * If the array contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the array; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 */
+	public static int search(double[] a, double key) 
+	{
+		return search(a, 0, a.length, key);
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then first element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int search(double[] a, int fromIndex, int toIndex, double key) 
+	{
+		if(key != key)
+		{
+			return -1;
+		}
+		// -0.0 and 0.0 are equal, the first of them is the lower bound of -0.0
+		int i = lowerBound(a, fromIndex, toIndex, key == 0.0d ? -0.0d : key);
+		return i < toIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Searches a range of the specified sorted array for the specified value using the binary search algorithm.
+	 * If the range contains multiple elements with the specified value, then last element is considered.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return index of the search key, if it is contained in the range; otherwise, <tt>-1</tt>.
+	 *         Note that this guarantees that the return value will be &gt;= 0 if and only if the key is found.
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int searchLast(double[] a, int fromIndex, int toIndex, double key) 
+	{
+		if(key != key)
+		{
+			return -1;
+		}
+		// -0.0 and 0.0 are equal, the last of them is before the upper bound of 0.0
+		int i = upperBound(a, fromIndex, toIndex, key == 0.0d ? 0.0d : key) - 1;
+		return i >= fromIndex && a[i] == key ? i : -1;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is not less than
+	 * the key, or <tt>toIndex</tt> if every element is less than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the lower bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int lowerBound(double[] a, int fromIndex, int toIndex, double key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(Double.compare(a[mid], key) < 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+	
+	/**
+	 * Returns the index of the first element of the specified sorted range that is greater than
+	 * the key, or <tt>toIndex</tt> if no element is greater than the key.
+	 *
+	 * @param a the array to be searched
+	 * @param fromIndex the index of the first element (inclusive) to be searched
+	 * @param toIndex the index of the last element (exclusive) to be searched
+	 * @param key the value to be searched for
+	 * @return the upper bound of the key in the range
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int upperBound(double[] a, int fromIndex, int toIndex, double key) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		rangeCheck(a.length, fromIndex, toIndex);
+		
+		int lo = fromIndex, hi = toIndex;
+		while(lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(Double.compare(a[mid], key) <= 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+}
@@ -3,12 +3,19 @@ package dsa.algorithms.sort;
 import java.util.ArrayList;
 import java.util.Collections; 
 /**
- * This class contains sort methods which are implemented using Bucket Sort for decimal numbers 
- * ranging from (-1.0,1.0) i.e., -0.9 to +0.9.
+ * This class contains sort methods which are implemented using Bucket Sort. {@code Float} and 
+ * {@code Double} arrays are limited to decimal numbers ranging from (-1.0,1.0) i.e., -0.9 to +0.9.
  *
  * <p>The methods in this class all throw a {@code NullPointerException},
  * if the specified array reference is null, except where noted.</p>
  *
+ * <p>{@code float} and {@code double} arrays accept any values: n buckets of equal width are laid 
+ * over the range(min to max) of the array, the bucket of a value is computed arithmetically and 
+ * all buckets share one scratch array, so no objects are created per element. Small buckets are 
+ * sorted with insertion sort and large ones with {@link QuickSort}, which bounds the worst case to 
+ * O(n logn). The order is the one of {@link Double#compare(double, double)}, i.e. {@code -0.0} 
+ * before {@code 0.0} and {@code NaN} last.</p>
+ *
  * <p><b>Bucket sort</b> is mainly useful when input is uniformly distributed over a range.
  * Where <b>k</b> is the no of buckets.</p>
  *
@@ -36,6 +43,9 @@ public class BucketSort
 	// Suppresses default constructor, ensuring non-instantiability.
     private BucketSort() {}
 	
+	//buckets of this size or smaller are sorted with insertion sort, larger ones with QuickSort
+	private final static int insertionThreshold = 32;
+	
 
 	// float array
 	/**
@@ -47,7 +57,6 @@ public class BucketSort
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 * @throws RuntimeException {@code if(a[i] <= -1.0 || a[i] >= 1.0)} where i = start to end
 	 */
 	public static void sort(float[] a, char c)
 	{
@@ -61,81 +70,13 @@ public class BucketSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				@SuppressWarnings("unchecked") 
-				ArrayList<Float>[] buckets = new ArrayList[19];
-				byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-				for (int i = 0; i < 19; i++) 
-				{ 
-					buckets[i] = new ArrayList<Float>(0); 
-				} 
-				for (int i = 0; i < a.length; i++) 
-				{ 
-					if(a[i] <= -1.0 || a[i] >= 1.0)
-					{
-						throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-					}
-					int loc = String.valueOf(a[i]).charAt(2) - 39;
-					if(loc != 7)
-					{
-						buckets[loc].add(a[i]);
-					}
-					else
-					{
-						buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-					}
-				} 
-				for (int i = 0; i < 19; i++) 
-				{ 
-					Collections.sort(buckets[i]); 
-				} 
-				int index = 0; 
-				for (int i = 0; i < 19; i++)
-				{ 
-					for (int j = 0; j < buckets[i].size(); j++) 
-					{ 
-						a[index++] = buckets[i].get(j); 
-					} 
-				} 
+				bucketSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				@SuppressWarnings("unchecked") 
-				ArrayList<Float>[] buckets = new ArrayList[19];
-				byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-				for (int i = 0; i < 19; i++) 
-				{ 
-					buckets[i] = new ArrayList<Float>(0); 
-				} 
-				for (int i = 0; i < a.length; i++) 
-				{ 
-					if(a[i] <= -1.0 || a[i] >= 1.0)
-					{
-						throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-					}
-					int loc = String.valueOf(a[i]).charAt(2) - 39;
-					if(loc != 7)
-					{
-						buckets[loc].add(a[i]);
-					}
-					else
-					{
-						buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-					}
-				} 
-				for (int i = 0; i < 19; i++) 
-				{ 
-					Collections.sort(buckets[i], Collections.reverseOrder()); 
-				} 
-				int index = 0; 
-				for (int i = 18; i > -1; i--)
-				{ 
-					for (int j = 0; j < buckets[i].size(); j++) 
-					{ 
-						a[index++] = buckets[i].get(j); 
-					} 
-				} 
+				bucketSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -160,7 +101,6 @@ public class BucketSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
-	 * @throws RuntimeException {@code if(a[i] <= -1.0 || a[i] >= 1.0)} where i = start to end
 	 */
 	public static void sort(float[] a, int fromIndex, int toIndex, char c)
 	{
@@ -176,81 +116,13 @@ public class BucketSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					@SuppressWarnings("unchecked") 
-					ArrayList<Float>[] buckets = new ArrayList[19];
-					byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-					for (int i = 0; i < 19; i++) 
-					{ 
-						buckets[i] = new ArrayList<Float>(0); 
-					} 
-					for (int i = fromIndex; i < toIndex; i++) 
-					{ 
-						if(a[i] <= -1.0 || a[i] >= 1.0)
-						{
-							throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-						}
-						int loc = String.valueOf(a[i]).charAt(2) - 39;
-						if(loc != 7)
-						{
-							buckets[loc].add(a[i]);
-						}
-						else
-						{
-							buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-						}
-					} 
-					for (int i = 0; i < 19; i++) 
-					{ 
-						Collections.sort(buckets[i]); 
-					} 
-					int index = fromIndex; 
-					for (int i = 0; i < 19; i++)
-					{ 
-						for (int j = 0; j < buckets[i].size(); j++) 
-						{ 
-							a[index++] = buckets[i].get(j); 
-						} 
-					} 	
+					bucketSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					@SuppressWarnings("unchecked") 
-					ArrayList<Float>[] buckets = new ArrayList[19];
-					byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-					for (int i = 0; i < 19; i++) 
-					{ 
-						buckets[i] = new ArrayList<Float>(0); 
-					} 
-					for (int i = fromIndex; i < toIndex; i++) 
-					{ 
-						if(a[i] <= -1.0 || a[i] >= 1.0)
-						{
-							throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-						}
-						int loc = String.valueOf(a[i]).charAt(2) - 39;
-						if(loc != 7)
-						{
-							buckets[loc].add(a[i]);
-						}
-						else
-						{
-							buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-						}
-					} 
-					for (int i = 0; i < 19; i++) 
-					{ 
-						Collections.sort(buckets[i], Collections.reverseOrder()); 
-					} 
-					int index = fromIndex; 
-					for (int i = 18; i > -1; i--)
-					{ 
-						for (int j = 0; j < buckets[i].size(); j++) 
-						{ 
-							a[index++] = buckets[i].get(j); 
-						} 
-					} 
+					bucketSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -272,6 +144,143 @@ public class BucketSort
 		}
 	}
 	
+	// float array bucket sort of a[fromIndex, toIndex)
+	private static void bucketSort(float[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		// NaNs are placed last and -0.0 is sorted as 0.0 and restored before 0.0 afterwards,
+		// which gives the same order as Float.compare
+		int end = toIndex, negativeZeros = 0;
+		float x;
+		for(int i = toIndex - 1; i >= fromIndex; i--)
+		{
+			x = a[i];
+			if(x != x)
+			{
+				a[i] = a[--end];
+				a[end] = x;
+			}
+			else if(x == 0.0f && Float.floatToRawIntBits(x) < 0)
+			{
+				a[i] = 0.0f;
+				negativeZeros++;
+			}
+		}
+		
+		// range of the finite values, infinities go to the first/last bucket
+		int n = end - fromIndex;
+		float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+		for(int i = fromIndex; i < end; i++)
+		{
+			x = a[i];
+			if(x < min && x != Float.NEGATIVE_INFINITY)
+			{
+				min = x;
+			}
+			if(x > max && x != Float.POSITIVE_INFINITY)
+			{
+				max = x;
+			}
+		}
+		
+		if(n > insertionThreshold && min < max)
+		{
+			// n buckets of equal width over [min, max], the offsets of the buckets are counted
+			// first so all buckets share one flat scratch array
+			double base = min, scale = n / ((double)max - min);
+			float[] scratch = new float[n];
+			int[] offset = new int[n + 1];
+			System.arraycopy(a, fromIndex, scratch, 0, n);
+			for(int i = 0; i < n; i++)
+			{
+				offset[bucket(scratch[i], base, scale, n) + 1]++;
+			}
+			for(int k = 0; k < n; k++)
+			{
+				offset[k + 1] += offset[k];
+			}
+			for(int i = 0; i < n; i++)
+			{
+				x = scratch[i];
+				a[fromIndex + offset[bucket(x, base, scale, n)]++] = x;
+			}
+			
+			// bucket k is now a[fromIndex + offset[k - 1], fromIndex + offset[k])
+			for(int k = 0, start = fromIndex; k < n; k++)
+			{
+				int stop = fromIndex + offset[k];
+				if(stop - start > insertionThreshold)
+				{
+					QuickSort.sort(a, start, stop, 'a');
+				}
+				else
+				{
+					insertionSort(a, start, stop);
+				}
+				start = stop;
+			}
+		}
+		else if(n > insertionThreshold)
+		{
+			QuickSort.sort(a, fromIndex, end, 'a');
+		}
+		else
+		{
+			insertionSort(a, fromIndex, end);
+		}
+		
+		if(negativeZeros > 0)
+		{
+			// first 0.0 in the sorted range
+			int left = fromIndex, right = end;
+			while(left < right)
+			{
+				int mid = (left + right) >>> 1;
+				if(a[mid] < 0.0f)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0f;
+			}
+		}
+		
+		if(!ascending)
+		{
+			for(int i = fromIndex, j = toIndex - 1; i < j; i++, j--)
+			{
+				x = a[i];
+				a[i] = a[j];
+				a[j] = x;
+			}
+		}
+	}
+	private static int bucket(float x, double base, double scale, int n)
+	{
+		// the cast saturates for infinities, the clamp maps them to the end buckets
+		int k = (int)((x - base) * scale);
+		return k < 0 ? 0 : (k >= n ? n - 1 : k);
+	}
+	private static void insertionSort(float[] a, int lo, int hi)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			float key = a[i];
+			int j = i - 1;
+			while(j >= lo && a[j] > key)
+			{
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
+		}
+	}
+	
 	
 	// double array
 	/**
@@ -283,7 +292,6 @@ public class BucketSort
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 * @throws RuntimeException {@code if(a[i] <= -1.0 || a[i] >= 1.0)} where i = start to end
 	 */
 	public static void sort(double[] a, char c)
 	{
@@ -297,81 +305,13 @@ public class BucketSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				@SuppressWarnings("unchecked") 
-				ArrayList<Double>[] buckets = new ArrayList[19];
-				byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-				for (int i = 0; i < 19; i++) 
-				{ 
-					buckets[i] = new ArrayList<Double>(0); 
-				} 
-				for (int i = 0; i < a.length; i++) 
-				{ 
-					if(a[i] <= -1.0 || a[i] >= 1.0)
-					{
-						throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-					}
-					int loc = String.valueOf(a[i]).charAt(2) - 39;
-					if(loc != 7)
-					{
-						buckets[loc].add(a[i]);
-					}
-					else
-					{
-						buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-					}
-				} 
-				for (int i = 0; i < 19; i++) 
-				{ 
-					Collections.sort(buckets[i]); 
-				} 
-				int index = 0; 
-				for (int i = 0; i < 19; i++)
-				{ 
-					for (int j = 0; j < buckets[i].size(); j++) 
-					{ 
-						a[index++] = buckets[i].get(j); 
-					} 
-				} 
+				bucketSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				@SuppressWarnings("unchecked") 
-				ArrayList<Double>[] buckets = new ArrayList[19];
-				byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-				for (int i = 0; i < 19; i++) 
-				{ 
-					buckets[i] = new ArrayList<Double>(0); 
-				} 
-				for (int i = 0; i < a.length; i++) 
-				{ 
-					if(a[i] <= -1.0 || a[i] >= 1.0)
-					{
-						throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-					}
-					int loc = String.valueOf(a[i]).charAt(2) - 39;
-					if(loc != 7)
-					{
-						buckets[loc].add(a[i]);
-					}
-					else
-					{
-						buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-					}
-				} 
-				for (int i = 0; i < 19; i++) 
-				{ 
-					Collections.sort(buckets[i], Collections.reverseOrder()); 
-				} 
-				int index = 0; 
-				for (int i = 18; i > -1; i--)
-				{ 
-					for (int j = 0; j < buckets[i].size(); j++) 
-					{ 
-						a[index++] = buckets[i].get(j); 
-					} 
-				} 
+				bucketSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -396,7 +336,6 @@ public class BucketSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
-	 * @throws RuntimeException {@code if(a[i] <= -1.0 || a[i] >= 1.0)} where i = start to end
 	 */
 	public static void sort(double[] a, int fromIndex, int toIndex, char c)
 	{
@@ -412,81 +351,13 @@ public class BucketSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					@SuppressWarnings("unchecked") 
-					ArrayList<Double>[] buckets = new ArrayList[19];
-					byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-					for (int i = 0; i < 19; i++) 
-					{ 
-						buckets[i] = new ArrayList<Double>(0); 
-					} 
-					for (int i = fromIndex; i < toIndex; i++) 
-					{ 
-						if(a[i] <= -1.0 || a[i] >= 1.0)
-						{
-							throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-						}
-						int loc = String.valueOf(a[i]).charAt(2) - 39;
-						if(loc != 7)
-						{
-							buckets[loc].add(a[i]);
-						}
-						else
-						{
-							buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-						}
-					} 
-					for (int i = 0; i < 19; i++) 
-					{ 
-						Collections.sort(buckets[i]); 
-					} 
-					int index = fromIndex; 
-					for (int i = 0; i < 19; i++)
-					{ 
-						for (int j = 0; j < buckets[i].size(); j++) 
-						{ 
-							a[index++] = buckets[i].get(j); 
-						} 
-					} 	
+					bucketSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					@SuppressWarnings("unchecked") 
-					ArrayList<Double>[] buckets = new ArrayList[19];
-					byte[] ref = {9,8,7,6,5,4,3,2,1,0};
-					for (int i = 0; i < 19; i++) 
-					{ 
-						buckets[i] = new ArrayList<Double>(0); 
-					} 
-					for (int i = fromIndex; i < toIndex; i++) 
-					{ 
-						if(a[i] <= -1.0 || a[i] >= 1.0)
-						{
-							throw new RuntimeException("Out of range(-1.0,1.0): " + a[i]);
-						}
-						int loc = String.valueOf(a[i]).charAt(2) - 39;
-						if(loc != 7)
-						{
-							buckets[loc].add(a[i]);
-						}
-						else
-						{
-							buckets[ref[String.valueOf(a[i]).charAt(3) - 48]].add(a[i]);
-						}
-					} 
-					for (int i = 0; i < 19; i++) 
-					{ 
-						Collections.sort(buckets[i], Collections.reverseOrder()); 
-					} 
-					int index = fromIndex; 
-					for (int i = 18; i > -1; i--)
-					{ 
-						for (int j = 0; j < buckets[i].size(); j++) 
-						{ 
-							a[index++] = buckets[i].get(j); 
-						} 
-					} 
+					bucketSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -508,6 +379,144 @@ public class BucketSort
 		}
 	}
 	
+	// double array bucket sort of a[fromIndex, toIndex)
+	private static void bucketSort(double[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		// NaNs are placed last and -0.0 is sorted as 0.0 and restored before 0.0 afterwards,
+		// which gives the same order as Double.compare
+		int end = toIndex, negativeZeros = 0;
+		double x;
+		for(int i = toIndex - 1; i >= fromIndex; i--)
+		{
+			x = a[i];
+			if(x != x)
+			{
+				a[i] = a[--end];
+				a[end] = x;
+			}
+			else if(x == 0.0d && Double.doubleToRawLongBits(x) < 0)
+			{
+				a[i] = 0.0d;
+				negativeZeros++;
+			}
+		}
+		
+		// range of the finite values, infinities go to the first/last bucket
+		int n = end - fromIndex;
+		double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+		for(int i = fromIndex; i < end; i++)
+		{
+			x = a[i];
+			if(x < min && x != Double.NEGATIVE_INFINITY)
+			{
+				min = x;
+			}
+			if(x > max && x != Double.POSITIVE_INFINITY)
+			{
+				max = x;
+			}
+		}
+		
+		if(n > insertionThreshold && min < max)
+		{
+			// n buckets of equal width over [min, max], the offsets of the buckets are counted
+			// first so all buckets share one flat scratch array
+			// halving keeps max - min finite
+			double base = min * 0.5d, scale = n / (max * 0.5d - base);
+			double[] scratch = new double[n];
+			int[] offset = new int[n + 1];
+			System.arraycopy(a, fromIndex, scratch, 0, n);
+			for(int i = 0; i < n; i++)
+			{
+				offset[bucket(scratch[i], base, scale, n) + 1]++;
+			}
+			for(int k = 0; k < n; k++)
+			{
+				offset[k + 1] += offset[k];
+			}
+			for(int i = 0; i < n; i++)
+			{
+				x = scratch[i];
+				a[fromIndex + offset[bucket(x, base, scale, n)]++] = x;
+			}
+			
+			// bucket k is now a[fromIndex + offset[k - 1], fromIndex + offset[k])
+			for(int k = 0, start = fromIndex; k < n; k++)
+			{
+				int stop = fromIndex + offset[k];
+				if(stop - start > insertionThreshold)
+				{
+					QuickSort.sort(a, start, stop, 'a');
+				}
+				else
+				{
+					insertionSort(a, start, stop);
+				}
+				start = stop;
+			}
+		}
+		else if(n > insertionThreshold)
+		{
+			QuickSort.sort(a, fromIndex, end, 'a');
+		}
+		else
+		{
+			insertionSort(a, fromIndex, end);
+		}
+		
+		if(negativeZeros > 0)
+		{
+			// first 0.0 in the sorted range
+			int left = fromIndex, right = end;
+			while(left < right)
+			{
+				int mid = (left + right) >>> 1;
+				if(a[mid] < 0.0d)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0d;
+			}
+		}
+		
+		if(!ascending)
+		{
+			for(int i = fromIndex, j = toIndex - 1; i < j; i++, j--)
+			{
+				x = a[i];
+				a[i] = a[j];
+				a[j] = x;
+			}
+		}
+	}
+	private static int bucket(double x, double base, double scale, int n)
+	{
+		// the cast saturates for infinities, the clamp maps them to the end buckets
+		int k = (int)((x * 0.5d - base) * scale);
+		return k < 0 ? 0 : (k >= n ? n - 1 : k);
+	}
+	private static void insertionSort(double[] a, int lo, int hi)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			double key = a[i];
+			int j = i - 1;
+			while(j >= lo && a[j] > key)
+			{
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
+		}
+	}
+	
 	
 	// Float array
 	/**
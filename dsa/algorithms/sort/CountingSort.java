@@ -1,5 +1,11 @@
 package dsa.algorithms.sort;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 
 /**
  * This class contains sort methods which are implemented using Counting Sort.
@@ -9,6 +15,14 @@ package dsa.algorithms.sort;
  *
  * <p>Counting sort is generally only ever used if <b>k</b> isn’t larger than <b>n</b>; in other words, 
  * if the <b>range of input</b> values isn’t greater than the <b>number of values</b> to be sorted.</p>
+ *
+ * <p>{@code int} arrays whose range would need a count array larger than the memory budget, 
+ * or much larger than the array itself, are sorted with {@link RadixSort} instead, 
+ * so a few outliers cannot make the count array overflow or exhaust the heap.</p>
+ *
+ * <p>{@code char}, {@code byte} and {@code short} arrays are written back as runs of equal values 
+ * straight from the counts, without an output array, and can be sorted on a {@link ForkJoinPool}: 
+ * every worker counts its own chunk and the merged counts are filled back in parallel.</p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity
  *																				 where k is range of input.">
@@ -34,6 +48,12 @@ public class CountingSort
 	// Suppresses default constructor, ensuring non-instantiability.
     private CountingSort() {}
 	
+	//default maximum size of the count array in bytes (int array)
+	private final static long memoryBudget = 1L << 26;
+	
+	//use Multithreading only if size of array is greater than threshold
+	private final static int threshold = 1 << 16;
+	
 
 	// char array
 	/**
@@ -58,77 +78,13 @@ public class CountingSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				char max = Character.MIN_VALUE, min = Character.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
-				}
-				int range = (max - min) + 1; 
-				char count[] = new char[range]; 
-				char output[] = new char[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = 1; i < count.length; i++) 
-				{ 
-					count[i] += count[i - 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
+				countingSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				char max = Character.MIN_VALUE, min = Character.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
-				}
-				int range = (max - min) + 1; 
-				char count[] = new char[range]; 
-				char output[] = new char[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = count.length - 2; i > -1; i--) 
-				{ 
-					count[i] += count[i + 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
+				countingSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -168,79 +124,13 @@ public class CountingSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					char max = Character.MIN_VALUE, min = Character.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					char count[] = new char[range]; 
-					char output[] = new char[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = 1; i < count.length; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					countingSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					char max = Character.MIN_VALUE, min = Character.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					char count[] = new char[range]; 
-					char output[] = new char[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = count.length - 2; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					countingSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -262,129 +152,46 @@ public class CountingSort
 		}
 	}
 	
-
-	// byte array
 	/**
 	 * Sorts the specified array into ascending/descending order 
-	 * based on the character input.
+	 * based on the character input, using the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(byte[] a, char c) 
+	public static void sort(char[] a, char c, ForkJoinPool pool) 
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				byte max = Byte.MIN_VALUE, min = Byte.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
-				}
-				int range = (max - min) + 1; 
-				byte count[] = new byte[range]; 
-				byte output[] = new byte[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = 1; i < count.length; i++) 
-				{ 
-					count[i] += count[i - 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				byte max = Byte.MIN_VALUE, min = Byte.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
-				}
-				int range = (max - min) + 1; 
-				byte count[] = new byte[range]; 
-				byte output[] = new byte[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = count.length - 2; i > -1; i--) 
-				{ 
-					count[i] += count[i + 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
 	
 	/**
 	 * Sorts the specified range of array into ascending/descending order 
-	 * based on the character input.
+	 * based on the character input, using the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 */
-	public static void sort(byte[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(char[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool) 
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
@@ -393,82 +200,18 @@ public class CountingSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				boolean ascending;
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					byte max = Byte.MIN_VALUE, min = Byte.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					byte count[] = new byte[range]; 
-					byte output[] = new byte[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = 1; i < count.length; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					ascending = true;
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					byte max = Byte.MIN_VALUE, min = Byte.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					byte count[] = new byte[range]; 
-					byte output[] = new byte[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = count.length - 2; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					ascending = false;
 				}
 				
 				// Invalid Character
@@ -477,6 +220,16 @@ public class CountingSort
 					throw new IllegalArgumentException("Invalid choice \'" + c + 
 					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 				}
+				
+				//use Multithreading only if size of array is greater than threshold
+				if(toIndex - fromIndex <= threshold || pool.getParallelism() == 1)
+				{
+					countingSort(a, fromIndex, toIndex, ascending);
+				}
+				else
+				{
+					pool.invoke(new ParallelCountingSortChar(a, fromIndex, toIndex, ascending, pool.getParallelism()));
+				}
 			}
 			else
 			{
@@ -490,8 +243,145 @@ public class CountingSort
 		}
 	}
 	
+	// char array counting sort of a[fromIndex, toIndex), the runs are written back without an output array
+	private static void countingSort(char[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		if(toIndex - fromIndex < 2)
+		{
+			return;
+		}
+		char max = Character.MIN_VALUE, min = Character.MAX_VALUE; 
+		int i;
+		for(i = fromIndex; i < toIndex; i++)
+		{
+			if(a[i] > max)
+			{
+				max = a[i];
+			}
+			if(a[i] < min)
+			{
+				min = a[i];
+			}
+		}
+		int range = (max - min) + 1; 
+		int count[] = new int[range]; 
+		for (i = fromIndex; i < toIndex; i++) 
+		{ 
+			count[a[i] - min]++; 
+		} 
+		i = fromIndex;
+		for (int v = 0; v < range; v++) 
+		{ 
+			int k = ascending ? v : range - 1 - v;
+			Arrays.fill(a, i, i += count[k], (char)(min + k));
+		} 
+	}
+	
+	// char array parallel counting sort: per chunk histograms, merged, then the runs are filled in parallel
+	private static final class ParallelCountingSortChar extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final char[] a;
+		private final int fromIndex, toIndex, parallelism;
+		private final boolean ascending;
+		ParallelCountingSortChar(char[] a, int fromIndex, int toIndex, boolean ascending, int parallelism)
+		{
+			this.a = a;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.ascending = ascending;
+			this.parallelism = parallelism;
+		}
+		@Override
+		protected void compute()
+		{
+			int n = toIndex - fromIndex;
+			int chunks = Math.min(parallelism, n / threshold);
+			int[][] count = new int[chunks][];
+			HistogramChar[] histograms = new HistogramChar[chunks];
+			for(int t = 0; t < chunks; t++)
+			{
+				histograms[t] = new HistogramChar(a, fromIndex + (int)((long)n * t / chunks),
+						fromIndex + (int)((long)n * (t + 1) / chunks), count[t] = new int[65536]);
+			}
+			invokeAll(histograms);
+			
+			int[] total = count[0];
+			for(int t = 1; t < chunks; t++)
+			{
+				for(int v = 0; v < 65536; v++)
+				{
+					total[v] += count[t][v];
+				}
+			}
+			
+			// split the output into value ranges of about n / chunks elements
+			List<FillChar> fills = new ArrayList<>();
+			int start = fromIndex, size = 0, first = 0;
+			for(int r = 0; r < 65536; r++)
+			{
+				size += total[ascending ? r : 65536 - 1 - r];
+				if(size >= n / chunks || r == 65536 - 1)
+				{
+					fills.add(new FillChar(a, start, first, r + 1, total, ascending));
+					start += size;
+					size = 0;
+					first = r + 1;
+				}
+			}
+			invokeAll(fills);
+		}
+	}
+	private static final class HistogramChar extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final char[] a;
+		private final int from, to;
+		private final int[] count;
+		HistogramChar(char[] a, int from, int to, int[] count)
+		{
+			this.a = a;
+			this.from = from;
+			this.to = to;
+			this.count = count;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				count[a[i]]++;
+			}
+		}
+	}
+	private static final class FillChar extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final char[] a;
+		private final int start, first, last;
+		private final int[] count;
+		private final boolean ascending;
+		FillChar(char[] a, int start, int first, int last, int[] count, boolean ascending)
+		{
+			this.a = a;
+			this.start = start;
+			this.first = first;
+			this.last = last;
+			this.count = count;
+			this.ascending = ascending;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int r = first, i = start; r < last; r++)
+			{
+				int v = ascending ? r : 65536 - 1 - r;
+				Arrays.fill(a, i, i += count[v], (char)(v));
+			}
+		}
+	}
 	
-	// short array
+	// byte array
 	/**
 	 * Sorts the specified array into ascending/descending order 
 	 * based on the character input.
@@ -502,7 +392,7 @@ public class CountingSort
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(short[] a, char c) 
+	public static void sort(byte[] a, char c) 
 	{
 		if(a == null)
 		{
@@ -514,82 +404,18 @@ public class CountingSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				short max = Short.MIN_VALUE, min = Short.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
-				}
-				int range = (max - min) + 1; 
-				short count[] = new short[range]; 
-				short output[] = new short[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = 1; i < count.length; i++) 
-				{ 
-					count[i] += count[i - 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
+				countingSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				short max = Short.MIN_VALUE, min = Short.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
-				}
-				int range = (max - min) + 1; 
-				short count[] = new short[range]; 
-				short output[] = new short[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = count.length - 2; i > -1; i--) 
-				{ 
-					count[i] += count[i + 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
+				countingSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
 			else
-			{
+			{	
 				throw new IllegalArgumentException("Invalid choice \'" + c + 
 				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
@@ -610,7 +436,7 @@ public class CountingSort
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 */
-	public static void sort(short[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(byte[] a, int fromIndex, int toIndex, char c) 
 	{
 		if(a == null)
 		{
@@ -624,79 +450,13 @@ public class CountingSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					short max = Short.MIN_VALUE, min = Short.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					short count[] = new short[range]; 
-					short output[] = new short[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = 1; i < count.length; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					countingSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					short max = Short.MIN_VALUE, min = Short.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					short count[] = new short[range]; 
-					short output[] = new short[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = count.length - 2; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					countingSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -718,115 +478,586 @@ public class CountingSort
 		}
 	}
 	
-	
-	// int array
 	/**
-	 * Sorts the specified array into ascending/descending order based on the character input. 
-	 * If the range(min to max) is greater than array size then {@code OutOfMemoryError} is thrown.
+	 * Sorts the specified array into ascending/descending order 
+	 * based on the character input, using the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(int[] a, char c) 
+	public static void sort(byte[] a, char c, ForkJoinPool pool) 
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
+		sort(a, 0, a.length, c, pool);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static void sort(byte[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool) 
+	{
+		if(a == null || pool == null)
+		{
+			throw new NullPointerException();
+		}
 		
-		if(a.length > 1)
+		if(fromIndex > -1 && toIndex <= a.length)
 		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
+			if(fromIndex <= toIndex)
+			{	
+				boolean ascending;
+				
+				// Ascending Order
+				if(c == 'a' || c == 'A')
 				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
+					ascending = true;
 				}
-				int range = (max - min) + 1; 
-				int count[] = new int[range]; 
-				int output[] = new int[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = 1; i < count.length; i++) 
-				{ 
-					count[i] += count[i - 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
-			}
+				
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					ascending = false;
+				}
+				
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+				
+				//use Multithreading only if size of array is greater than threshold
+				if(toIndex - fromIndex <= threshold || pool.getParallelism() == 1)
+				{
+					countingSort(a, fromIndex, toIndex, ascending);
+				}
+				else
+				{
+					pool.invoke(new ParallelCountingSortByte(a, fromIndex, toIndex, ascending, pool.getParallelism()));
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+	
+	// byte array counting sort of a[fromIndex, toIndex), the runs are written back without an output array
+	private static void countingSort(byte[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		if(toIndex - fromIndex < 2)
+		{
+			return;
+		}
+		byte max = Byte.MIN_VALUE, min = Byte.MAX_VALUE; 
+		int i;
+		for(i = fromIndex; i < toIndex; i++)
+		{
+			if(a[i] > max)
+			{
+				max = a[i];
+			}
+			if(a[i] < min)
+			{
+				min = a[i];
+			}
+		}
+		int range = (max - min) + 1; 
+		int count[] = new int[range]; 
+		for (i = fromIndex; i < toIndex; i++) 
+		{ 
+			count[a[i] - min]++; 
+		} 
+		i = fromIndex;
+		for (int v = 0; v < range; v++) 
+		{ 
+			int k = ascending ? v : range - 1 - v;
+			Arrays.fill(a, i, i += count[k], (byte)(min + k));
+		} 
+	}
+	
+	// byte array parallel counting sort: per chunk histograms, merged, then the runs are filled in parallel
+	private static final class ParallelCountingSortByte extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final byte[] a;
+		private final int fromIndex, toIndex, parallelism;
+		private final boolean ascending;
+		ParallelCountingSortByte(byte[] a, int fromIndex, int toIndex, boolean ascending, int parallelism)
+		{
+			this.a = a;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.ascending = ascending;
+			this.parallelism = parallelism;
+		}
+		@Override
+		protected void compute()
+		{
+			int n = toIndex - fromIndex;
+			int chunks = Math.min(parallelism, n / threshold);
+			int[][] count = new int[chunks][];
+			HistogramByte[] histograms = new HistogramByte[chunks];
+			for(int t = 0; t < chunks; t++)
+			{
+				histograms[t] = new HistogramByte(a, fromIndex + (int)((long)n * t / chunks),
+						fromIndex + (int)((long)n * (t + 1) / chunks), count[t] = new int[256]);
+			}
+			invokeAll(histograms);
 			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
+			int[] total = count[0];
+			for(int t = 1; t < chunks; t++)
 			{
-				int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
+				for(int v = 0; v < 256; v++)
 				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-					if(a[i] < min)
-					{
-						min = a[i];
-					}
+					total[v] += count[t][v];
 				}
-				int range = (max - min) + 1; 
-				int count[] = new int[range]; 
-				int output[] = new int[a.length]; 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					count[a[i] - min]++; 
-				} 
-				for (i = count.length - 2; i > -1; i--) 
-				{ 
-					count[i] += count[i + 1]; 
-				} 
-				for (i = a.length - 1; i > -1; i--) 
-				{ 
-					output[count[a[i] - min] - 1] = a[i]; 
-					count[a[i] - min]--; 
-				} 
-				for (i = 0; i < a.length; i++) 
-				{ 
-					a[i] = output[i]; 
-				} 
+			}
+			
+			// split the output into value ranges of about n / chunks elements
+			List<FillByte> fills = new ArrayList<>();
+			int start = fromIndex, size = 0, first = 0;
+			for(int r = 0; r < 256; r++)
+			{
+				size += total[ascending ? r : 256 - 1 - r];
+				if(size >= n / chunks || r == 256 - 1)
+				{
+					fills.add(new FillByte(a, start, first, r + 1, total, ascending));
+					start += size;
+					size = 0;
+					first = r + 1;
+				}
+			}
+			invokeAll(fills);
+		}
+	}
+	private static final class HistogramByte extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final byte[] a;
+		private final int from, to;
+		private final int[] count;
+		HistogramByte(byte[] a, int from, int to, int[] count)
+		{
+			this.a = a;
+			this.from = from;
+			this.to = to;
+			this.count = count;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				count[a[i] - Byte.MIN_VALUE]++;
+			}
+		}
+	}
+	private static final class FillByte extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final byte[] a;
+		private final int start, first, last;
+		private final int[] count;
+		private final boolean ascending;
+		FillByte(byte[] a, int start, int first, int last, int[] count, boolean ascending)
+		{
+			this.a = a;
+			this.start = start;
+			this.first = first;
+			this.last = last;
+			this.count = count;
+			this.ascending = ascending;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int r = first, i = start; r < last; r++)
+			{
+				int v = ascending ? r : 256 - 1 - r;
+				Arrays.fill(a, i, i += count[v], (byte)(v + Byte.MIN_VALUE));
+			}
+		}
+	}
+	
+	// short array
+	/**
+	 * Sorts the specified array into ascending/descending order 
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(short[] a, char c) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		if(a.length > 1)
+		{
+			// Ascending Order
+			if(c == 'a' || c == 'A')
+			{
+				countingSort(a, 0, a.length, true);
+			}
+			
+			// Descending Order
+			else if(c == 'd' || c == 'D')
+			{
+				countingSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
 			else
-			{
+			{	
 				throw new IllegalArgumentException("Invalid choice \'" + c + 
 				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
 		}
 	}
 	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static void sort(short[] a, int fromIndex, int toIndex, char c) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{	
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					countingSort(a, fromIndex, toIndex, true);
+				}
+				
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					countingSort(a, fromIndex, toIndex, false);
+				}
+				
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+	
+	/**
+	 * Sorts the specified array into ascending/descending order 
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(short[] a, char c, ForkJoinPool pool) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		sort(a, 0, a.length, c, pool);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static void sort(short[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool) 
+	{
+		if(a == null || pool == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{	
+				boolean ascending;
+				
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					ascending = true;
+				}
+				
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					ascending = false;
+				}
+				
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+				
+				//use Multithreading only if size of array is greater than threshold
+				if(toIndex - fromIndex <= threshold || pool.getParallelism() == 1)
+				{
+					countingSort(a, fromIndex, toIndex, ascending);
+				}
+				else
+				{
+					pool.invoke(new ParallelCountingSortShort(a, fromIndex, toIndex, ascending, pool.getParallelism()));
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+	
+	// short array counting sort of a[fromIndex, toIndex), the runs are written back without an output array
+	private static void countingSort(short[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		if(toIndex - fromIndex < 2)
+		{
+			return;
+		}
+		short max = Short.MIN_VALUE, min = Short.MAX_VALUE; 
+		int i;
+		for(i = fromIndex; i < toIndex; i++)
+		{
+			if(a[i] > max)
+			{
+				max = a[i];
+			}
+			if(a[i] < min)
+			{
+				min = a[i];
+			}
+		}
+		int range = (max - min) + 1; 
+		int count[] = new int[range]; 
+		for (i = fromIndex; i < toIndex; i++) 
+		{ 
+			count[a[i] - min]++; 
+		} 
+		i = fromIndex;
+		for (int v = 0; v < range; v++) 
+		{ 
+			int k = ascending ? v : range - 1 - v;
+			Arrays.fill(a, i, i += count[k], (short)(min + k));
+		} 
+	}
+	
+	// short array parallel counting sort: per chunk histograms, merged, then the runs are filled in parallel
+	private static final class ParallelCountingSortShort extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final short[] a;
+		private final int fromIndex, toIndex, parallelism;
+		private final boolean ascending;
+		ParallelCountingSortShort(short[] a, int fromIndex, int toIndex, boolean ascending, int parallelism)
+		{
+			this.a = a;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.ascending = ascending;
+			this.parallelism = parallelism;
+		}
+		@Override
+		protected void compute()
+		{
+			int n = toIndex - fromIndex;
+			int chunks = Math.min(parallelism, n / threshold);
+			int[][] count = new int[chunks][];
+			HistogramShort[] histograms = new HistogramShort[chunks];
+			for(int t = 0; t < chunks; t++)
+			{
+				histograms[t] = new HistogramShort(a, fromIndex + (int)((long)n * t / chunks),
+						fromIndex + (int)((long)n * (t + 1) / chunks), count[t] = new int[65536]);
+			}
+			invokeAll(histograms);
+			
+			int[] total = count[0];
+			for(int t = 1; t < chunks; t++)
+			{
+				for(int v = 0; v < 65536; v++)
+				{
+					total[v] += count[t][v];
+				}
+			}
+			
+			// split the output into value ranges of about n / chunks elements
+			List<FillShort> fills = new ArrayList<>();
+			int start = fromIndex, size = 0, first = 0;
+			for(int r = 0; r < 65536; r++)
+			{
+				size += total[ascending ? r : 65536 - 1 - r];
+				if(size >= n / chunks || r == 65536 - 1)
+				{
+					fills.add(new FillShort(a, start, first, r + 1, total, ascending));
+					start += size;
+					size = 0;
+					first = r + 1;
+				}
+			}
+			invokeAll(fills);
+		}
+	}
+	private static final class HistogramShort extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final short[] a;
+		private final int from, to;
+		private final int[] count;
+		HistogramShort(short[] a, int from, int to, int[] count)
+		{
+			this.a = a;
+			this.from = from;
+			this.to = to;
+			this.count = count;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				count[a[i] - Short.MIN_VALUE]++;
+			}
+		}
+	}
+	private static final class FillShort extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final short[] a;
+		private final int start, first, last;
+		private final int[] count;
+		private final boolean ascending;
+		FillShort(short[] a, int start, int first, int last, int[] count, boolean ascending)
+		{
+			this.a = a;
+			this.start = start;
+			this.first = first;
+			this.last = last;
+			this.count = count;
+			this.ascending = ascending;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int r = first, i = start; r < last; r++)
+			{
+				int v = ascending ? r : 65536 - 1 - r;
+				Arrays.fill(a, i, i += count[v], (short)(v + Short.MIN_VALUE));
+			}
+		}
+	}
+	
+	// int array
+	/**
+	 * Sorts the specified array into ascending/descending order based on the character input. 
+	 * If the count array of the range(min to max) would be larger than the default memory budget, 
+	 * or much larger than the array, the array is sorted with {@link RadixSort} instead.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(int[] a, char c) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		sort(a, 0, a.length, c, memoryBudget);
+	}
+	
 	/**
 	 * Sorts the specified range of array into ascending/descending order based on the character input. 
-	 * If the range(min to max) is greater than array size then {@code OutOfMemoryError} is thrown.
+	 * If the count array of the range(min to max) would be larger than the default memory budget, 
+	 * or much larger than the array, the range is sorted with {@link RadixSort} instead.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
@@ -839,6 +1070,50 @@ public class CountingSort
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 */
 	public static void sort(int[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, memoryBudget);
+	}
+	
+	/**
+	 * Sorts the specified array into ascending/descending order based on the character input. 
+	 * If the count array of the range(min to max) would take more than {@code memoryBudget} bytes, 
+	 * or would be much larger than the array, the array is sorted with {@link RadixSort} instead.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param memoryBudget the maximum size of the count array in bytes
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(memoryBudget < 0)}
+	 */
+	public static void sort(int[] a, char c, long memoryBudget) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		sort(a, 0, a.length, c, memoryBudget);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order based on the character input. 
+	 * If the count array of the range(min to max) would take more than {@code memoryBudget} bytes, 
+	 * or would be much larger than the range, the range is sorted with {@link RadixSort} instead.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param memoryBudget the maximum size of the count array in bytes
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if(memoryBudget < 0)}
+	 */
+	public static void sort(int[] a, int fromIndex, int toIndex, char c, long memoryBudget) 
 	{
 		if(a == null)
 		{
@@ -849,90 +1124,166 @@ public class CountingSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(memoryBudget < 0)
+				{
+					throw new IllegalArgumentException("memoryBudget(" + memoryBudget + ") < 0");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-						if(a[i] < min)
-						{
-							min = a[i];
-						}
-					}
-					int range = (max - min) + 1; 
-					int count[] = new int[range]; 
-					int output[] = new int[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = 1; i < count.length; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
+					countingSort(a, fromIndex, toIndex, true, memoryBudget);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE; 
-					int i;
-					for(i = fromIndex; i < toIndex; i++)
+					countingSort(a, fromIndex, toIndex, false, memoryBudget);
+				}
+				
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+	
+	/**
+	 * Counts the occurrences of every distinct value of the specified array, 
+	 * without sorting or copying the array.
+	 *
+	 * @param a the array to be counted
+	 *
+	 * @return {@code {values, counts}} where {@code values} are the distinct values of <b>a</b> 
+	 *			in ascending order and {@code counts[i]} is the number of occurrences of {@code values[i]}
+	 */
+	public static int[][] countsOf(int[] a) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		return countsOf(a, 0, a.length);
+	}
+	
+	/**
+	 * Counts the occurrences of every distinct value of the specified range of array, 
+	 * without sorting or copying the array.
+	 *
+	 * @param a the array to be counted
+	 * @param fromIndex the index of the first element, inclusive, to be counted
+	 * @param toIndex the index of the last element, exclusive, to be counted
+	 *
+	 * @return {@code {values, counts}} where {@code values} are the distinct values of the range 
+	 *			in ascending order and {@code counts[i]} is the number of occurrences of {@code values[i]}
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 */
+	public static int[][] countsOf(int[] a, int fromIndex, int toIndex) 
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				int n = toIndex - fromIndex;
+				if(n == 0)
+				{
+					return new int[][] {new int[0], new int[0]};
+				}
+				int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE; 
+				for(int i = fromIndex; i < toIndex; i++)
+				{
+					if(a[i] > max)
 					{
-						if(a[i] > max)
+						max = a[i];
+					}
+					if(a[i] < min)
+					{
+						min = a[i];
+					}
+				}
+				long range = (long)max - min + 1;
+				int[] values, counts;
+				if(dense(range, n, memoryBudget))
+				{
+					int count[] = new int[(int)range];
+					int distinct = 0;
+					for(int i = fromIndex; i < toIndex; i++) 
+					{ 
+						if(count[a[i] - min]++ == 0)
 						{
-							max = a[i];
+							distinct++;
 						}
-						if(a[i] < min)
+					}
+					values = new int[distinct];
+					counts = new int[distinct];
+					for(int v = 0, j = 0; j < distinct; v++)
+					{
+						if(count[v] != 0)
 						{
-							min = a[i];
+							values[j] = min + v;
+							counts[j++] = count[v];
 						}
 					}
-					int range = (max - min) + 1; 
-					int count[] = new int[range]; 
-					int output[] = new int[toIndex - fromIndex]; 
-					for (i = fromIndex; i < toIndex; i++) 
-					{ 
-						count[a[i] - min]++; 
-					} 
-					for (i = count.length - 2; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = toIndex - 1; i >= fromIndex; i--) 
-					{ 
-						output[count[a[i] - min] - 1] = a[i]; 
-						count[a[i] - min]--;
-					}			
-					int j = 0;
-					for (i = fromIndex; i < toIndex; i++, j++) 
-					{ 
-						a[i] = output[j]; 
-					} 
 				}
-				
-				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+					// sparse values, count them in an open addressing table of O(n) size
+					int capacity = Integer.highestOneBit(Math.min(n, 1 << 28)) << 2, shift = 32 - Integer.numberOfTrailingZeros(capacity);
+					int keys[] = new int[capacity], count[] = new int[capacity];
+					int distinct = 0;
+					for(int i = fromIndex; i < toIndex; i++)
+					{
+						int h = (a[i] * 0x9E3779B9) >>> shift;
+						while(count[h] != 0 && keys[h] != a[i])
+						{
+							h = (h + 1) & (capacity - 1);
+						}
+						if(count[h]++ == 0)
+						{
+							keys[h] = a[i];
+							distinct++;
+						}
+					}
+					values = new int[distinct];
+					for(int h = 0, j = 0; h < capacity; h++)
+					{
+						if(count[h] != 0)
+						{
+							values[j++] = keys[h];
+						}
+					}
+					RadixSort.sort(values, 'a');
+					counts = new int[distinct];
+					for(int j = 0; j < distinct; j++)
+					{
+						int h = (values[j] * 0x9E3779B9) >>> shift;
+						while(keys[h] != values[j] || count[h] == 0)
+						{
+							h = (h + 1) & (capacity - 1);
+						}
+						counts[j] = count[h];
+					}
 				}
+				return new int[][] {values, counts};
 			}
 			else
 			{
@@ -945,4 +1296,57 @@ public class CountingSort
 			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
 		}
 	}
+	
+	// int array counting sort of a[fromIndex, toIndex), radix sort if the count array does not fit
+	private static void countingSort(int[] a, int fromIndex, int toIndex, boolean ascending, long memoryBudget)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE; 
+		int i;
+		for(i = fromIndex; i < toIndex; i++)
+		{
+			if(a[i] > max)
+			{
+				max = a[i];
+			}
+			if(a[i] < min)
+			{
+				min = a[i];
+			}
+		}
+		
+		// max - min + 1 overflows int for ranges wider than 2^31
+		long range = (long)max - min + 1;
+		if(!dense(range, n, memoryBudget))
+		{
+			RadixSort.sort(a, fromIndex, toIndex, ascending ? 'a' : 'd');
+			return;
+		}
+		int count[] = new int[(int)range]; 
+		for (i = fromIndex; i < toIndex; i++) 
+		{ 
+			count[a[i] - min]++; 
+		} 
+		
+		// equal ints are indistinguishable, so runs are written back directly without an output array
+		i = fromIndex;
+		for (int v = 0; v < count.length; v++) 
+		{ 
+			int value = ascending ? min + v : max - v;
+			for (int k = ascending ? count[v] : count[count.length - 1 - v]; k > 0; k--) 
+			{ 
+				a[i++] = value; 
+			} 
+		} 
+	}
+	
+	// whether a count array for range values is worth it for n elements and fits the budget
+	private static boolean dense(long range, int n, long memoryBudget)
+	{
+		return range * Integer.BYTES <= memoryBudget && (range <= (long)n << 2 || range <= 1 << 16);
+	}
 }
@@ -11,6 +11,12 @@ import dsa.datastructures.heap.Heap;
  * <p>The <b>heap sort</b> itself might not be frequently used for sorting a set of items but
  * its underlying data structure, <b>heap</b>, is frequently used for maintaining a particular ordering 
  * when you want to extract either minimum or maximum.</p>
+ *
+ * <p>Primitive arrays are heap sorted in place without allocating: the heap is built bottom-up 
+ * (Floyd) in O(n), the elements are taken out with a bottom-up sift down, and a 4-ary heap can 
+ * be chosen instead of the binary one. {@code float} and {@code double} arrays are ordered like 
+ * {@link Double#compare(double, double)}. Object arrays are still sorted through 
+ * {@link dsa.datastructures.heap.Heap}, which takes O(n) space.</p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity">
  * 	<tr>
@@ -60,30 +66,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Character> h = new Heap<Character>(a.length, "min");
-				for(Character ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Character> h = new Heap<Character>(a.length, "max");
-				for(Character ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
-				
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -110,6 +99,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(char[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(char[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -120,35 +132,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Character> h = new Heap<Character>(a.length, "min");
-					
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
-					
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Character> h = new Heap<Character>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
-					
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -170,6 +168,56 @@ public class HeapSort
 		}
 	}
 	
+	// char array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(char[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			char v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(char[] a, int lo, int i, char v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? a[lo + j] > a[lo + best] : a[lo + j] < a[lo + best])
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? a[lo + parent] >= v : a[lo + parent] <= v)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// byte array
 	/**
@@ -194,29 +242,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Byte> h = new Heap<Byte>(a.length, "min");
-				for(Byte ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Byte> h = new Heap<Byte>(a.length, "max");
-				for(Byte ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -243,6 +275,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(byte[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(byte[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -253,32 +308,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Byte> h = new Heap<Byte>(a.length, "min");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Byte> h = new Heap<Byte>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -300,6 +344,56 @@ public class HeapSort
 		}
 	}
 	
+	// byte array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(byte[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			byte v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(byte[] a, int lo, int i, byte v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? a[lo + j] > a[lo + best] : a[lo + j] < a[lo + best])
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? a[lo + parent] >= v : a[lo + parent] <= v)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// short array
 	/**
@@ -324,29 +418,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Short> h = new Heap<Short>(a.length, "min");
-				for(Short ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Short> h = new Heap<Short>(a.length, "max");
-				for(Short ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -373,6 +451,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(short[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(short[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -383,32 +484,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Short> h = new Heap<Short>(a.length, "min");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Short> h = new Heap<Short>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -430,6 +520,56 @@ public class HeapSort
 		}
 	}
 	
+	// short array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(short[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			short v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(short[] a, int lo, int i, short v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? a[lo + j] > a[lo + best] : a[lo + j] < a[lo + best])
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? a[lo + parent] >= v : a[lo + parent] <= v)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// int array
 	/**
@@ -454,29 +594,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Integer> h = new Heap<Integer>(a.length, "min");
-				for(Integer ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Integer> h = new Heap<Integer>(a.length, "max");
-				for(Integer ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -503,6 +627,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(int[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(int[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -513,32 +660,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Integer> h = new Heap<Integer>(a.length, "min");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Integer> h = new Heap<Integer>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -560,6 +696,56 @@ public class HeapSort
 		}
 	}
 	
+	// int array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(int[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			int v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(int[] a, int lo, int i, int v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? a[lo + j] > a[lo + best] : a[lo + j] < a[lo + best])
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? a[lo + parent] >= v : a[lo + parent] <= v)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// long array
 	/**
@@ -584,29 +770,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Long> h = new Heap<Long>(a.length, "min");
-				for(Long ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-				a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Long> h = new Heap<Long>(a.length, "max");
-				for(Long ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -633,6 +803,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(long[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(long[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -643,32 +836,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Long> h = new Heap<Long>(a.length, "min");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Long> h = new Heap<Long>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -690,6 +872,56 @@ public class HeapSort
 		}
 	}
 	
+	// long array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(long[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			long v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(long[] a, int lo, int i, long v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? a[lo + j] > a[lo + best] : a[lo + j] < a[lo + best])
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? a[lo + parent] >= v : a[lo + parent] <= v)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// float array
 	/**
@@ -714,29 +946,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Float> h = new Heap<Float>(a.length, "min");
-				for(Float ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Float> h = new Heap<Float>(a.length, "max");
-				for(Float ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -763,6 +979,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(float[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(float[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -773,32 +1012,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Float> h = new Heap<Float>(a.length, "min");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Float> h = new Heap<Float>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -820,6 +1048,56 @@ public class HeapSort
 		}
 	}
 	
+	// float array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(float[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			float v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(float[] a, int lo, int i, float v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? Float.compare(a[lo + j], a[lo + best]) > 0 : Float.compare(a[lo + j], a[lo + best]) < 0)
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? Float.compare(a[lo + parent], v) >= 0 : Float.compare(a[lo + parent], v) <= 0)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// double array
 	/**
@@ -844,29 +1122,13 @@ public class HeapSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				Heap<Double> h = new Heap<Double>(a.length, "min");
-				for(Double ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				Heap<Double> h = new Heap<Double>(a.length, "max");
-				for(Double ref : a)
-				{
-					h.add(ref);
-				}
-				for(int i = 0; i < a.length; i++)
-				{
-					a[i] = h.poll();
-				}
+				heapSort(a, 0, a.length, 1, false);
 			}
 			
 			// Invalid Character
@@ -893,6 +1155,29 @@ public class HeapSort
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
 	public static void sort(double[] a, int fromIndex, int toIndex, char c) 
+	{
+		sort(a, fromIndex, toIndex, c, 2);
+	}
+	
+	/**
+	 * Sorts the specified range of array into ascending/descending order 
+	 * based on the character input, using a heap with {@code arity} children per node. 
+	 * A 4-ary heap is half as deep as a binary heap and its children share a cache line, 
+	 * which usually pays off on large arrays.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param arity the number of children of a heap node, 2 or 4
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(arity != 2 && arity != 4)}
+	 */
+	public static void sort(double[] a, int fromIndex, int toIndex, char c, int arity) 
 	{
 		if(a == null)
 		{
@@ -903,32 +1188,21 @@ public class HeapSort
 		{
 			if(fromIndex <= toIndex)
 			{	
+				if(arity != 2 && arity != 4)
+				{
+					throw new IllegalArgumentException("Invalid arity " + arity + ", excepted 2 or 4.");
+				}
+				
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					Heap<Double> h = new Heap<Double>(a.length, "min");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					Heap<Double> h = new Heap<Double>(a.length, "max");
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						h.add(a[i]);
-					}
-					for(int i = fromIndex; i < toIndex; i++)
-					{
-						a[i] = h.poll();
-					}
+					heapSort(a, fromIndex, toIndex, arity >> 1, false);
 				}
 				
 				// Invalid Character
@@ -950,6 +1224,56 @@ public class HeapSort
 		}
 	}
 	
+	// double array in-place heap sort of a[lo, hi), every node has 2^shift children
+	private static void heapSort(double[] a, int lo, int hi, int shift, boolean ascending)
+	{
+		int n = hi - lo;
+		
+		// Floyd's construction, every internal node is sifted down starting from the last one
+		for(int i = (n - 2) >> shift; i >= 0; i--)
+		{
+			siftDown(a, lo, i, a[lo + i], n, shift, ascending);
+		}
+		
+		// the root moves behind the heap and the last leaf is sifted down from the root
+		for(int m = n - 1; m > 0; m--)
+		{
+			double v = a[lo + m];
+			a[lo + m] = a[lo];
+			siftDown(a, lo, 0, v, m, shift, ascending);
+		}
+	}
+	private static void siftDown(double[] a, int lo, int i, double v, int n, int shift, boolean ascending)
+	{
+		// bottom-up: the hole follows the best child down to a leaf and v is then moved up,
+		// which saves most comparisons with v as it usually belongs near the leaves
+		int top = i, lastParent = (n - 2) >> shift;
+		while(i <= lastParent)
+		{
+			int child = (i << shift) + 1, best = child, last = Math.min(child + (1 << shift), n);
+			for(int j = child + 1; j < last; j++)
+			{
+				if(ascending ? Double.compare(a[lo + j], a[lo + best]) > 0 : Double.compare(a[lo + j], a[lo + best]) < 0)
+				{
+					best = j;
+				}
+			}
+			a[lo + i] = a[lo + best];
+			i = best;
+		}
+		while(i > top)
+		{
+			int parent = (i - 1) >> shift;
+			if(ascending ? Double.compare(a[lo + parent], v) >= 0 : Double.compare(a[lo + parent], v) <= 0)
+			{
+				break;
+			}
+			a[lo + i] = a[lo + parent];
+			i = parent;
+		}
+		a[lo + i] = v;
+	}
+	
 	
 	// Generic array
 	/**
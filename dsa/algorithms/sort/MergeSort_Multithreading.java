@@ -1,6 +1,8 @@
 package dsa.algorithms.sort;
 
-import java.util.concurrent.CyclicBarrier;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 
 /**
@@ -10,9 +12,20 @@ import java.util.concurrent.CyclicBarrier;
  * if the specified array reference is null, except where noted.</p>
  *
  * <p><b>Mergesort</b> is used when we want a guaranteed running time of <b>O(n logn)</b>.
- * It is also good to use when memory <b>space</b> is not limited.
- * It is not guaranteed Multithreading works as expected, it depends on JVM.</p>
- * 
+ * It is also good to use when memory <b>space</b> is not limited.</p>
+ *
+ * <p>The work is split into {@link RecursiveAction} tasks and executed on a {@link ForkJoinPool},
+ * either the {@linkplain ForkJoinPool#commonPool() common pool} or one supplied by the caller.
+ * Every call uses a single scratch buffer of the size of the sorted range and keeps no shared
+ * state, so the methods are safe to call from any number of threads at once.</p>
+ *
+ * <p>The merges are parallel as well: two sorted runs are split at the median of the longer run
+ * and its binary searched position in the shorter run, so the final merge levels over the whole
+ * array also use every worker of the pool.</p>
+ *
+ * <p>{@code float} and {@code double} arrays are ordered like {@link Double#compare(double, double)},
+ * i.e. {@code -0.0} before {@code 0.0} and {@code NaN} after positive infinity.</p>
+ *
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity">
  * 	<tr>
  * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Best)</th>
@@ -21,9 +34,9 @@ import java.util.concurrent.CyclicBarrier;
  * 	 <th style = "border: 1px solid black; padding: 15px;">Space Complexity</th>
  * 	</tr>
  * 	<tr>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n logn / no. of logical processors)</td>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n logn / no. of logical processors)</td>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n logn / no. of logical processors)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n / parallelism)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n logn / parallelism)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n logn / parallelism)</td>
  * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n)</td>
  * 	</tr>
  * </table>
@@ -31,1967 +44,1163 @@ import java.util.concurrent.CyclicBarrier;
  * @author  Sathvik
  * @version 1.0
  */
-public class MergeSort_Multithreading 
+public class MergeSort_Multithreading
 {
 	// Suppresses default constructor, ensuring non-instantiability.
 	private MergeSort_Multithreading() {}
-	
-	//no. of logical processors
-	private final static int processorsCount = Runtime.getRuntime().availableProcessors();
-	
+
 	//use Multithreading only if size of array is greater than threshold
-	private final static int threshold = 1000 + processorsCount;
+	private final static int threshold = 1 << 13;
+
+	//ranges of this size or smaller are sorted with insertion sort
+	private final static int insertionThreshold = 32;
+
+	//merges of this size or smaller are not split any further
+	private final static int mergeThreshold = 1 << 13;
+
+	//size of the range sorted by a single task
+	private static int grain(int n, ForkJoinPool pool)
+	{
+		return Math.max(threshold, n / (pool.getParallelism() << 2));
+	}
+
+	private static boolean ascending(char c)
+	{
+		if(c == 'a' || c == 'A')
+		{
+			return true;
+		}
+		else if(c == 'd' || c == 'D')
+		{
+			return false;
+		}
+		throw new IllegalArgumentException("Invalid choice \'" + c +
+		"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+	}
+
+	private static void rangeCheck(int length, int fromIndex, int toIndex)
+	{
+		if(fromIndex < 0 || toIndex > length)
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+		if(fromIndex > toIndex)
+		{
+			throw new IllegalArgumentException("fromIndex(" + fromIndex +
+												") > toIndex(" + toIndex + ")");
+		}
+	}
 	
-	private static CyclicBarrier gate = null;
 	
 	// char array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(char[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(char[] a, char c) 
+	public static void sort(char[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					char[][] temp = new char[processorsCount][];
-					char[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new char[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingChar(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new char[1][];
-								temp1[0] = new char[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new char[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new char[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingChar(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					char[][] temp = new char[processorsCount][];
-					char[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new char[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingChar(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new char[1][];
-								temp1[0] = new char[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new char[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new char[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingChar(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(char[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(char[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(char[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		int n = toIndex - fromIndex;
+		if(n > 1)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					char[] temp = new char[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
-				{
-					char[] temp = new char[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Invalid Character
-				else
-				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-				}
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			char[] b = Arrays.copyOfRange(a, fromIndex, toIndex);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, fromIndex, 0, n, ascending);
 			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortChar(b, 0, a, fromIndex, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
 	}
-	
-	// char array Ascending order
-	private static class MergeSortAscendingChar implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortChar extends RecursiveAction
 	{
-		char[] a;
-		MergeSortAscendingChar(char[] a)
+		private static final long serialVersionUID = 1L;
+		private final char[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortChar(char[] x, int xo, char[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			this.a = a;
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-		public void run()
-		{
-			try
-			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
-		}
-	}
-	private static void mergeSortAscending(char[] a)
-	{
-		if(a.length > 1)
+		@Override
+		protected void compute()
 		{
-			int mid = (a.length - 1) / 2;
-			char[] left = new char[(a.length + 1)/2];
-			char[] right = new char[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			if(hi - lo <= grain)
 			{
-				left[i] = a[i];
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortChar(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortChar(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeChar(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingChar implements Runnable
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeChar extends RecursiveAction
 	{
-		char[] a, left, right;
-		MergeAscendingChar(char[] a, char[] left, char[] right)
+		private static final long serialVersionUID = 1L;
+		private final char[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeChar(char[] x, int l1, int r1, int l2, int r2, char[] y, int k, boolean ascending)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
-		}
-	}
-	private static void mergeAscending(char[] a, char[] l, char[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
-		{
-			if(l[i] <= r[j])
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				a[k++] = l[i++];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeChar(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeChar(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
 			else
 			{
-				a[k++] = r[j++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeChar(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeChar(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
 	}
-	
-	// char array Descending order
-	private static class MergeSortDescendingChar implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(char[] x, int lo, int hi, char key, boolean ascending)
 	{
-		char[] a;
-		MergeSortDescendingChar(char[] a)
+		while(lo < hi)
 		{
-			this.a = a;
-		}
-		public void run()
-		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeSortDescending(char[] a)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(char[] x, int lo, int hi, char key, boolean ascending)
 	{
-		if(a.length > 1)
+		while(lo < hi)
 		{
-			int mid = (a.length - 1) / 2;
-			char[] left = new char[(a.length + 1)/2];
-			char[] right = new char[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				left[i] = a[i];
+				lo = mid + 1;
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				hi = mid;
 			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
 		}
+		return lo;
 	}
-	private static class MergeDescendingChar implements Runnable
+	private static void mergeSort(char[] x, int xo, char[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		char[] a, left, right;
-		MergeDescendingChar(char[] a, char[] left, char[] right)
+		if(hi - lo <= insertionThreshold)
+		{
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+		{
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+		}
+		else
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
 		}
-		public void run()
+	}
+	private static void insertionSort(char[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			try
+			char key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(char[] a, char[] l, char[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(char[] x, int l1, int r1, int l2, int r2, char[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// byte array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(byte[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(byte[] a, char c) 
+	public static void sort(byte[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					byte[][] temp = new byte[processorsCount][];
-					byte[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new byte[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingByte(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new byte[1][];
-								temp1[0] = new byte[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new byte[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new byte[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingByte(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					byte[][] temp = new byte[processorsCount][];
-					byte[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new byte[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingByte(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new byte[1][];
-								temp1[0] = new byte[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new byte[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new byte[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingByte(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(byte[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(byte[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(byte[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		int n = toIndex - fromIndex;
+		if(n > 1)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					byte[] temp = new byte[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
-				{
-					byte[] temp = new byte[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Invalid Character
-				else
-				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-				}
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			byte[] b = Arrays.copyOfRange(a, fromIndex, toIndex);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, fromIndex, 0, n, ascending);
 			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortByte(b, 0, a, fromIndex, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
 	}
-	
-	// byte array Ascending order
-	private static class MergeSortAscendingByte implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortByte extends RecursiveAction
 	{
-		byte[] a;
-		MergeSortAscendingByte(byte[] a)
-		{
-			this.a = a;
-		}
-		public void run()
+		private static final long serialVersionUID = 1L;
+		private final byte[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortByte(byte[] x, int xo, byte[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			try
-			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-	}
-	private static void mergeSortAscending(byte[] a)
-	{
-		if(a.length > 1)
+		@Override
+		protected void compute()
 		{
-			int mid = (a.length - 1) / 2;
-			byte[] left = new byte[(a.length + 1)/2];
-			byte[] right = new byte[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			if(hi - lo <= grain)
 			{
-				left[i] = a[i];
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortByte(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortByte(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeByte(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingByte implements Runnable
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeByte extends RecursiveAction
 	{
-		byte[] a, left, right;
-		MergeAscendingByte(byte[] a, byte[] left, byte[] right)
+		private static final long serialVersionUID = 1L;
+		private final byte[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeByte(byte[] x, int l1, int r1, int l2, int r2, byte[] y, int k, boolean ascending)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
-		}
-	}
-	private static void mergeAscending(byte[] a, byte[] l, byte[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
-		{
-			if(l[i] <= r[j])
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				a[k++] = l[i++];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeByte(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeByte(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
 			else
 			{
-				a[k++] = r[j++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeByte(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeByte(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
 	}
-	
-	// byte array Descending order
-	private static class MergeSortDescendingByte implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(byte[] x, int lo, int hi, byte key, boolean ascending)
 	{
-		byte[] a;
-		MergeSortDescendingByte(byte[] a)
-		{
-			this.a = a;
-		}
-		public void run()
+		while(lo < hi)
 		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeSortDescending(byte[] a)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(byte[] x, int lo, int hi, byte key, boolean ascending)
 	{
-		if(a.length > 1)
+		while(lo < hi)
 		{
-			int mid = (a.length - 1) / 2;
-			byte[] left = new byte[(a.length + 1)/2];
-			byte[] right = new byte[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				left[i] = a[i];
+				lo = mid + 1;
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				hi = mid;
 			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
 		}
+		return lo;
 	}
-	private static class MergeDescendingByte implements Runnable
+	private static void mergeSort(byte[] x, int xo, byte[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		byte[] a, left, right;
-		MergeDescendingByte(byte[] a, byte[] left, byte[] right)
+		if(hi - lo <= insertionThreshold)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
 		}
-		public void run()
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
 		{
-			try
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+		}
+		else
+		{
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
+		}
+	}
+	private static void insertionSort(byte[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			byte key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(byte[] a, byte[] l, byte[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(byte[] x, int l1, int r1, int l2, int r2, byte[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// short array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(short[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(short[] a, char c) 
+	public static void sort(short[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					short[][] temp = new short[processorsCount][];
-					short[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new short[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingShort(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new short[1][];
-								temp1[0] = new short[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new short[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new short[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingShort(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					short[][] temp = new short[processorsCount][];
-					short[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new short[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingShort(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new short[1][];
-								temp1[0] = new short[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new short[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new short[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingShort(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(short[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(short[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(short[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		int n = toIndex - fromIndex;
+		if(n > 1)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					short[] temp = new short[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
-				{
-					short[] temp = new short[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Invalid Character
-				else
-				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-				}
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			short[] b = Arrays.copyOfRange(a, fromIndex, toIndex);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, fromIndex, 0, n, ascending);
 			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortShort(b, 0, a, fromIndex, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
 	}
-	
-	// short array Ascending order
-	private static class MergeSortAscendingShort implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortShort extends RecursiveAction
 	{
-		short[] a;
-		MergeSortAscendingShort(short[] a)
+		private static final long serialVersionUID = 1L;
+		private final short[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortShort(short[] x, int xo, short[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			this.a = a;
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			if(hi - lo <= grain)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
-		}
-	}
-	private static void mergeSortAscending(short[] a)
-	{
-		if(a.length > 1)
-		{
-			int mid = (a.length - 1) / 2;
-			short[] left = new short[(a.length + 1)/2];
-			short[] right = new short[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
-			{
-				left[i] = a[i];
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortShort(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortShort(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeShort(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingShort implements Runnable
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeShort extends RecursiveAction
 	{
-		short[] a, left, right;
-		MergeAscendingShort(short[] a, short[] left, short[] right)
+		private static final long serialVersionUID = 1L;
+		private final short[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeShort(short[] x, int l1, int r1, int l2, int r2, short[] y, int k, boolean ascending)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
-		}
-	}
-	private static void mergeAscending(short[] a, short[] l, short[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
-		{
-			if(l[i] <= r[j])
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				a[k++] = l[i++];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeShort(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeShort(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
 			else
 			{
-				a[k++] = r[j++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeShort(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeShort(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
 	}
-	
-	// short array Descending order
-	private static class MergeSortDescendingShort implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(short[] x, int lo, int hi, short key, boolean ascending)
 	{
-		short[] a;
-		MergeSortDescendingShort(short[] a)
+		while(lo < hi)
 		{
-			this.a = a;
-		}
-		public void run()
-		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeSortDescending(short[] a)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(short[] x, int lo, int hi, short key, boolean ascending)
 	{
-		if(a.length > 1)
+		while(lo < hi)
 		{
-			int mid = (a.length - 1) / 2;
-			short[] left = new short[(a.length + 1)/2];
-			short[] right = new short[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				left[i] = a[i];
+				lo = mid + 1;
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				hi = mid;
 			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
 		}
+		return lo;
 	}
-	private static class MergeDescendingShort implements Runnable
+	private static void mergeSort(short[] x, int xo, short[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		short[] a, left, right;
-		MergeDescendingShort(short[] a, short[] left, short[] right)
+		if(hi - lo <= insertionThreshold)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
 		}
-		public void run()
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
 		{
-			try
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+		}
+		else
+		{
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
+		}
+	}
+	private static void insertionSort(short[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			short key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(short[] a, short[] l, short[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(short[] x, int l1, int r1, int l2, int r2, short[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// int array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(int[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(int[] a, char c) 
+	public static void sort(int[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					int[][] temp = new int[processorsCount][];
-					int[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new int[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingInt(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new int[1][];
-								temp1[0] = new int[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new int[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new int[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingInt(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					int[][] temp = new int[processorsCount][];
-					int[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new int[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingInt(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new int[1][];
-								temp1[0] = new int[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new int[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new int[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingInt(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(int[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(int[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(int[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		int n = toIndex - fromIndex;
+		if(n > 1)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					int[] temp = new int[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
-				{
-					int[] temp = new int[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Invalid Character
-				else
-				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-				}
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			int[] b = Arrays.copyOfRange(a, fromIndex, toIndex);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, fromIndex, 0, n, ascending);
 			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortInt(b, 0, a, fromIndex, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
 	}
-	
-	// int array Ascending order
-	private static class MergeSortAscendingInt implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortInt extends RecursiveAction
 	{
-		int[] a;
-		MergeSortAscendingInt(int[] a)
+		private static final long serialVersionUID = 1L;
+		private final int[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortInt(int[] x, int xo, int[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			this.a = a;
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-		public void run()
-		{
-			try
-			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
-		}
-	}
-	private static void mergeSortAscending(int[] a)
-	{
-		if(a.length > 1)
+		@Override
+		protected void compute()
 		{
-			int mid = (a.length - 1) / 2;
-			int[] left = new int[(a.length + 1)/2];
-			int[] right = new int[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			if(hi - lo <= grain)
 			{
-				left[i] = a[i];
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortInt(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortInt(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeInt(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingInt implements Runnable
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeInt extends RecursiveAction
 	{
-		int[] a, left, right;
-		MergeAscendingInt(int[] a, int[] left, int[] right)
+		private static final long serialVersionUID = 1L;
+		private final int[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeInt(int[] x, int l1, int r1, int l2, int r2, int[] y, int k, boolean ascending)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
-		}
-	}
-	private static void mergeAscending(int[] a, int[] l, int[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
-		{
-			if(l[i] <= r[j])
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				a[k++] = l[i++];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeInt(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeInt(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
 			else
 			{
-				a[k++] = r[j++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeInt(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeInt(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
 	}
-	
-	// int array Descending order
-	private static class MergeSortDescendingInt implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(int[] x, int lo, int hi, int key, boolean ascending)
 	{
-		int[] a;
-		MergeSortDescendingInt(int[] a)
+		while(lo < hi)
 		{
-			this.a = a;
-		}
-		public void run()
-		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeSortDescending(int[] a)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(int[] x, int lo, int hi, int key, boolean ascending)
 	{
-		if(a.length > 1)
+		while(lo < hi)
 		{
-			int mid = (a.length - 1) / 2;
-			int[] left = new int[(a.length + 1)/2];
-			int[] right = new int[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				left[i] = a[i];
+				lo = mid + 1;
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				hi = mid;
 			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
 		}
+		return lo;
 	}
-	private static class MergeDescendingInt implements Runnable
+	private static void mergeSort(int[] x, int xo, int[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		int[] a, left, right;
-		MergeDescendingInt(int[] a, int[] left, int[] right)
+		if(hi - lo <= insertionThreshold)
+		{
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
 		}
-		public void run()
+		else
+		{
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
+		}
+	}
+	private static void insertionSort(int[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			try
+			int key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(int[] a, int[] l, int[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(int[] x, int l1, int r1, int l2, int r2, int[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// long array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
@@ -1999,485 +1208,275 @@ public class MergeSort_Multithreading
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(long[] a, char c) 
+	public static void sort(long[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(long[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					long[][] temp = new long[processorsCount][];
-					long[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new long[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingLong(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new long[1][];
-								temp1[0] = new long[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new long[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new long[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingLong(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					long[][] temp = new long[processorsCount][];
-					long[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new long[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingLong(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new long[1][];
-								temp1[0] = new long[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new long[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new long[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingLong(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(long[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(long[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(long[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		int n = toIndex - fromIndex;
+		if(n > 1)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					long[] temp = new long[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
-				{
-					long[] temp = new long[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Invalid Character
-				else
-				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-				}
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			long[] b = Arrays.copyOfRange(a, fromIndex, toIndex);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, fromIndex, 0, n, ascending);
 			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortLong(b, 0, a, fromIndex, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
 	}
-	
-	// long array Ascending order
-	private static class MergeSortAscendingLong implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortLong extends RecursiveAction
 	{
-		long[] a;
-		MergeSortAscendingLong(long[] a)
-		{
-			this.a = a;
-		}
-		public void run()
+		private static final long serialVersionUID = 1L;
+		private final long[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortLong(long[] x, int xo, long[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			try
-			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-	}
-	private static void mergeSortAscending(long[] a)
-	{
-		if(a.length > 1)
+		@Override
+		protected void compute()
 		{
-			int mid = (a.length - 1) / 2;
-			long[] left = new long[(a.length + 1)/2];
-			long[] right = new long[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			if(hi - lo <= grain)
 			{
-				left[i] = a[i];
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortLong(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortLong(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeLong(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingLong implements Runnable
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeLong extends RecursiveAction
 	{
-		long[] a, left, right;
-		MergeAscendingLong(long[] a, long[] left, long[] right)
+		private static final long serialVersionUID = 1L;
+		private final long[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeLong(long[] x, int l1, int r1, int l2, int r2, long[] y, int k, boolean ascending)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
-		}
-	}
-	private static void mergeAscending(long[] a, long[] l, long[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
-		{
-			if(l[i] <= r[j])
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				a[k++] = l[i++];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeLong(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeLong(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
 			else
 			{
-				a[k++] = r[j++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeLong(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeLong(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
 	}
-	
-	// long array Descending order
-	private static class MergeSortDescendingLong implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(long[] x, int lo, int hi, long key, boolean ascending)
 	{
-		long[] a;
-		MergeSortDescendingLong(long[] a)
+		while(lo < hi)
 		{
-			this.a = a;
-		}
-		public void run()
-		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeSortDescending(long[] a)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(long[] x, int lo, int hi, long key, boolean ascending)
 	{
-		if(a.length > 1)
+		while(lo < hi)
 		{
-			int mid = (a.length - 1) / 2;
-			long[] left = new long[(a.length + 1)/2];
-			long[] right = new long[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				left[i] = a[i];
+				lo = mid + 1;
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				hi = mid;
 			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
 		}
+		return lo;
 	}
-	private static class MergeDescendingLong implements Runnable
+	private static void mergeSort(long[] x, int xo, long[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		long[] a, left, right;
-		MergeDescendingLong(long[] a, long[] left, long[] right)
+		if(hi - lo <= insertionThreshold)
+		{
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
 		}
-		public void run()
+		else
+		{
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
+		}
+	}
+	private static void insertionSort(long[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			try
+			long key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(long[] a, long[] l, long[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(long[] x, int l1, int r1, int l2, int r2, long[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// float array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
@@ -2485,1455 +1484,964 @@ public class MergeSort_Multithreading
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(float[] a, char c) 
+	public static void sort(float[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(float[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					float[][] temp = new float[processorsCount][];
-					float[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new float[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingFloat(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new float[1][];
-								temp1[0] = new float[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new float[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new float[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingFloat(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					float[][] temp = new float[processorsCount][];
-					float[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new float[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingFloat(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new float[1][];
-								temp1[0] = new float[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new float[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new float[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingFloat(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(float[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(float[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(float[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		if(toIndex - fromIndex < 2)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					float[] temp = new float[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
+			return;
+		}
+
+		// NaNs are placed last (first in descending order) and -0.0 is sorted as 0.0 and restored
+		// next to 0.0 afterwards, which gives the same order as Double.compare
+		int start = fromIndex, end = toIndex, negativeZeros = 0;
+		float ak;
+		for(int k = fromIndex; k < end; k++)
+		{
+			ak = a[k];
+			if(ak != ak)
+			{
+				if(ascending)
 				{
-					float[] temp = new float[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
+					a[k--] = a[--end];
+					a[end] = ak;
 				}
-				
-				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+					a[k] = a[start];
+					a[start++] = ak;
 				}
 			}
+			else if(ak == 0.0f && Float.floatToRawIntBits(ak) < 0)
+			{
+				a[k] = 0.0f;
+				negativeZeros++;
+			}
+		}
+
+		int n = end - start;
+		if(n > 1)
+		{
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			float[] b = Arrays.copyOfRange(a, start, end);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, start, 0, n, ascending);
+			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortFloat(b, 0, a, start, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
+		if(negativeZeros > 0)
 		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+			// first 0.0 in ascending order, the element after the last 0.0 in descending order
+			int left = start, right = end;
+			while(left < right)
+			{
+				int mid = (left + right) >>> 1;
+				if(ascending ? a[mid] < 0.0f : a[mid] >= 0.0f)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			if(!ascending)
+			{
+				left -= negativeZeros;
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0f;
+			}
 		}
 	}
-	
-	// float array Ascending order
-	private static class MergeSortAscendingFloat implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortFloat extends RecursiveAction
 	{
-		float[] a;
-		MergeSortAscendingFloat(float[] a)
+		private static final long serialVersionUID = 1L;
+		private final float[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortFloat(float[] x, int xo, float[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			this.a = a;
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			if(hi - lo <= grain)
+			{
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortFloat(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortFloat(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeFloat(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
+			}
 		}
 	}
-	private static void mergeSortAscending(float[] a)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeFloat extends RecursiveAction
 	{
-		if(a.length > 1)
+		private static final long serialVersionUID = 1L;
+		private final float[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeFloat(float[] x, int l1, int r1, int l2, int r2, float[] y, int k, boolean ascending)
+		{
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
+		}
+		@Override
+		protected void compute()
 		{
-			int mid = (a.length - 1) / 2;
-			float[] left = new float[(a.length + 1)/2];
-			float[] right = new float[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				left[i] = a[i];
+				merge(x, l1, r1, l2, r2, y, k, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else if(n1 >= n2)
+			{
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeFloat(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeFloat(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
+			}
+			else
 			{
-				right[j++] = a[i++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeFloat(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeFloat(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingFloat implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(float[] x, int lo, int hi, float key, boolean ascending)
 	{
-		float[] a, left, right;
-		MergeAscendingFloat(float[] a, float[] left, float[] right)
+		while(lo < hi)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
-		}
-		public void run()
-		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeAscending(float[] a, float[] l, float[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(float[] x, int lo, int hi, float key, boolean ascending)
+	{
+		while(lo < hi)
 		{
-			if(l[i] <= r[j])
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				a[k++] = l[i++];
+				lo = mid + 1;
 			}
 			else
 			{
-				a[k++] = r[j++];
+				hi = mid;
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		return lo;
 	}
-	
-	// float array Descending order
-	private static class MergeSortDescendingFloat implements Runnable
+	private static void mergeSort(float[] x, int xo, float[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		float[] a;
-		MergeSortDescendingFloat(float[] a)
+		if(hi - lo <= insertionThreshold)
 		{
-			this.a = a;
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
 		}
-		public void run()
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
 		{
-			try
-			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
 		}
-	}
-	private static void mergeSortDescending(float[] a)
-	{
-		if(a.length > 1)
+		else
 		{
-			int mid = (a.length - 1) / 2;
-			float[] left = new float[(a.length + 1)/2];
-			float[] right = new float[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
-			{
-				left[i] = a[i];
-			}
-			for(int j = 0; i < a.length; )
-			{
-				right[j++] = a[i++];
-			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
 		}
 	}
-	private static class MergeDescendingFloat implements Runnable
+	private static void insertionSort(float[] a, int lo, int hi, boolean ascending)
 	{
-		float[] a, left, right;
-		MergeDescendingFloat(float[] a, float[] left, float[] right)
-		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
-		}
-		public void run()
+		for(int i = lo + 1; i < hi; i++)
 		{
-			try
+			float key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(float[] a, float[] l, float[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(float[] x, int l1, int r1, int l2, int r2, float[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// double array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(double[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(double[] a, char c) 
+	public static void sort(double[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					double[][] temp = new double[processorsCount][];
-					double[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new double[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingDouble(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new double[1][];
-								temp1[0] = new double[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new double[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new double[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingDouble(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					double[][] temp = new double[processorsCount][];
-					double[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new double[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingDouble(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new double[1][];
-								temp1[0] = new double[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new double[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new double[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingDouble(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							if(pcTemp%2 == 0)
-							{
-								for(i = 0; i < procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[0] = temp[(procCount*2)];
-								for(i = 1; i <= procCount ; i++)
-								{
-									temp[i] = temp1[i];
-								}
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(double[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(double[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(double[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		if(toIndex - fromIndex < 2)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					double[] temp = new double[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
+			return;
+		}
+
+		// NaNs are placed last (first in descending order) and -0.0 is sorted as 0.0 and restored
+		// next to 0.0 afterwards, which gives the same order as Double.compare
+		int start = fromIndex, end = toIndex, negativeZeros = 0;
+		double ak;
+		for(int k = fromIndex; k < end; k++)
+		{
+			ak = a[k];
+			if(ak != ak)
+			{
+				if(ascending)
 				{
-					double[] temp = new double[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort(temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = temp[j++];
-					}
+					a[k--] = a[--end];
+					a[end] = ak;
 				}
-				
-				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+					a[k] = a[start];
+					a[start++] = ak;
 				}
 			}
-			else
+			else if(ak == 0.0d && Double.doubleToRawLongBits(ak) < 0)
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				a[k] = 0.0d;
+				negativeZeros++;
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
-	}
-	
-	// double array Ascending order
-	private static class MergeSortAscendingDouble implements Runnable
-	{
-		double[] a;
-		MergeSortAscendingDouble(double[] a)
+
+		int n = end - start;
+		if(n > 1)
 		{
-			this.a = a;
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			double[] b = Arrays.copyOfRange(a, start, end);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, start, 0, n, ascending);
+			}
+			else
+			{
+				pool.invoke(new MergeSortDouble(b, 0, a, start, 0, n, grain(n, pool), ascending));
+			}
 		}
-		public void run()
+		if(negativeZeros > 0)
 		{
-			try
+			// first 0.0 in ascending order, the element after the last 0.0 in descending order
+			int left = start, right = end;
+			while(left < right)
+			{
+				int mid = (left + right) >>> 1;
+				if(ascending ? a[mid] < 0.0d : a[mid] >= 0.0d)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			if(!ascending)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
+				left -= negativeZeros;
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0d;
+			}
 		}
 	}
-	private static void mergeSortAscending(double[] a)
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortDouble extends RecursiveAction
 	{
-		if(a.length > 1)
+		private static final long serialVersionUID = 1L;
+		private final double[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortDouble(double[] x, int xo, double[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			int mid = (a.length - 1) / 2;
-			double[] left = new double[(a.length + 1)/2];
-			double[] right = new double[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
+		}
+		@Override
+		protected void compute()
+		{
+			if(hi - lo <= grain)
 			{
-				left[i] = a[i];
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortDouble(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortDouble(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeDouble(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingDouble implements Runnable
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeDouble extends RecursiveAction
 	{
-		double[] a, left, right;
-		MergeAscendingDouble(double[] a, double[] left, double[] right)
+		private static final long serialVersionUID = 1L;
+		private final double[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeDouble(double[] x, int l1, int r1, int l2, int r2, double[] y, int k, boolean ascending)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
 		}
-		public void run()
+		@Override
+		protected void compute()
 		{
-			try
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
-		}
-	}
-	private static void mergeAscending(double[] a, double[] l, double[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
-		{
-			if(l[i] <= r[j])
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				a[k++] = l[i++];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeDouble(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeDouble(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
 			else
 			{
-				a[k++] = r[j++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeDouble(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeDouble(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
 	}
-	
-	// double array Descending order
-	private static class MergeSortDescendingDouble implements Runnable
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(double[] x, int lo, int hi, double key, boolean ascending)
 	{
-		double[] a;
-		MergeSortDescendingDouble(double[] a)
-		{
-			this.a = a;
-		}
-		public void run()
+		while(lo < hi)
 		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] <= key : x[mid] >= key)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
-	private static void mergeSortDescending(double[] a)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(double[] x, int lo, int hi, double key, boolean ascending)
 	{
-		if(a.length > 1)
+		while(lo < hi)
 		{
-			int mid = (a.length - 1) / 2;
-			double[] left = new double[(a.length + 1)/2];
-			double[] right = new double[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? x[mid] < key : x[mid] > key)
 			{
-				left[i] = a[i];
+				lo = mid + 1;
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				hi = mid;
 			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
 		}
+		return lo;
 	}
-	private static class MergeDescendingDouble implements Runnable
+	private static void mergeSort(double[] x, int xo, double[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		double[] a, left, right;
-		MergeDescendingDouble(double[] a, double[] left, double[] right)
+		if(hi - lo <= insertionThreshold)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
 		}
-		public void run()
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? x[xo + mid - 1] <= x[xo + mid] : x[xo + mid - 1] >= x[xo + mid])
 		{
-			try
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+		}
+		else
+		{
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
+		}
+	}
+	private static void insertionSort(double[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			double key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
-	private static void mergeDescending(double[] a, double[] l, double[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(double[] x, int l1, int r1, int l2, int r2, double[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(l[i] > r[j])
+			if(ascending ? x[l1] <= x[l2] : x[l1] >= x[l2])
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
 	
 	
 	// Generic array
 	/**
 	 * Sorts the specified array into ascending/descending order, according to the natural ordering of its elements.
-	 * All elements in the array must implement the Comparable interface. 
-	 * Furthermore, all elements in the array must be mutually comparable (that is, e1.compareTo(e2) 
+	 * All elements in the array must implement the Comparable interface.
+	 * Furthermore, all elements in the array must be mutually comparable (that is, e1.compareTo(e2)
+	 * must not throw a ClassCastException for any elements e1 and e2 in the array).
+	 * This sort is stable: equal elements will not be reordered as a result of the sort.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> the type of elements that implements Comparable interface
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws ClassCastException if the array contains elements that are not mutually comparable
+	 *		   (for example, strings and integers)
+	 */
+	public static <T extends Comparable<T>> void sort(T[] a, char c)
+	{
+		sort(a, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order, according to the natural ordering of its elements.
+	 * All elements in the array must implement the Comparable interface.
+	 * Furthermore, all elements in the array must be mutually comparable (that is, e1.compareTo(e2)
 	 * must not throw a ClassCastException for any elements e1 and e2 in the array).
+	 * This sort is stable: equal elements will not be reordered as a result of the sort.
+	 * The sort runs on the specified {@code pool}.
 	 *
 	 * @param <T> the type of elements that implements Comparable interface
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 * @throws ClassCastException if the array contains elements that are not mutually comparable 
+	 * @throws ClassCastException if the array contains elements that are not mutually comparable
 	 *		   (for example, strings and integers)
 	 */
-	public static <T extends Comparable<T>> void sort(T[] a, char c) 
+	public static <T extends Comparable<T>> void sort(T[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortAscending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					Object[][] temp = new Object[processorsCount][];
-					Object[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new Object[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortAscendingGeneric(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for( i = 0; i < processorsCount; i++)
-						{
-							t[i].join();
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeAscending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new Object[1][];
-								temp1[0] = new Object[temp[0].length + temp[1].length];
-								mergeAscending(temp1[0], temp[0], temp[1]);
-								mergeAscending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new Object[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new Object[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeAscendingGeneric(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							for(i = 0; i < procCount ; i++)
-							{
-								temp[i] = temp1[i];
-							}
-							if(pcTemp%2 == 0)
-							{
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[i++] = temp[(procCount*2)];
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				if(processorsCount == 1 || a.length <= threshold)
-				{
-					mergeSortDescending(a);
-				}
-				else
-				{
-					int i = 0;
-					int procCount = processorsCount;
-					gate = new CyclicBarrier(processorsCount + 1);
-					Thread[] t = new Thread[processorsCount];
-					Object[][] temp = new Object[processorsCount][];
-					Object[][] temp1 = null;
-					for(int start, end = 0; i < processorsCount; i++)
-					{
-						start = end;
-						if(procCount == 1)
-						{
-							end = a.length;
-						}
-						else
-						{
-						    end += (int)Math.round((a.length-start)/(float)procCount--);
-						}
-						temp[i] = new Object[end-start];
-						for(int j = 0,k = start; k < end; k++, j++)
-						{
-							temp[i][j] = a[k];
-						}
-						t[i] = new Thread(new MergeSortDescendingGeneric(temp[i]));
-						t[i].start();
-					}
-					try
-					{
-						gate.await();
-						for(i = 0; i < processorsCount; i++)
-						{
-							t[i].join(); 
-						}
-					} catch(Exception e){}
-					
-					procCount = processorsCount;
-					while(true)
-					{
-						if(procCount < 4)
-						{
-							if(procCount == 2)
-							{
-								mergeDescending(a, temp[0], temp[1]);
-							}
-							else
-							{
-								temp1 = new Object[1][];
-								temp1[0] = new Object[temp[0].length + temp[1].length];
-								mergeDescending(temp1[0], temp[0], temp[1]);
-								mergeDescending(a, temp1[0], temp[2]);
-							}
-							break;
-						}
-						else
-						{
-							int j = 0, pcTemp = procCount;
-							procCount /= 2;
-							temp1 = new Object[procCount][];
-							gate = new CyclicBarrier(procCount + 1);
-							t = new Thread[procCount];
-							for(i = 0; i < pcTemp-1; i+=2, j++)
-							{
-								temp1[j] = new Object[temp[i].length + temp[i+1].length];
-								t[j] = new Thread(new MergeDescendingGeneric(temp1[j], temp[i], temp[i+1]));
-								t[j].start();
-							}
-							try
-							{
-								gate.await();
-								for(i = 0; i < procCount; i++)
-								{
-									t[i].join();
-								}
-							} catch(Exception e){}
-							for(i = 0; i < procCount ; i++)
-							{
-								temp[i] = temp1[i];
-							}
-							if(pcTemp%2 == 0)
-							{
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-							}
-							else
-							{
-								temp[i++] = temp[(procCount*2)];
-								for( ; i < processorsCount; i++)
-								{
-									temp[i] = null;
-								}
-								procCount++;
-							}
-						}
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified array into ascending/descending order, according to the natural ordering of its elements.
-	 * The range to be sorted extends from index fromIndex, inclusive, to index toIndex, exclusive. 
-	 * (If fromIndex==toIndex, the range to be sorted is empty.) All elements in this range must 
-	 * implement the Comparable interface. Furthermore, all elements in this range must be mutually 
+	 * Sorts the specified range of array into ascending/descending order, according to the natural ordering of its elements.
+	 * The range to be sorted extends from index fromIndex, inclusive, to index toIndex, exclusive.
+	 * (If fromIndex==toIndex, the range to be sorted is empty.) All elements in this range must
+	 * implement the Comparable interface. Furthermore, all elements in this range must be mutually
 	 * comparable (that is, e1.compareTo(e2) must not throw a ClassCastException for any elements e1 and e2 in the array).
+	 * This sort is stable: equal elements will not be reordered as a result of the sort.
+	 * The sort runs on the {@linkplain ForkJoinPool#commonPool() common pool}.
 	 *
 	 * @param <T> the type of elements that implements Comparable interface
 	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws ClassCastException if the array contains elements that are not mutually comparable
+	 *		   (for example, strings and integers)
+	 */
+	public static <T extends Comparable<T>> void sort(T[] a, int fromIndex, int toIndex, char c)
+	{
+		sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order, according to the natural ordering of its elements.
+	 * The range to be sorted extends from index fromIndex, inclusive, to index toIndex, exclusive.
+	 * (If fromIndex==toIndex, the range to be sorted is empty.) All elements in this range must
+	 * implement the Comparable interface. Furthermore, all elements in this range must be mutually
+	 * comparable (that is, e1.compareTo(e2) must not throw a ClassCastException for any elements e1 and e2 in the array).
+	 * This sort is stable: equal elements will not be reordered as a result of the sort.
+	 * The sort runs on the specified {@code pool}.
+	 *
+	 * @param <T> the type of elements that implements Comparable interface
+	 * @param a the array to be sorted
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 * @throws ClassCastException if the array contains elements that are not mutually comparable 
+	 * @throws ClassCastException if the array contains elements that are not mutually comparable
 	 *		   (for example, strings and integers)
 	 */
-	@SuppressWarnings("unchecked")
-	public static <T extends Comparable<T>> void sort(T[] a, int fromIndex, int toIndex, char c) 
+	public static <T extends Comparable<T>> void sort(T[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(fromIndex > -1 && toIndex <= a.length)
+		rangeCheck(a.length, fromIndex, toIndex);
+		boolean ascending = ascending(c);
+
+		int n = toIndex - fromIndex;
+		if(n > 1)
 		{
-			if(fromIndex <= toIndex)
-			{	
-				// Ascending Order
-				if(c == 'a' || c == 'A')
-				{
-					Object[] temp = new Object[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort((T[])temp, 'a');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = (T)temp[j++];
-					}
-				}
-				
-				// Descending Order
-				else if(c == 'd' || c == 'D')
-				{
-					Object[] temp = new Object[toIndex - fromIndex];
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						temp[j++] = a[i];
-					}
-					sort((T[])temp, 'd');
-					for(int i = fromIndex, j = 0; i < toIndex; i++)
-					{
-						a[i] = (T)temp[j++];
-					}
-				}
-				
-				// Invalid Character
-				else
-				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
-					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-				}
+			// scratch buffer holds a copy of the range, both arrays are used alternately as source and destination
+			Object[] b = Arrays.copyOfRange(a, fromIndex, toIndex, Object[].class);
+			if(n <= threshold || pool.getParallelism() == 1)
+			{
+				mergeSort(b, 0, a, fromIndex, 0, n, ascending);
 			}
 			else
 			{
-				throw new IllegalArgumentException("fromIndex(" + fromIndex +
-													") > toIndex(" + toIndex + ")");
+				pool.invoke(new MergeSortGeneric(b, 0, a, fromIndex, 0, n, grain(n, pool), ascending));
 			}
 		}
-		else
-		{
-			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
-		}
 	}
-	
-	// Generic array Ascending order
-	private static class MergeSortAscendingGeneric implements Runnable
+
+	// sorts y[yo + lo, yo + hi) given that x[xo + lo, xo + hi) holds the same elements
+	private static final class MergeSortGeneric extends RecursiveAction
 	{
-		Object[] a;
-		MergeSortAscendingGeneric(Object[] a)
+		private static final long serialVersionUID = 1L;
+		private final Object[] x, y;
+		private final int xo, yo, lo, hi, grain;
+		private final boolean ascending;
+		MergeSortGeneric(Object[] x, int xo, Object[] y, int yo, int lo, int hi, int grain, boolean ascending)
 		{
-			this.a = a;
+			this.x = x;
+			this.xo = xo;
+			this.y = y;
+			this.yo = yo;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.ascending = ascending;
 		}
-		public void run()
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		protected void compute()
 		{
-			try
+			if(hi - lo <= grain)
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortAscending(a);
+				mergeSort(x, xo, y, yo, lo, hi, ascending);
+			}
+			else
+			{
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new MergeSortGeneric(y, yo, x, xo, lo, mid, grain, ascending),
+						  new MergeSortGeneric(y, yo, x, xo, mid, hi, grain, ascending));
+				if(ascending ? ((Comparable) x[xo + mid - 1]).compareTo(x[xo + mid]) <= 0 : ((Comparable) x[xo + mid - 1]).compareTo(x[xo + mid]) >= 0)
+				{
+					System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
+				}
+				else
+				{
+					new MergeGeneric(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending).invoke();
+				}
+			}
 		}
 	}
-	private static void mergeSortAscending(Object[] a)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static final class MergeGeneric extends RecursiveAction
 	{
-		if(a.length > 1)
+		private static final long serialVersionUID = 1L;
+		private final Object[] x, y;
+		private final int l1, r1, l2, r2, k;
+		private final boolean ascending;
+		MergeGeneric(Object[] x, int l1, int r1, int l2, int r2, Object[] y, int k, boolean ascending)
+		{
+			this.x = x;
+			this.l1 = l1;
+			this.r1 = r1;
+			this.l2 = l2;
+			this.r2 = r2;
+			this.y = y;
+			this.k = k;
+			this.ascending = ascending;
+		}
+		@Override
+		protected void compute()
 		{
-			int mid = (a.length - 1) / 2;
-			Object[] left = new Object[(a.length + 1)/2];
-			Object[] right = new Object[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
+			int n1 = r1 - l1, n2 = r2 - l2;
+			if(n1 + n2 <= mergeThreshold)
+			{
+				merge(x, l1, r1, l2, r2, y, k, ascending);
+			}
+			else if(n1 >= n2)
 			{
-				left[i] = a[i];
+				// median of the left run, elements of the right run equal to it stay after it
+				int m1 = (l1 + r1) >>> 1;
+				int m2 = lowerBound(x, l2, r2, x[m1], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m1];
+				invokeAll(new MergeGeneric(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeGeneric(x, m1 + 1, r1, m2, r2, y, m + 1, ascending));
 			}
-			for(int j = 0; i < a.length; )
+			else
 			{
-				right[j++] = a[i++];
+				// median of the right run, elements of the left run equal to it stay before it
+				int m2 = (l2 + r2) >>> 1;
+				int m1 = upperBound(x, l1, r1, x[m2], ascending);
+				int m = k + (m1 - l1) + (m2 - l2);
+				y[m] = x[m2];
+				invokeAll(new MergeGeneric(x, l1, m1, l2, m2, y, k, ascending),
+						  new MergeGeneric(x, m1, r1, m2 + 1, r2, y, m + 1, ascending));
 			}
-			mergeSortAscending(left);
-			mergeSortAscending(right);
-			mergeAscending(a, left, right);
 		}
 	}
-	private static class MergeAscendingGeneric implements Runnable
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	// first index in x[lo, hi) whose element is strictly placed after key
+	private static int upperBound(Object[] x, int lo, int hi, Object key, boolean ascending)
 	{
-		Object[] a, left, right;
-		MergeAscendingGeneric(Object[] a, Object[] left, Object[] right)
-		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
-		}
-		public void run()
+		while(lo < hi)
 		{
-			try
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? ((Comparable) x[mid]).compareTo(key) <= 0 : ((Comparable) x[mid]).compareTo(key) >= 0)
+			{
+				lo = mid + 1;
+			}
+			else
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeAscending(a, left, right);
+				hi = mid;
+			}
 		}
+		return lo;
 	}
 	@SuppressWarnings({"unchecked", "rawtypes"})
-	private static void mergeAscending(Object[] a, Object[] l, Object[] r)
+	// first index in x[lo, hi) whose element is not strictly placed before key
+	private static int lowerBound(Object[] x, int lo, int hi, Object key, boolean ascending)
 	{
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+		while(lo < hi)
 		{
-			if(((Comparable) l[i]).compareTo(r[j]) < 1) 
+			int mid = (lo + hi) >>> 1;
+			if(ascending ? ((Comparable) x[mid]).compareTo(key) < 0 : ((Comparable) x[mid]).compareTo(key) > 0)
 			{
-				a[k++] = l[i++];
+				lo = mid + 1;
 			}
 			else
 			{
-				a[k++] = r[j++];
+				hi = mid;
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		return lo;
 	}
-
-	// Generic array Descending order
-	private static class MergeSortDescendingGeneric implements Runnable
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static void mergeSort(Object[] x, int xo, Object[] y, int yo, int lo, int hi, boolean ascending)
 	{
-		Object[] a;
-		MergeSortDescendingGeneric(Object[] a)
+		if(hi - lo <= insertionThreshold)
 		{
-			this.a = a;
+			insertionSort(y, yo + lo, yo + hi, ascending);
+			return;
 		}
-		public void run()
+		int mid = (lo + hi) >>> 1;
+		mergeSort(y, yo, x, xo, lo, mid, ascending);
+		mergeSort(y, yo, x, xo, mid, hi, ascending);
+		if(ascending ? ((Comparable) x[xo + mid - 1]).compareTo(x[xo + mid]) <= 0 : ((Comparable) x[xo + mid - 1]).compareTo(x[xo + mid]) >= 0)
 		{
-			try
-			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeSortDescending(a);
+			System.arraycopy(x, xo + lo, y, yo + lo, hi - lo);
 		}
-	}
-	private static void mergeSortDescending(Object[] a)
-	{
-		if(a.length > 1)
+		else
 		{
-			int mid = (a.length - 1) / 2;
-			Object[] left = new Object[(a.length + 1)/2];
-			Object[] right = new Object[a.length/2];
-			int i = 0;
-			for( ; i <= mid; i++)
-			{
-				left[i] = a[i];
-			}
-			for(int j = 0; i < a.length; )
-			{
-				right[j++] = a[i++];
-			}
-			mergeSortDescending(left);
-			mergeSortDescending(right);
-			mergeDescending(a, left, right);
+			merge(x, xo + lo, xo + mid, xo + mid, xo + hi, y, yo + lo, ascending);
 		}
 	}
-	private static class MergeDescendingGeneric implements Runnable
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static void insertionSort(Object[] a, int lo, int hi, boolean ascending)
 	{
-		Object[] a, left, right;
-		MergeDescendingGeneric(Object[] a, Object[] left, Object[] right)
+		for(int i = lo + 1; i < hi; i++)
 		{
-			this.a = a;
-			this.left = left;
-			this.right = right;
-		}
-		public void run()
-		{
-			try
+			Object key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? ((Comparable) a[j]).compareTo(key) > 0 : ((Comparable) a[j]).compareTo(key) < 0))
 			{
-				gate.await();
-			} catch(Exception e) {}
-			mergeDescending(a, left, right);
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
 		}
 	}
 	@SuppressWarnings({"unchecked", "rawtypes"})
-	private static void mergeDescending(Object[] a, Object[] l, Object[] r)
-	{	
-		int i=0, j=0, k=0;
-		while(i < l.length && j < r.length)
+	// merges x[l1, r1) and x[l2, r2) into y starting at k
+	private static void merge(Object[] x, int l1, int r1, int l2, int r2, Object[] y, int k, boolean ascending)
+	{
+		while(l1 < r1 && l2 < r2)
 		{
-			if(((Comparable)l[i]).compareTo(r[j]) > 0) 
+			if(ascending ? ((Comparable) x[l1]).compareTo(x[l2]) <= 0 : ((Comparable) x[l1]).compareTo(x[l2]) >= 0)
 			{
-				a[k++] = l[i++];
+				y[k++] = x[l1++];
 			}
 			else
 			{
-				a[k++] = r[j++];
+				y[k++] = x[l2++];
 			}
 		}
-		while(i < l.length)
-		{
-			a[k++] = l[i++];
-		}
-		while(j < r.length)
-		{
-			a[k++] = r[j++];
-		}
+		System.arraycopy(x, l1, y, k, r1 - l1);
+		System.arraycopy(x, l2, y, k + (r1 - l1), r2 - l2);
 	}
-}
\ No newline at end of file
+}
@@ -2,12 +2,20 @@ package dsa.algorithms.sort;
 
 
 /**
- * This class contains sort methods which are implemented using traditional (one-pivot) Quicksort.
+ * This class contains sort methods which are implemented using Quicksort.
  *
  * <p>The methods in this class all throw a {@code NullPointerException},
  * if the specified array reference is null, except where noted.</p>
  *
- * <p>Time and space complexity varies according to the input.</p>
+ * <p>Primitive arrays are sorted with <b>introsort</b>: the pivot is the median of three
+ * (or the ninther on large ranges), elements equal to the pivot are grouped by a three-way
+ * partition, small ranges are finished with insertion sort and a range that recurses too deep
+ * is finished with heapsort. Sorted, reverse sorted and all-equal inputs therefore stay
+ * O(n logn) (all-equal is O(n)) and the recursion depth is bounded by O(logn).
+ * {@code float} and {@code double} arrays are ordered like {@link Double#compare(double, double)},
+ * i.e. {@code -0.0} before {@code 0.0} and {@code NaN} after positive infinity.
+ * Object arrays are still sorted with traditional (one-pivot) Quicksort, whose worst case is
+ * O(n<sup STYLE="font-size:8.0pt">2</sup>).</p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity">
  * 	<tr>
@@ -17,10 +25,10 @@ package dsa.algorithms.sort;
  * 	 <th style = "border: 1px solid black; padding: 15px;">Space Complexity</th>
  * 	</tr>
  * 	<tr>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n logn)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n)</td>
  * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n logn)</td>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n<sup STYLE="font-size:8.0pt">2</sup>)</td>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n logn)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(logn)</td>
  * 	</tr>
  * </table>
  *
@@ -31,7 +39,19 @@ public class QuickSort
 {	
 	// Suppresses default constructor, ensuring non-instantiability.
     private QuickSort() {}
-	
+
+	//ranges of this size or smaller are sorted with insertion sort
+	private final static int insertionThreshold = 16;
+
+	//ranges larger than this take the pivot as the median of three medians (ninther)
+	private final static int nintherThreshold = 128;
+
+	//recursion depth after which introsort falls back to heapsort
+	private static int depthLimit(int n)
+	{
+		return 2 * (32 - Integer.numberOfLeadingZeros(n));
+	}
+
 	
 	// char array
 	/**
@@ -56,13 +76,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -102,13 +122,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -130,64 +150,125 @@ public class QuickSort
 		}
 	}
 	
-	// char array Ascending order
-	private static void quickSortAscending(char[] a, int start, int end)
+	// char array introsort, sorts a[lo, hi)
+	private static void introSort(char[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		introSort(a, lo, hi, depthLimit(hi - lo), ascending);
+	}
+	private static void introSort(char[] a, int lo, int hi, int depth, boolean ascending)
+	{
+		while(hi - lo > insertionThreshold)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			if(depth-- == 0)
+			{
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			char pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
+			}
 		}
+		insertionSort(a, lo, hi, ascending);
 	}
-	private static int partitionAscending(char[] a, int start, int end)
+	private static char pivot(char[] a, int lo, int hi)
 	{
-		char pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
+		{
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
+		}
+		return median(a[lo], a[mid], a[last]);
+	}
+	private static char median(char x, char y, char z)
+	{
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(char[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] <= pivot)
+			char key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// char array Descending order
-	private static void quickSortDescending(char[] a, int start, int end)
+	private static void heapSort(char[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		int n = hi - lo;
+		char temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
 		}
 	}
-	private static int partitionDescending(char[] a, int start, int end)
+	private static void siftDown(char[] a, int lo, int i, int n, boolean ascending)
 	{
-		char pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		char v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
 		{
-			if(a[i] > pivot)
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				child++;
+			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
 			}
+			a[lo + i] = a[lo + child];
+			i = child;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		a[lo + i] = v;
 	}
 	
 	
@@ -214,13 +295,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -260,13 +341,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -288,64 +369,125 @@ public class QuickSort
 		}
 	}
 	
-	// byte array Ascending order
-	private static void quickSortAscending(byte[] a, int start, int end)
+	// byte array introsort, sorts a[lo, hi)
+	private static void introSort(byte[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		introSort(a, lo, hi, depthLimit(hi - lo), ascending);
+	}
+	private static void introSort(byte[] a, int lo, int hi, int depth, boolean ascending)
+	{
+		while(hi - lo > insertionThreshold)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			if(depth-- == 0)
+			{
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			byte pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
+			}
 		}
+		insertionSort(a, lo, hi, ascending);
 	}
-	private static int partitionAscending(byte[] a, int start, int end)
+	private static byte pivot(byte[] a, int lo, int hi)
 	{
-		byte pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
+		{
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
+		}
+		return median(a[lo], a[mid], a[last]);
+	}
+	private static byte median(byte x, byte y, byte z)
+	{
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(byte[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] <= pivot)
+			byte key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// byte array Descending order
-	private static void quickSortDescending(byte[] a, int start, int end)
+	private static void heapSort(byte[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		int n = hi - lo;
+		byte temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
 		}
 	}
-	private static int partitionDescending(byte[] a, int start, int end)
+	private static void siftDown(byte[] a, int lo, int i, int n, boolean ascending)
 	{
-		byte pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		byte v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
 		{
-			if(a[i] > pivot)
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				child++;
+			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
 			}
+			a[lo + i] = a[lo + child];
+			i = child;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		a[lo + i] = v;
 	}
 	
 	
@@ -372,13 +514,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -418,13 +560,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -446,64 +588,125 @@ public class QuickSort
 		}
 	}
 	
-	// short array Ascending order
-	private static void quickSortAscending(short[] a, int start, int end)
+	// short array introsort, sorts a[lo, hi)
+	private static void introSort(short[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		introSort(a, lo, hi, depthLimit(hi - lo), ascending);
+	}
+	private static void introSort(short[] a, int lo, int hi, int depth, boolean ascending)
+	{
+		while(hi - lo > insertionThreshold)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			if(depth-- == 0)
+			{
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			short pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
+			}
 		}
+		insertionSort(a, lo, hi, ascending);
 	}
-	private static int partitionAscending(short[] a, int start, int end)
+	private static short pivot(short[] a, int lo, int hi)
 	{
-		short pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
+		{
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
+		}
+		return median(a[lo], a[mid], a[last]);
+	}
+	private static short median(short x, short y, short z)
+	{
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(short[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] <= pivot)
+			short key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// short array Descending order
-	private static void quickSortDescending(short[] a, int start, int end)
+	private static void heapSort(short[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		int n = hi - lo;
+		short temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
 		}
 	}
-	private static int partitionDescending(short[] a, int start, int end)
+	private static void siftDown(short[] a, int lo, int i, int n, boolean ascending)
 	{
-		short pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		short v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
 		{
-			if(a[i] > pivot)
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				child++;
 			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
+			}
+			a[lo + i] = a[lo + child];
+			i = child;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		a[lo + i] = v;
 	}
 	
 	
@@ -530,13 +733,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -576,13 +779,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -604,64 +807,125 @@ public class QuickSort
 		}
 	}
 	
-	// int array Ascending order
-	private static void quickSortAscending(int[] a, int start, int end)
+	// int array introsort, sorts a[lo, hi)
+	private static void introSort(int[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		introSort(a, lo, hi, depthLimit(hi - lo), ascending);
+	}
+	private static void introSort(int[] a, int lo, int hi, int depth, boolean ascending)
+	{
+		while(hi - lo > insertionThreshold)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			if(depth-- == 0)
+			{
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			int pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
+			}
 		}
+		insertionSort(a, lo, hi, ascending);
 	}
-	private static int partitionAscending(int[] a, int start, int end)
+	private static int pivot(int[] a, int lo, int hi)
 	{
-		int pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
+		{
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
+		}
+		return median(a[lo], a[mid], a[last]);
+	}
+	private static int median(int x, int y, int z)
+	{
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(int[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] <= pivot)
+			int key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// int array Descending order
-	private static void quickSortDescending(int[] a, int start, int end)
+	private static void heapSort(int[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		int n = hi - lo;
+		int temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
 		}
 	}
-	private static int partitionDescending(int[] a, int start, int end)
+	private static void siftDown(int[] a, int lo, int i, int n, boolean ascending)
 	{
-		int pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		int v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
 		{
-			if(a[i] > pivot)
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				child++;
+			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
 			}
+			a[lo + i] = a[lo + child];
+			i = child;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		a[lo + i] = v;
 	}
 	
 	
@@ -688,13 +952,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -734,13 +998,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -762,64 +1026,125 @@ public class QuickSort
 		}
 	}
 	
-	// long array Ascending order
-	private static void quickSortAscending(long[] a, int start, int end)
+	// long array introsort, sorts a[lo, hi)
+	private static void introSort(long[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		introSort(a, lo, hi, depthLimit(hi - lo), ascending);
+	}
+	private static void introSort(long[] a, int lo, int hi, int depth, boolean ascending)
+	{
+		while(hi - lo > insertionThreshold)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			if(depth-- == 0)
+			{
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			long pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
+			}
 		}
+		insertionSort(a, lo, hi, ascending);
 	}
-	private static int partitionAscending(long[] a, int start, int end)
+	private static long pivot(long[] a, int lo, int hi)
 	{
-		long pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
+		{
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
+		}
+		return median(a[lo], a[mid], a[last]);
+	}
+	private static long median(long x, long y, long z)
+	{
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(long[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] <= pivot)
+			long key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// long array Descending order
-	private static void quickSortDescending(long[] a, int start, int end)
+	private static void heapSort(long[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		int n = hi - lo;
+		long temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
 		}
 	}
-	private static int partitionDescending(long[] a, int start, int end)
+	private static void siftDown(long[] a, int lo, int i, int n, boolean ascending)
 	{
-		long pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		long v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
 		{
-			if(a[i] > pivot)
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				child++;
+			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
 			}
+			a[lo + i] = a[lo + child];
+			i = child;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		a[lo + i] = v;
 	}
 	
 	
@@ -846,13 +1171,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -892,13 +1217,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -920,64 +1245,177 @@ public class QuickSort
 		}
 	}
 	
-	// float array Ascending order
-	private static void quickSortAscending(float[] a, int start, int end)
+	// float array introsort, sorts a[lo, hi)
+	private static void introSort(float[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		// NaNs are placed last (first in descending order) and -0.0 is sorted as 0.0 and restored
+		// next to 0.0 afterwards, which gives the same order as Float.compare
+		int start = lo, end = hi, negativeZeros = 0;
+		float ak;
+		for(int k = lo; k < end; k++)
+		{
+			ak = a[k];
+			if(ak != ak)
+			{
+				if(ascending)
+				{
+					a[k--] = a[--end];
+					a[end] = ak;
+				}
+				else
+				{
+					a[k] = a[start];
+					a[start++] = ak;
+				}
+			}
+			else if(ak == 0.0f && Float.floatToRawIntBits(ak) < 0)
+			{
+				a[k] = 0.0f;
+				negativeZeros++;
+			}
+		}
+
+		introSort(a, start, end, depthLimit(end - start), ascending);
+		if(negativeZeros > 0)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			// first 0.0 in ascending order, the element after the last 0.0 in descending order
+			int left = start, right = end;
+			while(left < right)
+			{
+				int mid = (left + right) >>> 1;
+				if(ascending ? a[mid] < 0.0f : a[mid] >= 0.0f)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			if(!ascending)
+			{
+				left -= negativeZeros;
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0f;
+			}
 		}
 	}
-	private static int partitionAscending(float[] a, int start, int end)
+	private static void introSort(float[] a, int lo, int hi, int depth, boolean ascending)
 	{
-		float pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		while(hi - lo > insertionThreshold)
 		{
-			if(a[i] <= pivot)
+			if(depth-- == 0)
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			float pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
 			}
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		insertionSort(a, lo, hi, ascending);
 	}
-	
-	// float array Descending order
-	private static void quickSortDescending(float[] a, int start, int end)
+	private static float pivot(float[] a, int lo, int hi)
 	{
-		if(start < end)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
 		}
+		return median(a[lo], a[mid], a[last]);
 	}
-	private static int partitionDescending(float[] a, int start, int end)
+	private static float median(float x, float y, float z)
 	{
-		float pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(float[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] > pivot)
+			float key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+	}
+	private static void heapSort(float[] a, int lo, int hi, boolean ascending)
+	{
+		int n = hi - lo;
+		float temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
+		{
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
+		}
+	}
+	private static void siftDown(float[] a, int lo, int i, int n, boolean ascending)
+	{
+		float v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
+		{
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
+			{
+				child++;
+			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
+			}
+			a[lo + i] = a[lo + child];
+			i = child;
+		}
+		a[lo + i] = v;
 	}
 	
 	
@@ -1004,13 +1442,13 @@ public class QuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, true);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				introSort(a, 0, a.length, false);
 			}
 			
 			// Invalid Character
@@ -1050,13 +1488,13 @@ public class QuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, true);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					introSort(a, fromIndex, toIndex, false);
 				}
 				
 				// Invalid Character
@@ -1078,64 +1516,177 @@ public class QuickSort
 		}
 	}
 	
-	// double array Ascending order
-	private static void quickSortAscending(double[] a, int start, int end)
+	// double array introsort, sorts a[lo, hi)
+	private static void introSort(double[] a, int lo, int hi, boolean ascending)
 	{
-		if(start < end)
+		// NaNs are placed last (first in descending order) and -0.0 is sorted as 0.0 and restored
+		// next to 0.0 afterwards, which gives the same order as Double.compare
+		int start = lo, end = hi, negativeZeros = 0;
+		double ak;
+		for(int k = lo; k < end; k++)
+		{
+			ak = a[k];
+			if(ak != ak)
+			{
+				if(ascending)
+				{
+					a[k--] = a[--end];
+					a[end] = ak;
+				}
+				else
+				{
+					a[k] = a[start];
+					a[start++] = ak;
+				}
+			}
+			else if(ak == 0.0d && Double.doubleToRawLongBits(ak) < 0)
+			{
+				a[k] = 0.0d;
+				negativeZeros++;
+			}
+		}
+
+		introSort(a, start, end, depthLimit(end - start), ascending);
+		if(negativeZeros > 0)
 		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+			// first 0.0 in ascending order, the element after the last 0.0 in descending order
+			int left = start, right = end;
+			while(left < right)
+			{
+				int mid = (left + right) >>> 1;
+				if(ascending ? a[mid] < 0.0d : a[mid] >= 0.0d)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			if(!ascending)
+			{
+				left -= negativeZeros;
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0d;
+			}
 		}
 	}
-	private static int partitionAscending(double[] a, int start, int end)
+	private static void introSort(double[] a, int lo, int hi, int depth, boolean ascending)
 	{
-		double pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		while(hi - lo > insertionThreshold)
 		{
-			if(a[i] <= pivot)
+			if(depth-- == 0)
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				heapSort(a, lo, hi, ascending);
+				return;
+			}
+			double pivot = pivot(a, lo, hi), v;
+
+			// three-way partition: a[lo, lt) before pivot, a[lt, gt) equal to pivot, a[gt, hi) after pivot
+			int lt = lo, gt = hi, i = lo;
+			while(i < gt)
+			{
+				v = a[i];
+				if(ascending ? v < pivot : v > pivot)
+				{
+					a[i++] = a[lt];
+					a[lt++] = v;
+				}
+				else if(ascending ? v > pivot : v < pivot)
+				{
+					a[i] = a[--gt];
+					a[gt] = v;
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			// recurse into the smaller part and loop on the larger one, keeps the stack O(logn)
+			if(lt - lo < hi - gt)
+			{
+				introSort(a, lo, lt, depth, ascending);
+				lo = gt;
+			}
+			else
+			{
+				introSort(a, gt, hi, depth, ascending);
+				hi = lt;
 			}
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+		insertionSort(a, lo, hi, ascending);
 	}
-	
-	// double array Descending order
-	private static void quickSortDescending(double[] a, int start, int end)
+	private static double pivot(double[] a, int lo, int hi)
 	{
-		if(start < end)
+		int mid = (lo + hi) >>> 1, last = hi - 1;
+		if(hi - lo > nintherThreshold)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			int s = (hi - lo) >>> 3;
+			return median(median(a[lo], a[lo + s], a[lo + 2*s]),
+						  median(a[mid - s], a[mid], a[mid + s]),
+						  median(a[last - 2*s], a[last - s], a[last]));
 		}
+		return median(a[lo], a[mid], a[last]);
 	}
-	private static int partitionDescending(double[] a, int start, int end)
+	private static double median(double x, double y, double z)
 	{
-		double pivot = a[end], temp;
-		int pIndex = start;
-		for(int i = start; i < end; i++)
+		if(x < y)
+		{
+			return y < z ? y : (x < z ? z : x);
+		}
+		return x < z ? x : (y < z ? z : y);
+	}
+	private static void insertionSort(double[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
 		{
-			if(a[i] > pivot)
+			double key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
+	}
+	private static void heapSort(double[] a, int lo, int hi, boolean ascending)
+	{
+		int n = hi - lo;
+		double temp;
+		for(int i = (n >>> 1) - 1; i >= 0; i--)
+		{
+			siftDown(a, lo, i, n, ascending);
+		}
+		for(int i = n - 1; i > 0; i--)
+		{
+			temp = a[lo];
+			a[lo] = a[lo + i];
+			a[lo + i] = temp;
+			siftDown(a, lo, 0, i, ascending);
+		}
+	}
+	private static void siftDown(double[] a, int lo, int i, int n, boolean ascending)
+	{
+		double v = a[lo + i];
+		int child;
+		while((child = 2*i + 1) < n)
+		{
+			if(child + 1 < n && (ascending ? a[lo + child] < a[lo + child + 1] : a[lo + child] > a[lo + child + 1]))
+			{
+				child++;
+			}
+			if(ascending ? v >= a[lo + child] : v <= a[lo + child])
+			{
+				break;
+			}
+			a[lo + i] = a[lo + child];
+			i = child;
+		}
+		a[lo + i] = v;
 	}
 	
 	
@@ -1,5 +1,10 @@
 package dsa.algorithms.sort;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 
 /**
  * This class contains sort methods which are implemented using Radix Sort.
@@ -7,10 +12,25 @@ package dsa.algorithms.sort;
  * <p>The methods in this class all throw a {@code NullPointerException},
  * if the specified array reference is null, except where noted.</p>
  *
- * <p>It is <b>preferred</b> over Counting Sort. And <b>k</b> is max number of digits.</p>
+ * <p>It is <b>preferred</b> over Counting Sort. And <b>k</b> is the number of bytes of the element type.</p>
+ *
+ * <p>The arrays are sorted least significant digit first with 8-bit digits (base 256).
+ * The histograms of all digits are built in one scan, a digit whose value is the same for
+ * every element is skipped, and the elements move between the array and one buffer
+ * alternately instead of being copied back after every digit. Negative numbers are handled by
+ * flipping the sign bit of the most significant digit; {@code float} and {@code double} keys
+ * are their IEEE-754 bits with the sign bit flipped for positive numbers and all bits flipped
+ * for negative numbers, which orders them like {@link Double#compare(double, double)}
+ * ({@code -0.0} before {@code 0.0}, {@code NaN} last).</p>
+ *
+ * <p>{@code int[]}, {@code long[]}, {@code float[]} and {@code double[]} arrays can also be
+ * sorted on a {@link ForkJoinPool}: the most significant digit is distributed in parallel
+ * from per-task histograms and the 256 buckets are then sorted recursively as independent
+ * tasks. Large {@code float[]} and {@code double[]} ranges are sorted as a scratch array of
+ * their keys, which takes another n ints or longs.</p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity 
- *																				 where k is max no of digits.">
+ *																				 where k is no of bytes of the element type.">
  * 	<tr>
  * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Best)</th>
  * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Average)</th>
@@ -18,7 +38,7 @@ package dsa.algorithms.sort;
  * 	 <th style = "border: 1px solid black; padding: 15px;">Space Complexity</th>
  * 	</tr>
  * 	<tr>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(nk)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n)</td>
  * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(nk)</td>
  * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(nk)</td>
  * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n)</td>
@@ -32,11 +52,40 @@ public class RadixSort
 {	
 	// Suppresses default constructor, ensuring non-instantiability.
     private RadixSort() {}
-	
-	
+
+	//number of bits of a digit
+	private final static int digitBits = 8;
+
+	//number of values of a digit
+	private final static int radix = 1 << digitBits;
+
+	//mask of the lowest digit
+	private final static int digitMask = radix - 1;
+
+	//use Multithreading only if size of array is greater than threshold
+	private final static int threshold = 1 << 16;
+
+	//buckets of this size or smaller are sorted with insertion sort
+	private final static int insertionThreshold = 64;
+
+	// order preserving integer key of a float
+	private static int floatKey(float x)
+	{
+		int bits = Float.floatToIntBits(x);
+		return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+	}
+
+	// order preserving integer key of a double
+	private static long doubleKey(double x)
+	{
+		long bits = Double.doubleToLongBits(x);
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+
+
 	// char array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -45,98 +94,38 @@ public class RadixSort
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(char[] a, char c) 
+	public static void sort(char[] a, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(a.length > 1)
 		{
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				char max = Character.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				char output[] = new char[a.length];
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					char count[] = new char[19];  
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 1; i < 19; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, true);
 			}
-			
+
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				char max = Character.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				char output[] = new char[a.length]; 
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					char count[] = new char[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 17; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, false);
 			}
-			
+
 			// Invalid Character
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
+				throw new IllegalArgumentException("Invalid choice \'" + c +
 				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
 		}
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -149,95 +138,33 @@ public class RadixSort
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(char[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(char[] a, int fromIndex, int toIndex, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(fromIndex > -1 && toIndex <= a.length)
 		{
 			if(fromIndex <= toIndex)
-			{	
+			{
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					char max = Character.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					char output[] = new char[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						char count[] = new char[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 1; i < 19; i++) 
-						{ 
-							count[i] += count[i - 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, true);
 				}
-				
+
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					char max = Character.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					char output[] = new char[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						char count[] = new char[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 17; i > -1; i--) 
-						{ 
-							count[i] += count[i + 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, false);
 				}
-				
+
 				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					throw new IllegalArgumentException("Invalid choice \'" + c +
 					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 				}
 			}
@@ -252,11 +179,74 @@ public class RadixSort
 			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
 		}
 	}
-	
+
+	// char array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(char[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		int k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[2][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			k = a[i];
+			count[0][k & digitMask]++;
+			count[1][(k >>> 8) & digitMask]++;
+		}
+
+		char[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 2; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			k = src[srcFrom];
+			if(digitCount[(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = ascending ? 0 : digitMask;
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new char[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				char x = src[i];
+				dst[offset[(x >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+
 
 	// byte array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -265,98 +255,38 @@ public class RadixSort
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(byte[] a, char c) 
+	public static void sort(byte[] a, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(a.length > 1)
 		{
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				byte max = Byte.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				byte output[] = new byte[a.length]; 
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					byte count[] = new byte[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 1; i < 19; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, true);
 			}
-			
+
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				byte max = Byte.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				byte output[] = new byte[a.length]; 
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					byte count[] = new byte[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 17; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, false);
 			}
-			
+
 			// Invalid Character
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
+				throw new IllegalArgumentException("Invalid choice \'" + c +
 				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
 		}
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -369,95 +299,33 @@ public class RadixSort
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(byte[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(byte[] a, int fromIndex, int toIndex, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(fromIndex > -1 && toIndex <= a.length)
 		{
 			if(fromIndex <= toIndex)
-			{	
+			{
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					byte max = Byte.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					byte output[] = new byte[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						byte count[] = new byte[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 1; i < 19; i++) 
-						{ 
-							count[i] += count[i - 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, true);
 				}
-				
+
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					byte max = Byte.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					byte output[] = new byte[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						byte count[] = new byte[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 17; i > -1; i--) 
-						{ 
-							count[i] += count[i + 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, false);
 				}
-				
+
 				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					throw new IllegalArgumentException("Invalid choice \'" + c +
 					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 				}
 			}
@@ -472,11 +340,73 @@ public class RadixSort
 			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
 		}
 	}
-	
-	
+
+	// byte array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(byte[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		int k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[1][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			k = a[i];
+			count[0][k & digitMask]++;
+		}
+
+		byte[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 1; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			k = src[srcFrom];
+			if(digitCount[(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = (p == 0 ? 0x80 : 0) ^ (ascending ? 0 : digitMask);
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new byte[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				byte x = src[i];
+				dst[offset[(x >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+
+
 	// short array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -485,98 +415,38 @@ public class RadixSort
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(short[] a, char c) 
+	public static void sort(short[] a, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(a.length > 1)
 		{
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				short max = Short.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				short output[] = new short[a.length];
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					short count[] = new short[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 1; i < 19; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, true);
 			}
-			
+
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				short max = Short.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				short output[] = new short[a.length];
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					short count[] = new short[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 17; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, false);
 			}
-			
+
 			// Invalid Character
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
+				throw new IllegalArgumentException("Invalid choice \'" + c +
 				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
 		}
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -589,95 +459,33 @@ public class RadixSort
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(short[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(short[] a, int fromIndex, int toIndex, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(fromIndex > -1 && toIndex <= a.length)
 		{
 			if(fromIndex <= toIndex)
-			{	
+			{
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					short max = Short.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					short output[] = new short[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						short count[] = new short[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 1; i < 19; i++) 
-						{ 
-							count[i] += count[i - 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, true);
 				}
-				
+
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					short max = Short.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					short output[] = new short[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						short count[] = new short[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 17; i > -1; i--) 
-						{ 
-							count[i] += count[i + 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, false);
 				}
-				
+
 				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					throw new IllegalArgumentException("Invalid choice \'" + c +
 					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 				}
 			}
@@ -692,11 +500,74 @@ public class RadixSort
 			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
 		}
 	}
-	
-	
+
+	// short array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(short[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		int k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[2][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			k = a[i];
+			count[0][k & digitMask]++;
+			count[1][(k >>> 8) & digitMask]++;
+		}
+
+		short[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 2; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			k = src[srcFrom];
+			if(digitCount[(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = (p == 1 ? 0x80 : 0) ^ (ascending ? 0 : digitMask);
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new short[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				short x = src[i];
+				dst[offset[(x >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+
+
 	// int array
 	/**
-	 * Sorts the specified array into ascending/descending order 
+	 * Sorts the specified array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -705,98 +576,38 @@ public class RadixSort
 	 *
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(int[] a, char c) 
+	public static void sort(int[] a, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(a.length > 1)
 		{
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				int max = Integer.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				int output[] = new int[a.length];
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					int count[] = new int[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 1; i < 19; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, true);
 			}
-			
+
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				int max = Integer.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				int output[] = new int[a.length]; 
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					int count[] = new int[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 17; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
+				radixSort(a, 0, a.length, false);
 			}
-			
+
 			// Invalid Character
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
+				throw new IllegalArgumentException("Invalid choice \'" + c +
 				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
 		}
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
+	 * Sorts the specified range of array into ascending/descending order
 	 * based on the character input.
 	 *
 	 * @param a the array to be sorted
@@ -809,95 +620,33 @@ public class RadixSort
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(int[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(int[] a, int fromIndex, int toIndex, char c)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(fromIndex > -1 && toIndex <= a.length)
 		{
 			if(fromIndex <= toIndex)
-			{	
+			{
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					int max = Integer.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					int output[] = new int[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						int count[] = new int[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 1; i < 19; i++) 
-						{ 
-							count[i] += count[i - 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, true);
 				}
-				
+
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					int max = Integer.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
-					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
-					}
-					int output[] = new int[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
-					{
-						int count[] = new int[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 17; i > -1; i--) 
-						{ 
-							count[i] += count[i + 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[count[((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
-					}
+					radixSort(a, fromIndex, toIndex, false);
 				}
-				
+
 				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					throw new IllegalArgumentException("Invalid choice \'" + c +
 					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 				}
 			}
@@ -912,214 +661,1246 @@ public class RadixSort
 			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
 		}
 	}
-	
-	
-	// long array
+
 	/**
-	 * Sorts the specified array into ascending/descending order 
-	 * based on the character input.
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
 	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
 	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(long[] a, char c) 
+	public static void sort(int[] a, char c, ForkJoinPool pool)
 	{
 		if(a == null)
 		{
 			throw new NullPointerException();
 		}
-		
-		if(a.length > 1)
-		{
-			// Ascending Order
-			if(c == 'a' || c == 'A')
-			{
-				long max = Long.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				long output[] = new long[a.length]; 
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					long count[] = new long[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[(int)((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 1; i < 19; i++) 
-					{ 
-						count[i] += count[i - 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[(int)count[(int)((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[(int)((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
-			}
-			
-			// Descending Order
-			else if(c == 'd' || c == 'D')
-			{
-				long max = Long.MIN_VALUE; 
-				int i;
-				for(i = 0; i < a.length; i++)
-				{
-					if(a[i] > max)
-					{
-						max = a[i];
-					}
-				}
-				long output[] = new long[a.length]; 
-				for (int exp = 1; max / exp > 0; exp *= 10)
-				{
-					long count[] = new long[19]; 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						count[(int)((a[i] / exp) % 10) + 9]++; 
-					} 
-					for (i = 17; i > -1; i--) 
-					{ 
-						count[i] += count[i + 1]; 
-					} 
-					for (i = a.length - 1; i > -1; i--) 
-					{ 
-						output[(int)count[(int)((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-						count[(int)((a[i] / exp) % 10) + 9]--; 
-					} 
-					for (i = 0; i < a.length; i++) 
-					{ 
-						a[i] = output[i]; 
-					}
-				}
-			}
-			
-			// Invalid Character
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
-		}
+		sort(a, 0, a.length, c, pool);
 	}
-	
+
 	/**
-	 * Sorts the specified range of array into ascending/descending order 
-	 * based on the character input.
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
 	 *
 	 * @param a the array to be sorted
-	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
-	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
 	 * @param fromIndex the index of the first element, inclusive, to be sorted
 	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
 	 *
+	 * @throws NullPointerException {@code if(pool == null)}
 	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
 	 */
-	public static void sort(long[] a, int fromIndex, int toIndex, char c) 
+	public static void sort(int[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
 	{
-		if(a == null)
+		if(a == null || pool == null)
 		{
 			throw new NullPointerException();
 		}
-		
+
 		if(fromIndex > -1 && toIndex <= a.length)
 		{
 			if(fromIndex <= toIndex)
-			{	
+			{
+				boolean ascending;
+
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					long max = Long.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
+					ascending = true;
+				}
+
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					ascending = false;
+				}
+
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+
+				int n = toIndex - fromIndex;
+				if(n <= threshold || pool.getParallelism() == 1)
+				{
+					if(n > 1)
 					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
+						radixSort(a, fromIndex, toIndex, ascending);
 					}
-					long output[] = new long[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
+				}
+				else
+				{
+					pool.invoke(new ParallelRadixSortInt(a, new int[n], fromIndex, 0, n, 24, ascending,
+							Math.max(threshold >>> 2, n / (pool.getParallelism() << 2)), pool.getParallelism()));
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+
+	// int array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(int[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		int k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[4][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			k = a[i];
+			count[0][k & digitMask]++;
+			count[1][(k >>> 8) & digitMask]++;
+			count[2][(k >>> 16) & digitMask]++;
+			count[3][(k >>> 24) & digitMask]++;
+		}
+
+		int[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 4; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			k = src[srcFrom];
+			if(digitCount[(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = (p == 3 ? 0x80 : 0) ^ (ascending ? 0 : digitMask);
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new int[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				int x = src[i];
+				dst[offset[(x >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+
+	// int array parallel MSD radix sort of a[fromIndex, fromIndex + n) on the digit at shift, b[bFrom, bFrom + n) is scratch space
+	private static final class ParallelRadixSortInt extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final int[] a, b;
+		private final int fromIndex, bFrom, n, shift, grain, parallelism;
+		private final boolean ascending;
+		ParallelRadixSortInt(int[] a, int[] b, int fromIndex, int bFrom, int n, int shift, boolean ascending, int grain,
+				int parallelism)
+		{
+			this.a = a;
+			this.b = b;
+			this.fromIndex = fromIndex;
+			this.bFrom = bFrom;
+			this.n = n;
+			this.shift = shift;
+			this.ascending = ascending;
+			this.grain = grain;
+			this.parallelism = parallelism;
+		}
+		@Override
+		protected void compute()
+		{
+			if(n <= insertionThreshold)
+			{
+				insertionSort(a, fromIndex, fromIndex + n, ascending);
+				return;
+			}
+			if(n <= grain)
+			{
+				// the digits above shift are equal within the bucket, LSD skips them
+				radixSort(a, fromIndex, fromIndex + n, ascending);
+				return;
+			}
+			int flip = (shift == 24 ? 0x80 : 0) ^ (ascending ? 0 : digitMask);
+
+			// per chunk histograms, built in parallel
+			int chunks = Math.min(parallelism << 1, (n + grain - 1) / grain);
+			int[][] count = new int[chunks][radix];
+			HistogramInt[] histograms = new HistogramInt[chunks];
+			for(int t = 0; t < chunks; t++)
+			{
+				histograms[t] = new HistogramInt(a, fromIndex + (int)((long)n * t / chunks),
+						fromIndex + (int)((long)n * (t + 1) / chunks), shift, count[t]);
+			}
+			invokeAll(histograms);
+
+			// global prefix sum, every chunk gets its own write position inside each bucket
+			int[] bucketStart = new int[radix + 1];
+			int sum = 0, largest = 0;
+			for(int r = 0; r < radix; r++)
+			{
+				int d = r ^ flip;
+				bucketStart[r] = sum;
+				for(int t = 0; t < chunks; t++)
+				{
+					int c = count[t][d];
+					count[t][d] = bFrom + sum;
+					sum += c;
+				}
+				largest = Math.max(largest, sum - bucketStart[r]);
+			}
+			bucketStart[radix] = sum;
+
+			if(largest < n)
+			{
+				// parallel scatter into b, then parallel copy back to a
+				ScatterInt[] scatters = new ScatterInt[chunks];
+				CopyInt[] copies = new CopyInt[chunks];
+				for(int t = 0; t < chunks; t++)
+				{
+					scatters[t] = new ScatterInt(a, b, histograms[t].from, histograms[t].to, shift, count[t]);
+					copies[t] = new CopyInt(b, a, histograms[t].from - fromIndex + bFrom, histograms[t].from,
+							histograms[t].to - histograms[t].from);
+				}
+				invokeAll(scatters);
+				invokeAll(copies);
+			}
+
+			// buckets are independent, sort them on the next digit
+			if(shift > 0)
+			{
+				List<ParallelRadixSortInt> buckets = new ArrayList<>();
+				for(int r = 0; r < radix; r++)
+				{
+					int size = bucketStart[r + 1] - bucketStart[r];
+					if(size > 1)
 					{
-						long count[] = new long[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[(int)((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 1; i < 19; i++) 
-						{ 
-							count[i] += count[i - 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[(int)count[(int)((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[(int)((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
+						buckets.add(new ParallelRadixSortInt(a, b, fromIndex + bucketStart[r], bFrom + bucketStart[r],
+								size, shift - digitBits, ascending, grain, parallelism));
 					}
 				}
-				
+				invokeAll(buckets);
+			}
+		}
+	}
+	private static final class HistogramInt extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final int[] a;
+		private final int from, to, shift;
+		private final int[] count;
+		HistogramInt(int[] a, int from, int to, int shift, int[] count)
+		{
+			this.a = a;
+			this.from = from;
+			this.to = to;
+			this.shift = shift;
+			this.count = count;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				count[(a[i] >>> shift) & digitMask]++;
+			}
+		}
+	}
+	private static final class ScatterInt extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final int[] a, b;
+		private final int from, to, shift;
+		private final int[] offset;
+		ScatterInt(int[] a, int[] b, int from, int to, int shift, int[] offset)
+		{
+			this.a = a;
+			this.b = b;
+			this.from = from;
+			this.to = to;
+			this.shift = shift;
+			this.offset = offset;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				int x = a[i];
+				b[offset[(x >>> shift) & digitMask]++] = x;
+			}
+		}
+	}
+	private static final class CopyInt extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final int[] src, dst;
+		private final int srcFrom, dstFrom, n;
+		CopyInt(int[] src, int[] dst, int srcFrom, int dstFrom, int n)
+		{
+			this.src = src;
+			this.dst = dst;
+			this.srcFrom = srcFrom;
+			this.dstFrom = dstFrom;
+			this.n = n;
+		}
+		@Override
+		protected void compute()
+		{
+			System.arraycopy(src, srcFrom, dst, dstFrom, n);
+		}
+	}
+	private static void insertionSort(int[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			int key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
+			{
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
+		}
+	}
+
+
+	// long array
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(long[] a, char c)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(a.length > 1)
+		{
+			// Ascending Order
+			if(c == 'a' || c == 'A')
+			{
+				radixSort(a, 0, a.length, true);
+			}
+
+			// Descending Order
+			else if(c == 'd' || c == 'D')
+			{
+				radixSort(a, 0, a.length, false);
+			}
+
+			// Invalid Character
+			else
+			{
+				throw new IllegalArgumentException("Invalid choice \'" + c +
+				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+			}
+		}
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(long[] a, int fromIndex, int toIndex, char c)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					radixSort(a, fromIndex, toIndex, true);
+				}
+
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					radixSort(a, fromIndex, toIndex, false);
+				}
+
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(long[] a, char c, ForkJoinPool pool)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		sort(a, 0, a.length, c, pool);
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(long[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
+	{
+		if(a == null || pool == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				boolean ascending;
+
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					ascending = true;
+				}
+
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					ascending = false;
+				}
+
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+
+				int n = toIndex - fromIndex;
+				if(n <= threshold || pool.getParallelism() == 1)
+				{
+					if(n > 1)
+					{
+						radixSort(a, fromIndex, toIndex, ascending);
+					}
+				}
+				else
+				{
+					pool.invoke(new ParallelRadixSortLong(a, new long[n], fromIndex, 0, n, 56, ascending,
+							Math.max(threshold >>> 2, n / (pool.getParallelism() << 2)), pool.getParallelism()));
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+
+	// long array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(long[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		long k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[8][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			k = a[i];
+			count[0][(int)k & digitMask]++;
+			count[1][(int)(k >>> 8) & digitMask]++;
+			count[2][(int)(k >>> 16) & digitMask]++;
+			count[3][(int)(k >>> 24) & digitMask]++;
+			count[4][(int)(k >>> 32) & digitMask]++;
+			count[5][(int)(k >>> 40) & digitMask]++;
+			count[6][(int)(k >>> 48) & digitMask]++;
+			count[7][(int)(k >>> 56) & digitMask]++;
+		}
+
+		long[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 8; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			k = src[srcFrom];
+			if(digitCount[(int)(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = (p == 7 ? 0x80 : 0) ^ (ascending ? 0 : digitMask);
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new long[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				long x = src[i];
+				dst[offset[(int)(x >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+
+	// long array parallel MSD radix sort of a[fromIndex, fromIndex + n) on the digit at shift, b[bFrom, bFrom + n) is scratch space
+	private static final class ParallelRadixSortLong extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final long[] a, b;
+		private final int fromIndex, bFrom, n, shift, grain, parallelism;
+		private final boolean ascending;
+		ParallelRadixSortLong(long[] a, long[] b, int fromIndex, int bFrom, int n, int shift, boolean ascending, int grain,
+				int parallelism)
+		{
+			this.a = a;
+			this.b = b;
+			this.fromIndex = fromIndex;
+			this.bFrom = bFrom;
+			this.n = n;
+			this.shift = shift;
+			this.ascending = ascending;
+			this.grain = grain;
+			this.parallelism = parallelism;
+		}
+		@Override
+		protected void compute()
+		{
+			if(n <= insertionThreshold)
+			{
+				insertionSort(a, fromIndex, fromIndex + n, ascending);
+				return;
+			}
+			if(n <= grain)
+			{
+				// the digits above shift are equal within the bucket, LSD skips them
+				radixSort(a, fromIndex, fromIndex + n, ascending);
+				return;
+			}
+			int flip = (shift == 56 ? 0x80 : 0) ^ (ascending ? 0 : digitMask);
+
+			// per chunk histograms, built in parallel
+			int chunks = Math.min(parallelism << 1, (n + grain - 1) / grain);
+			int[][] count = new int[chunks][radix];
+			HistogramLong[] histograms = new HistogramLong[chunks];
+			for(int t = 0; t < chunks; t++)
+			{
+				histograms[t] = new HistogramLong(a, fromIndex + (int)((long)n * t / chunks),
+						fromIndex + (int)((long)n * (t + 1) / chunks), shift, count[t]);
+			}
+			invokeAll(histograms);
+
+			// global prefix sum, every chunk gets its own write position inside each bucket
+			int[] bucketStart = new int[radix + 1];
+			int sum = 0, largest = 0;
+			for(int r = 0; r < radix; r++)
+			{
+				int d = r ^ flip;
+				bucketStart[r] = sum;
+				for(int t = 0; t < chunks; t++)
+				{
+					int c = count[t][d];
+					count[t][d] = bFrom + sum;
+					sum += c;
+				}
+				largest = Math.max(largest, sum - bucketStart[r]);
+			}
+			bucketStart[radix] = sum;
+
+			if(largest < n)
+			{
+				// parallel scatter into b, then parallel copy back to a
+				ScatterLong[] scatters = new ScatterLong[chunks];
+				CopyLong[] copies = new CopyLong[chunks];
+				for(int t = 0; t < chunks; t++)
+				{
+					scatters[t] = new ScatterLong(a, b, histograms[t].from, histograms[t].to, shift, count[t]);
+					copies[t] = new CopyLong(b, a, histograms[t].from - fromIndex + bFrom, histograms[t].from,
+							histograms[t].to - histograms[t].from);
+				}
+				invokeAll(scatters);
+				invokeAll(copies);
+			}
+
+			// buckets are independent, sort them on the next digit
+			if(shift > 0)
+			{
+				List<ParallelRadixSortLong> buckets = new ArrayList<>();
+				for(int r = 0; r < radix; r++)
+				{
+					int size = bucketStart[r + 1] - bucketStart[r];
+					if(size > 1)
+					{
+						buckets.add(new ParallelRadixSortLong(a, b, fromIndex + bucketStart[r], bFrom + bucketStart[r],
+								size, shift - digitBits, ascending, grain, parallelism));
+					}
+				}
+				invokeAll(buckets);
+			}
+		}
+	}
+	private static final class HistogramLong extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final long[] a;
+		private final int from, to, shift;
+		private final int[] count;
+		HistogramLong(long[] a, int from, int to, int shift, int[] count)
+		{
+			this.a = a;
+			this.from = from;
+			this.to = to;
+			this.shift = shift;
+			this.count = count;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				count[(int)(a[i] >>> shift) & digitMask]++;
+			}
+		}
+	}
+	private static final class ScatterLong extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final long[] a, b;
+		private final int from, to, shift;
+		private final int[] offset;
+		ScatterLong(long[] a, long[] b, int from, int to, int shift, int[] offset)
+		{
+			this.a = a;
+			this.b = b;
+			this.from = from;
+			this.to = to;
+			this.shift = shift;
+			this.offset = offset;
+		}
+		@Override
+		protected void compute()
+		{
+			for(int i = from; i < to; i++)
+			{
+				long x = a[i];
+				b[offset[(int)(x >>> shift) & digitMask]++] = x;
+			}
+		}
+	}
+	private static final class CopyLong extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final long[] src, dst;
+		private final int srcFrom, dstFrom, n;
+		CopyLong(long[] src, long[] dst, int srcFrom, int dstFrom, int n)
+		{
+			this.src = src;
+			this.dst = dst;
+			this.srcFrom = srcFrom;
+			this.dstFrom = dstFrom;
+			this.n = n;
+		}
+		@Override
+		protected void compute()
+		{
+			System.arraycopy(src, srcFrom, dst, dstFrom, n);
+		}
+	}
+	private static void insertionSort(long[] a, int lo, int hi, boolean ascending)
+	{
+		for(int i = lo + 1; i < hi; i++)
+		{
+			long key = a[i];
+			int j = i - 1;
+			while(j >= lo && (ascending ? a[j] > key : a[j] < key))
+			{
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = key;
+		}
+	}
+
+
+	// float array
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(float[] a, char c)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(a.length > 1)
+		{
+			// Ascending Order
+			if(c == 'a' || c == 'A')
+			{
+				radixSort(a, 0, a.length, true);
+			}
+
+			// Descending Order
+			else if(c == 'd' || c == 'D')
+			{
+				radixSort(a, 0, a.length, false);
+			}
+
+			// Invalid Character
+			else
+			{
+				throw new IllegalArgumentException("Invalid choice \'" + c +
+				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+			}
+		}
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(float[] a, int fromIndex, int toIndex, char c)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					radixSort(a, fromIndex, toIndex, true);
+				}
+
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					radixSort(a, fromIndex, toIndex, false);
+				}
+
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(float[] a, char c, ForkJoinPool pool)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		sort(a, 0, a.length, c, pool);
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(float[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
+	{
+		if(a == null || pool == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				boolean ascending;
+
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					ascending = true;
+				}
+
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					long max = Long.MIN_VALUE; 
-					int i;
-					for(i = 0; i < a.length; i++)
+					ascending = false;
+				}
+
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+
+				int n = toIndex - fromIndex;
+				if(n <= threshold || pool.getParallelism() == 1)
+				{
+					if(n > 1)
+					{
+						radixSort(a, fromIndex, toIndex, ascending);
+					}
+				}
+				else
+				{
+					// the keys are sorted as signed numbers, their sign bit is the sign bit of the value
+					int[] k = new int[n];
+					for(int i = 0; i < n; i++)
 					{
-						if(a[i] > max)
-						{
-							max = a[i];
-						}
+						k[i] = floatKey(a[fromIndex + i]) ^ Integer.MIN_VALUE;
 					}
-					long output[] = new long[toIndex - fromIndex]; 
-					for (int exp = 1; max / exp > 0; exp *= 10)
+					pool.invoke(new ParallelRadixSortInt(k, new int[n], 0, 0, n, 24, ascending,
+							Math.max(threshold >>> 2, n / (pool.getParallelism() << 2)), pool.getParallelism()));
+					for(int i = 0; i < n; i++)
 					{
-						long count[] = new long[19]; 
-						for (i = fromIndex; i < toIndex; i++) 
-						{ 
-							count[(int)((a[i] / exp) % 10) + 9]++; 
-						} 
-						for (i = 17; i > -1; i--) 
-						{ 
-							count[i] += count[i + 1]; 
-						} 
-						for (i = toIndex - 1; i >= fromIndex; i--) 
-						{ 
-							output[(int)count[(int)((a[i] / exp) % 10) + 9] - 1] = a[i]; 
-							count[(int)((a[i] / exp) % 10) + 9]--; 
-						} 
-						int j = 0;
-						for (i = fromIndex; i < toIndex; i++, j++) 
-						{ 
-							a[i] = output[j]; 
-						}
+						a[fromIndex + i] = Float.intBitsToFloat(k[i] ^ ((k[i] >> 31) & Integer.MAX_VALUE));
 					}
 				}
-				
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+
+	// float array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(float[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		int k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[4][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			float x = a[i];
+			k = floatKey(x);
+			count[0][k & digitMask]++;
+			count[1][(k >>> 8) & digitMask]++;
+			count[2][(k >>> 16) & digitMask]++;
+			count[3][(k >>> 24) & digitMask]++;
+		}
+
+		float[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 4; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			float x = src[srcFrom];
+			k = floatKey(x);
+			if(digitCount[(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = ascending ? 0 : digitMask;
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new float[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				x = src[i];
+				k = floatKey(x);
+				dst[offset[(k >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+
+
+	// double array
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 *
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(double[] a, char c)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(a.length > 1)
+		{
+			// Ascending Order
+			if(c == 'a' || c == 'A')
+			{
+				radixSort(a, 0, a.length, true);
+			}
+
+			// Descending Order
+			else if(c == 'd' || c == 'D')
+			{
+				radixSort(a, 0, a.length, false);
+			}
+
+			// Invalid Character
+			else
+			{
+				throw new IllegalArgumentException("Invalid choice \'" + c +
+				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+			}
+		}
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 *
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(double[] a, int fromIndex, int toIndex, char c)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					radixSort(a, fromIndex, toIndex, true);
+				}
+
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					radixSort(a, fromIndex, toIndex, false);
+				}
+
+				// Invalid Character
+				else
+				{
+					throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				}
+			}
+			else
+			{
+				throw new IllegalArgumentException("fromIndex(" + fromIndex +
+													") > toIndex(" + toIndex + ")");
+			}
+		}
+		else
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+	}
+
+	/**
+	 * Sorts the specified array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(double[] a, char c, ForkJoinPool pool)
+	{
+		if(a == null)
+		{
+			throw new NullPointerException();
+		}
+		sort(a, 0, a.length, c, pool);
+	}
+
+	/**
+	 * Sorts the specified range of array into ascending/descending order
+	 * based on the character input, using the specified {@code pool}.
+	 *
+	 * @param a the array to be sorted
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param pool the pool that executes the sort tasks
+	 *
+	 * @throws NullPointerException {@code if(pool == null)}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > a.length)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public static void sort(double[] a, int fromIndex, int toIndex, char c, ForkJoinPool pool)
+	{
+		if(a == null || pool == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(fromIndex > -1 && toIndex <= a.length)
+		{
+			if(fromIndex <= toIndex)
+			{
+				boolean ascending;
+
+				// Ascending Order
+				if(c == 'a' || c == 'A')
+				{
+					ascending = true;
+				}
+
+				// Descending Order
+				else if(c == 'd' || c == 'D')
+				{
+					ascending = false;
+				}
+
 				// Invalid Character
 				else
 				{
-					throw new IllegalArgumentException("Invalid choice \'" + c + 
+					throw new IllegalArgumentException("Invalid choice \'" + c +
 					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 				}
+
+				int n = toIndex - fromIndex;
+				if(n <= threshold || pool.getParallelism() == 1)
+				{
+					if(n > 1)
+					{
+						radixSort(a, fromIndex, toIndex, ascending);
+					}
+				}
+				else
+				{
+					// the keys are sorted as signed numbers, their sign bit is the sign bit of the value
+					long[] k = new long[n];
+					for(int i = 0; i < n; i++)
+					{
+						k[i] = doubleKey(a[fromIndex + i]) ^ Long.MIN_VALUE;
+					}
+					pool.invoke(new ParallelRadixSortLong(k, new long[n], 0, 0, n, 56, ascending,
+							Math.max(threshold >>> 2, n / (pool.getParallelism() << 2)), pool.getParallelism()));
+					for(int i = 0; i < n; i++)
+					{
+						a[fromIndex + i] = Double.longBitsToDouble(k[i] ^ ((k[i] >> 63) & Long.MAX_VALUE));
+					}
+				}
 			}
 			else
 			{
@@ -1132,4 +1913,76 @@ public class RadixSort
 			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
 		}
 	}
-}
+
+	// double array LSD radix sort of a[fromIndex, toIndex)
+	private static void radixSort(double[] a, int fromIndex, int toIndex, boolean ascending)
+	{
+		int n = toIndex - fromIndex;
+		if(n < 2)
+		{
+			return;
+		}
+		long k;
+
+		// histograms of all digits in one scan
+		int[][] count = new int[8][radix];
+		for(int i = fromIndex; i < toIndex; i++)
+		{
+			double x = a[i];
+			k = doubleKey(x);
+			count[0][(int)k & digitMask]++;
+			count[1][(int)(k >>> 8) & digitMask]++;
+			count[2][(int)(k >>> 16) & digitMask]++;
+			count[3][(int)(k >>> 24) & digitMask]++;
+			count[4][(int)(k >>> 32) & digitMask]++;
+			count[5][(int)(k >>> 40) & digitMask]++;
+			count[6][(int)(k >>> 48) & digitMask]++;
+			count[7][(int)(k >>> 56) & digitMask]++;
+		}
+
+		double[] src = a, dst = null, temp;
+		int srcFrom = fromIndex, dstFrom = 0, tempFrom;
+		int[] offset = new int[radix];
+		for(int p = 0, shift = 0; p < 8; p++, shift += digitBits)
+		{
+			int[] digitCount = count[p];
+			double x = src[srcFrom];
+			k = doubleKey(x);
+			if(digitCount[(int)(k >>> shift) & digitMask] == n)
+			{
+				// every element has the same digit, the pass would not move anything
+				continue;
+			}
+
+			// bucket offsets in key order, the flip maps a digit to its rank
+			int flip = ascending ? 0 : digitMask;
+			for(int d = 0, sum = dstFrom; d < radix; d++)
+			{
+				offset[d ^ flip] = sum;
+				sum += digitCount[d ^ flip];
+			}
+
+			if(dst == null)
+			{
+				dst = new double[n];
+			}
+			for(int i = srcFrom, end = srcFrom + n; i < end; i++)
+			{
+				x = src[i];
+				k = doubleKey(x);
+				dst[offset[(int)(k >>> shift) & digitMask]++] = x;
+			}
+
+			temp = src;
+			src = dst;
+			dst = temp;
+			tempFrom = srcFrom;
+			srcFrom = dstFrom;
+			dstFrom = tempFrom;
+		}
+		if(src != a)
+		{
+			System.arraycopy(src, srcFrom, a, fromIndex, n);
+		}
+	}
+}
\ No newline at end of file
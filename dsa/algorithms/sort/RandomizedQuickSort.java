@@ -1,6 +1,6 @@
 package dsa.algorithms.sort;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 /**
  * This class contains sort methods which are implemented using (one-pivot) Randomized Quicksort.
  *
@@ -9,6 +9,12 @@ import java.util.Random;
  *
  * <p>It is <b>preferred</b> over traditional Quicksort. It is guaranteed to 
  * sort in O(n logn) if randomization works as expected.</p>
+ *
+ * <p>Pivots are drawn from {@link ThreadLocalRandom}, so concurrent sorts do not contend
+ * on a shared generator. {@code long} and {@code double} arrays are sorted with a
+ * dual-pivot variant, which moves fewer elements per level than the one-pivot partition;
+ * {@code double} arrays are ordered like {@link Double#compare(double, double)}, i.e.
+ * {@code -0.0} before {@code 0.0} and {@code NaN} after positive infinity.</p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time and Space complexity">
  * 	<tr>
@@ -33,8 +39,8 @@ public class RandomizedQuickSort
 	// Suppresses default constructor, ensuring non-instantiability.
     private RandomizedQuickSort() {}
 	
-	//Random privot generator
-	private static Random random = new Random();
+	//ranges of this size or smaller are sorted with insertion sort (long and double arrays)
+	private final static int insertionThreshold = 27;
 	
 	// char array
 	/**
@@ -145,7 +151,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionAscending(char[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		char temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -179,7 +185,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionDescending(char[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		char temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -311,7 +317,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionAscending(byte[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		byte temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -345,7 +351,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionDescending(byte[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		byte temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -477,7 +483,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionAscending(short[] a, int start, int end)
 	{	
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		short temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -511,7 +517,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionDescending(short[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		short temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -643,7 +649,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionAscending(int[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		int temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -677,7 +683,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionDescending(int[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		int temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -723,13 +729,13 @@ public class RandomizedQuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				sortAscending(a, 0, a.length);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				sortDescending(a, 0, a.length);
 			}
 			
 			// Invalid Character
@@ -769,13 +775,13 @@ public class RandomizedQuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					sortAscending(a, fromIndex, toIndex);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					sortDescending(a, fromIndex, toIndex);
 				}
 				
 				// Invalid Character
@@ -797,72 +803,100 @@ public class RandomizedQuickSort
 		}
 	}
 	
-	// long array Ascending order
-	private static void quickSortAscending(long[] a, int start, int end)
+	// long array Ascending order, sorts a[lo, hi)
+	private static void sortAscending(long[] a, int lo, int hi)
 	{
-		if(start < end)
-		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
-		}
+		dualPivotQuickSort(a, lo, hi - 1);
 	}
-	private static int partitionAscending(long[] a, int start, int end)
+
+	// long array Descending order, sorts a[lo, hi)
+	private static void sortDescending(long[] a, int lo, int hi)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
-		long temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		pIndex = start;
-		long pivot = a[end];
-		for(int i = start; i < end; i++)
+		sortAscending(a, lo, hi);
+		long temp;
+		for(int i = lo, j = hi - 1; i < j; i++, j--)
 		{
-			if(a[i] <= pivot)
-			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
-			}
+			temp = a[i];
+			a[i] = a[j];
+			a[j] = temp;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// long array Descending order
-	private static void quickSortDescending(long[] a, int start, int end)
+
+	// sorts a[lo, hi] by partitioning around two random pivots p <= q into
+	// the elements less than p, the elements in [p, q] and the elements greater than q
+	private static void dualPivotQuickSort(long[] a, int lo, int hi)
 	{
-		if(start < end)
-		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while(hi - lo >= insertionThreshold)
+		{
+			int r = lo + random.nextInt(hi - lo + 1);
+			long temp = a[lo];
+			a[lo] = a[r];
+			a[r] = temp;
+			r = lo + 1 + random.nextInt(hi - lo);
+			temp = a[hi];
+			a[hi] = a[r];
+			a[r] = temp;
+			if(a[lo] > a[hi])
+			{
+				temp = a[lo];
+				a[lo] = a[hi];
+				a[hi] = temp;
+			}
+
+			long p = a[lo], q = a[hi], ak;
+			int l = lo + 1, g = hi - 1;
+			for(int k = l; k <= g; k++)
+			{
+				ak = a[k];
+				if(ak < p)
+				{
+					a[k] = a[l];
+					a[l++] = ak;
+				}
+				else if(ak > q)
+				{
+					while(a[g] > q && k < g)
+					{
+						g--;
+					}
+					a[k] = a[g];
+					a[g--] = ak;
+					ak = a[k];
+					if(ak < p)
+					{
+						a[k] = a[l];
+						a[l++] = ak;
+					}
+				}
+			}
+			l--;
+			g++;
+			a[lo] = a[l];
+			a[l] = p;
+			a[hi] = a[g];
+			a[g] = q;
+
+			dualPivotQuickSort(a, lo, l - 1);
+			if(p < q)
+			{
+				dualPivotQuickSort(a, l + 1, g - 1);
+			}
+			lo = g + 1;
 		}
-	}
-	private static int partitionDescending(long[] a, int start, int end)
-	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
-		long temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		pIndex = start;
-		long pivot = a[end];
-		for(int i = start; i < end; i++)
+
+		// insertion sort for the small remainder
+		for(int i = lo + 1; i <= hi; i++)
 		{
-			if(a[i] > pivot)
+			long key = a[i];
+			int j = i - 1;
+			while(j >= lo && a[j] > key)
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
 	
 	
@@ -975,7 +1009,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionAscending(float[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		float temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -1009,7 +1043,7 @@ public class RandomizedQuickSort
 	}
 	private static int partitionDescending(float[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		float temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -1055,13 +1089,13 @@ public class RandomizedQuickSort
 			// Ascending Order
 			if(c == 'a' || c == 'A')
 			{
-				quickSortAscending(a, 0, a.length - 1);
+				sortAscending(a, 0, a.length);
 			}
 			
 			// Descending Order
 			else if(c == 'd' || c == 'D')
 			{
-				quickSortDescending(a, 0, a.length - 1);
+				sortDescending(a, 0, a.length);
 			}
 			
 			// Invalid Character
@@ -1101,13 +1135,13 @@ public class RandomizedQuickSort
 				// Ascending Order
 				if(c == 'a' || c == 'A')
 				{
-					quickSortAscending(a, fromIndex, toIndex - 1);
+					sortAscending(a, fromIndex, toIndex);
 				}
 				
 				// Descending Order
 				else if(c == 'd' || c == 'D')
 				{
-					quickSortDescending(a, fromIndex, toIndex - 1);
+					sortDescending(a, fromIndex, toIndex);
 				}
 				
 				// Invalid Character
@@ -1129,72 +1163,140 @@ public class RandomizedQuickSort
 		}
 	}
 	
-	// double array Ascending order
-	private static void quickSortAscending(double[] a, int start, int end)
+	// double array Ascending order, sorts a[lo, hi)
+	private static void sortAscending(double[] a, int lo, int hi)
 	{
-		if(start < end)
-		{
-			int pIndex = partitionAscending(a, start, end);
-			quickSortAscending(a, start, pIndex - 1);
-			quickSortAscending(a, pIndex + 1, end);
+		// NaNs are placed last and -0.0 is sorted as 0.0 and restored before 0.0 afterwards,
+		// which gives the same order as Double.compare
+		int end = hi, negativeZeros = 0;
+		double ak;
+		for(int k = hi - 1; k >= lo; k--)
+		{
+			ak = a[k];
+			if(ak != ak)
+			{
+				a[k] = a[--end];
+				a[end] = ak;
+			}
+			else if(ak == 0.0d && Double.doubleToRawLongBits(ak) < 0)
+			{
+				a[k] = 0.0d;
+				negativeZeros++;
+			}
 		}
-	}
-	private static int partitionAscending(double[] a, int start, int end)
-	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
-		double temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		pIndex = start;
-		double pivot = a[end];
-		for(int i = start; i < end; i++)
+
+		dualPivotQuickSort(a, lo, end - 1);
+		if(negativeZeros > 0)
 		{
-			if(a[i] <= pivot)
+			// first 0.0 in the sorted range
+			int left = lo, right = end;
+			while(left < right)
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				int mid = (left + right) >>> 1;
+				if(a[mid] < 0.0d)
+				{
+					left = mid + 1;
+				}
+				else
+				{
+					right = mid;
+				}
+			}
+			for(int k = left; k < left + negativeZeros; k++)
+			{
+				a[k] = -0.0d;
 			}
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
-	
-	// double array Descending order
-	private static void quickSortDescending(double[] a, int start, int end)
+
+	// double array Descending order, sorts a[lo, hi)
+	private static void sortDescending(double[] a, int lo, int hi)
 	{
-		if(start < end)
+		sortAscending(a, lo, hi);
+		double temp;
+		for(int i = lo, j = hi - 1; i < j; i++, j--)
 		{
-			int pIndex = partitionDescending(a, start, end);
-			quickSortDescending(a, start, pIndex - 1);
-			quickSortDescending(a, pIndex + 1, end);
+			temp = a[i];
+			a[i] = a[j];
+			a[j] = temp;
 		}
 	}
-	private static int partitionDescending(double[] a, int start, int end)
+
+	// sorts a[lo, hi] by partitioning around two random pivots p <= q into
+	// the elements less than p, the elements in [p, q] and the elements greater than q
+	private static void dualPivotQuickSort(double[] a, int lo, int hi)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
-		double temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		pIndex = start;
-		double pivot = a[end];
-		for(int i = start; i < end; i++)
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while(hi - lo >= insertionThreshold)
+		{
+			int r = lo + random.nextInt(hi - lo + 1);
+			double temp = a[lo];
+			a[lo] = a[r];
+			a[r] = temp;
+			r = lo + 1 + random.nextInt(hi - lo);
+			temp = a[hi];
+			a[hi] = a[r];
+			a[r] = temp;
+			if(a[lo] > a[hi])
+			{
+				temp = a[lo];
+				a[lo] = a[hi];
+				a[hi] = temp;
+			}
+
+			double p = a[lo], q = a[hi], ak;
+			int l = lo + 1, g = hi - 1;
+			for(int k = l; k <= g; k++)
+			{
+				ak = a[k];
+				if(ak < p)
+				{
+					a[k] = a[l];
+					a[l++] = ak;
+				}
+				else if(ak > q)
+				{
+					while(a[g] > q && k < g)
+					{
+						g--;
+					}
+					a[k] = a[g];
+					a[g--] = ak;
+					ak = a[k];
+					if(ak < p)
+					{
+						a[k] = a[l];
+						a[l++] = ak;
+					}
+				}
+			}
+			l--;
+			g++;
+			a[lo] = a[l];
+			a[l] = p;
+			a[hi] = a[g];
+			a[g] = q;
+
+			dualPivotQuickSort(a, lo, l - 1);
+			if(p < q)
+			{
+				dualPivotQuickSort(a, l + 1, g - 1);
+			}
+			lo = g + 1;
+		}
+
+		// insertion sort for the small remainder
+		for(int i = lo + 1; i <= hi; i++)
 		{
-			if(a[i] > pivot)
+			double key = a[i];
+			int j = i - 1;
+			while(j >= lo && a[j] > key)
 			{
-				temp = a[i];
-				a[i] = a[pIndex];
-				a[pIndex] = temp;
-				pIndex++;
+				a[j + 1] = a[j];
+				j--;
 			}
+			a[j + 1] = key;
 		}
-		temp = a[pIndex];
-		a[pIndex] = a[end];
-		a[end] = temp;
-		return pIndex;
 	}
 	
 	
@@ -1309,7 +1411,7 @@ public class RandomizedQuickSort
 	}
 	private static <T extends Comparable<T>> int partitionAscending(T[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		T temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -1343,7 +1445,7 @@ public class RandomizedQuickSort
 	}
 	private static <T extends Comparable<T>> int partitionDescending(T[] a, int start, int end)
 	{
-		int pIndex = random.nextInt((end + 1) - start) + start;
+		int pIndex = ThreadLocalRandom.current().nextInt((end + 1) - start) + start;
 		T temp = a[pIndex];
 		a[pIndex] = a[end];
 		a[end] = temp;
@@ -1,14 +1,15 @@
 package dsa.datastructures.linkedlist;
 
-import java.util.Arrays;
-import java.util.Collections; 
-
 /**
  * The {@code Linked_List} class contains components that can be accessed using an integer index. 
  *
  * <p> Linked list is a linear collection of data elements whose order is not given by their 
  * physical placement in memory. Instead, each element points to the next and previous element.</p>
  *
+ * <p>An element is accessed by index walking from the first element, the last element or the
+ * element accessed last (the finger), whichever is nearest. A loop over neighbouring indices,
+ * like {@code for(long i = 0; i < list.size(); i++) list.get(i);}, takes O(1) time per call.</p>
+ *
  * <p>{@code Linked_List} is <b>thread-safe</b> and is implemented for <b>primitive types</b> only.</p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time complexity">
@@ -44,9 +45,9 @@ import java.util.Collections;
  * 	</tr>
  *	<tr>
  *	 <th style = "border: 1px solid black; padding: 15px;">Sort(sort)</th>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n logn)</td>
  * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n logn)</td>
- * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n<sup STYLE="font-size:8.0pt">2</sup>)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n logn)</td>
  * 	</tr>
  * </table>
  *
@@ -118,6 +119,33 @@ public class Linked_List
 	private Node_Float last_float = null;
 	private Node_Double first_double = null;
 	private Node_Double last_double = null;
+	private Node_Char finger_char = null;
+	private Node_Byte finger_byte = null;
+	private Node_Short finger_short = null;
+	private Node_Int finger_int = null;
+	private Node_Long finger_long = null;
+	private Node_Float finger_float = null;
+	private Node_Double finger_double = null;
+	
+	// index of the finger_* node, or -1 when there is no finger
+	private long fingerIndex = -1;
+	
+	private Node_Char pool_char = null;
+	private Node_Byte pool_byte = null;
+	private Node_Short pool_short = null;
+	private Node_Int pool_int = null;
+	private Node_Long pool_long = null;
+	private Node_Float pool_float = null;
+	private Node_Double pool_double = null;
+	
+	// most nodes kept in pool_*, 0 when nodes are not pooled
+	private final int poolCapacity;
+	
+	private int pooled = 0;
+	
+	private long poolHits = 0;
+	
+	private long poolMisses = 0;
 	
 	private byte[] choice = {0, 0, 0, 0, 0, 0, 0};
 	
@@ -146,11 +174,47 @@ public class Linked_List
 	 *	 				!choice.equals("double"))}</pre>
 	 */
 	public Linked_List(String choice)
+	{
+		this(choice, 0);
+	}
+	
+	/**
+	 * Constructs a Linked List according to choice specified, which keeps up to {@code poolCapacity}
+	 * removed nodes and reuses them for the elements added next. A queue or a stack whose size stays
+	 * below {@code poolCapacity} adds and removes elements without allocating a node.
+	 *
+	 * @param choice <pre style="display: inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * @param poolCapacity the most removed nodes kept for reuse, {@code 0} to not keep any
+	 *
+	 * @throws NullPointerException {@code if(choice == null)}
+	 * @throws IllegalArgumentException <pre style="display: inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 * @throws IllegalArgumentException {@code if(poolCapacity < 0)}
+	 * @see #poolHits()
+	 * @see #poolMisses()
+	 */
+	public Linked_List(String choice, int poolCapacity)
 	{
 		if (choice == null)
 		{
 			throw new NullPointerException();
 		}
+		if (poolCapacity < 0)
+		{
+			throw new IllegalArgumentException("Illegal Pool Capacity: " + poolCapacity);
+		}
+		this.poolCapacity = poolCapacity;
 		
 		choice = choice.trim().toLowerCase();
 		if (choice.equals("char"))
@@ -223,6 +287,223 @@ public class Linked_List
 		}
 	}
 	
+	// returns a node from pool_char, or a new node if the pool is empty
+	private Node_Char obtain_char()
+	{
+		Node_Char temp = pool_char;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Char();
+		}
+		pool_char = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_char, unless the pool is full
+	private void recycle_char(Node_Char node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_char;
+			pool_char = node;
+			pooled++;
+		}
+	}
+	
+	// returns a node from pool_byte, or a new node if the pool is empty
+	private Node_Byte obtain_byte()
+	{
+		Node_Byte temp = pool_byte;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Byte();
+		}
+		pool_byte = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_byte, unless the pool is full
+	private void recycle_byte(Node_Byte node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_byte;
+			pool_byte = node;
+			pooled++;
+		}
+	}
+	
+	// returns a node from pool_short, or a new node if the pool is empty
+	private Node_Short obtain_short()
+	{
+		Node_Short temp = pool_short;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Short();
+		}
+		pool_short = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_short, unless the pool is full
+	private void recycle_short(Node_Short node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_short;
+			pool_short = node;
+			pooled++;
+		}
+	}
+	
+	// returns a node from pool_int, or a new node if the pool is empty
+	private Node_Int obtain_int()
+	{
+		Node_Int temp = pool_int;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Int();
+		}
+		pool_int = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_int, unless the pool is full
+	private void recycle_int(Node_Int node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_int;
+			pool_int = node;
+			pooled++;
+		}
+	}
+	
+	// returns a node from pool_long, or a new node if the pool is empty
+	private Node_Long obtain_long()
+	{
+		Node_Long temp = pool_long;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Long();
+		}
+		pool_long = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_long, unless the pool is full
+	private void recycle_long(Node_Long node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_long;
+			pool_long = node;
+			pooled++;
+		}
+	}
+	
+	// returns a node from pool_float, or a new node if the pool is empty
+	private Node_Float obtain_float()
+	{
+		Node_Float temp = pool_float;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Float();
+		}
+		pool_float = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_float, unless the pool is full
+	private void recycle_float(Node_Float node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_float;
+			pool_float = node;
+			pooled++;
+		}
+	}
+	
+	// returns a node from pool_double, or a new node if the pool is empty
+	private Node_Double obtain_double()
+	{
+		Node_Double temp = pool_double;
+		if(temp == null)
+		{
+			if(poolCapacity != 0)
+			{
+				poolMisses++;
+			}
+			return new Node_Double();
+		}
+		pool_double = temp.next;
+		temp.next = null;
+		pooled--;
+		poolHits++;
+		return temp;
+	}
+	
+	// keeps a node unlinked from the list in pool_double, unless the pool is full
+	private void recycle_double(Node_Double node)
+	{
+		if(pooled < poolCapacity)
+		{
+			node.prev = null;
+			node.next = pool_double;
+			pool_double = node;
+			pooled++;
+		}
+	}
+	
 	/**
 	 * Appends the specified element to the end of this Linked_List(char).
 	 *
@@ -233,7 +514,7 @@ public class Linked_List
 	public synchronized boolean add(char element)
 	{
 		choiceCheck(0);
-		Node_Char temp = new Node_Char();
+		Node_Char temp = obtain_char();
 		temp.data = element;
 		if(first_char == null)
 		{
@@ -260,7 +541,7 @@ public class Linked_List
 	public synchronized boolean add(byte element)
 	{
 		choiceCheck(1);
-		Node_Byte temp = new Node_Byte();
+		Node_Byte temp = obtain_byte();
 		temp.data = element;
 		if(first_byte == null)
 		{
@@ -287,7 +568,7 @@ public class Linked_List
 	public synchronized boolean add(short element)
 	{
 		choiceCheck(2);
-		Node_Short temp = new Node_Short();
+		Node_Short temp = obtain_short();
 		temp.data = element;
 		if(first_short == null)
 		{
@@ -314,7 +595,7 @@ public class Linked_List
 	public synchronized boolean add(int element)
 	{
 		choiceCheck(3);
-		Node_Int temp = new Node_Int();
+		Node_Int temp = obtain_int();
 		temp.data = element;
 		if(first_int == null)
 		{
@@ -341,7 +622,7 @@ public class Linked_List
 	public synchronized boolean add(long element)
 	{
 		choiceCheck(4);
-		Node_Long temp = new Node_Long();
+		Node_Long temp = obtain_long();
 		temp.data = element;
 		if(first_long == null)
 		{
@@ -368,7 +649,7 @@ public class Linked_List
 	public synchronized boolean add(float element)
 	{
 		choiceCheck(5);
-		Node_Float temp = new Node_Float();
+		Node_Float temp = obtain_float();
 		temp.data = element;
 		if(first_float == null)
 		{
@@ -395,7 +676,7 @@ public class Linked_List
 	public synchronized boolean add(double element)
 	{
 		choiceCheck(6);
-		Node_Double temp = new Node_Double();
+		Node_Double temp = obtain_double();
 		temp.data = element;
 		if(first_double == null)
 		{
@@ -437,7 +718,7 @@ public class Linked_List
 	{
 		choiceCheck(0);
 		rangeCheck(index);
-		Node_Char temp = new Node_Char();
+		Node_Char temp = obtain_char();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -448,6 +729,10 @@ public class Linked_List
 			temp.next = first_char;
 			first_char.prev = temp;
 			first_char = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -457,15 +742,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Char pointer = first_char;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Char pointer = node_char(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_char = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -484,7 +767,7 @@ public class Linked_List
 	{
 		choiceCheck(1);
 		rangeCheck(index);
-		Node_Byte temp = new Node_Byte();
+		Node_Byte temp = obtain_byte();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -495,6 +778,10 @@ public class Linked_List
 			temp.next = first_byte;
 			first_byte.prev = temp;
 			first_byte = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -504,15 +791,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Byte pointer = first_byte;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Byte pointer = node_byte(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_byte = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -531,7 +816,7 @@ public class Linked_List
 	{
 		choiceCheck(2);
 		rangeCheck(index);
-		Node_Short temp = new Node_Short();
+		Node_Short temp = obtain_short();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -542,6 +827,10 @@ public class Linked_List
 			temp.next = first_short;
 			first_short.prev = temp;
 			first_short = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -551,15 +840,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Short pointer = first_short;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Short pointer = node_short(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_short = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -578,7 +865,7 @@ public class Linked_List
 	{
 		choiceCheck(3);
 		rangeCheck(index);
-		Node_Int temp = new Node_Int();
+		Node_Int temp = obtain_int();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -589,6 +876,10 @@ public class Linked_List
 			temp.next = first_int;
 			first_int.prev = temp;
 			first_int = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -598,15 +889,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Int pointer = first_int;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Int pointer = node_int(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_int = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -625,7 +914,7 @@ public class Linked_List
 	{
 		choiceCheck(4);
 		rangeCheck(index);
-		Node_Long temp = new Node_Long();
+		Node_Long temp = obtain_long();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -636,6 +925,10 @@ public class Linked_List
 			temp.next = first_long;
 			first_long.prev = temp;
 			first_long = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -645,15 +938,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Long pointer = first_long;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Long pointer = node_long(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_long = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -672,7 +963,7 @@ public class Linked_List
 	{
 		choiceCheck(5);
 		rangeCheck(index);
-		Node_Float temp = new Node_Float();
+		Node_Float temp = obtain_float();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -683,6 +974,10 @@ public class Linked_List
 			temp.next = first_float;
 			first_float.prev = temp;
 			first_float = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -692,15 +987,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Float pointer = first_float;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Float pointer = node_float(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_float = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -719,7 +1012,7 @@ public class Linked_List
 	{
 		choiceCheck(6);
 		rangeCheck(index);
-		Node_Double temp = new Node_Double();
+		Node_Double temp = obtain_double();
 		temp.data = element;
 		if(size == 0)
 		{
@@ -730,6 +1023,10 @@ public class Linked_List
 			temp.next = first_double;
 			first_double.prev = temp;
 			first_double = temp;
+			if(fingerIndex != -1)
+			{
+				fingerIndex++;
+			}
 		}
 		else if(index == size)
 		{
@@ -739,15 +1036,13 @@ public class Linked_List
 		}
 		else
 		{
-			Node_Double pointer = first_double;
-			for(long i = 1; i < index; i++)
-			{
-				pointer = pointer.next;
-			}
+			Node_Double pointer = node_double(index - 1);
 			temp.next = pointer.next;
 			temp.prev = pointer;
 			pointer.next = temp;
 			temp.next.prev = temp;
+			finger_double = temp;
+			fingerIndex = index;
 		}
 		size++;
 		return true;
@@ -765,124 +1060,417 @@ public class Linked_List
 		}
 	}
 	
-	/**
-	 * Removes the element at the specified position in this Linked_List.
-	 * Returns the element that was removed from the Linked_List.
-	 *
-	 * @param index the index of the element to be removed
-	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
-	 * @return element that was removed
-	 */
-	public synchronized Object removeAtIndex(long index)
+	// forgets the finger, after a change that moves nodes to unknown indices
+	private void dropFinger()
 	{
-		rangeCheck0(index);
-		Object o = null;
-		
-		if (choice[0] == ONE)
+		fingerIndex = -1;
+		finger_char = null;
+		finger_byte = null;
+		finger_short = null;
+		finger_int = null;
+		finger_long = null;
+		finger_float = null;
+		finger_double = null;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Char node_char(long index)
+	{
+		Node_Char pointer;
+		long i;
+		if(index < (size >> 1))
 		{
-			if((size-1) == 0)
-			{
-				o = first_char.data;
-				first_char = last_char = null;
-			}
-			else if(index == 0)
-			{
-				o = first_char.data;
-				first_char = first_char.next;
-				first_char.prev.next = null;
-				first_char.prev = null;
-			}
-			else if(index == (size-1))
-			{
-				o = last_char.data;
-				last_char = last_char.prev;
-				last_char.next.prev = null;
-				last_char.next = null;
-			}
-			else
-			{
-				Node_Char pointer = first_char;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
-				o = pointer.data;
-				pointer.prev.next = pointer.next;
-				pointer.next.prev = pointer.prev;
-				pointer.next = null;
-				pointer.prev = null;
-			}
-			size--;
+			pointer = first_char;
+			i = 0;
 		}
-		else if(choice[1] == ONE)
+		else
 		{
-			if((size-1) == 0)
-			{
-				o = first_byte.data;
-				first_byte = last_byte = null;
-			}
-			else if(index == 0)
-			{
-				o = first_byte.data;
-				first_byte = first_byte.next;
-				first_byte.prev.next = null;
-				first_byte.prev = null;
-			}
-			else if(index == (size-1))
-			{
-				o = last_byte.data;
-				last_byte = last_byte.prev;
-				last_byte.next.prev = null;
-				last_byte.next = null;
-			}
-			else
-			{
-				Node_Byte pointer = first_byte;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
-				o = pointer.data;
-				pointer.prev.next = pointer.next;
-				pointer.next.prev = pointer.prev;
-				pointer.next = null;
-				pointer.prev = null;
-			}
-			size--;
+			pointer = last_char;
+			i = size - 1;
 		}
-		else if(choice[2] == ONE)
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
 		{
-			if((size-1) == 0)
-			{
-				o = first_short.data;
-				first_short = last_short = null;
-			}
-			else if(index == 0)
-			{
-				o = first_short.data;
-				first_short = first_short.next;
-				first_short.prev.next = null;
-				first_short.prev = null;
-			}
-			else if(index == (size-1))
-			{
-				o = last_short.data;
-				last_short = last_short.prev;
-				last_short.next.prev = null;
-				last_short.next = null;
-			}
-			else
-			{
-				Node_Short pointer = first_short;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
-				o = pointer.data;
-				pointer.prev.next = pointer.next;
-				pointer.next.prev = pointer.prev;
+			pointer = finger_char;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_char = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Byte node_byte(long index)
+	{
+		Node_Byte pointer;
+		long i;
+		if(index < (size >> 1))
+		{
+			pointer = first_byte;
+			i = 0;
+		}
+		else
+		{
+			pointer = last_byte;
+			i = size - 1;
+		}
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
+		{
+			pointer = finger_byte;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_byte = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Short node_short(long index)
+	{
+		Node_Short pointer;
+		long i;
+		if(index < (size >> 1))
+		{
+			pointer = first_short;
+			i = 0;
+		}
+		else
+		{
+			pointer = last_short;
+			i = size - 1;
+		}
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
+		{
+			pointer = finger_short;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_short = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Int node_int(long index)
+	{
+		Node_Int pointer;
+		long i;
+		if(index < (size >> 1))
+		{
+			pointer = first_int;
+			i = 0;
+		}
+		else
+		{
+			pointer = last_int;
+			i = size - 1;
+		}
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
+		{
+			pointer = finger_int;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_int = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Long node_long(long index)
+	{
+		Node_Long pointer;
+		long i;
+		if(index < (size >> 1))
+		{
+			pointer = first_long;
+			i = 0;
+		}
+		else
+		{
+			pointer = last_long;
+			i = size - 1;
+		}
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
+		{
+			pointer = finger_long;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_long = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Float node_float(long index)
+	{
+		Node_Float pointer;
+		long i;
+		if(index < (size >> 1))
+		{
+			pointer = first_float;
+			i = 0;
+		}
+		else
+		{
+			pointer = last_float;
+			i = size - 1;
+		}
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
+		{
+			pointer = finger_float;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_float = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	// returns the node at index, 0 <= index < size, walking from the first node, the
+	// last node or the finger, whichever is nearest, and moves the finger to it
+	private Node_Double node_double(long index)
+	{
+		Node_Double pointer;
+		long i;
+		if(index < (size >> 1))
+		{
+			pointer = first_double;
+			i = 0;
+		}
+		else
+		{
+			pointer = last_double;
+			i = size - 1;
+		}
+		if(fingerIndex != -1 && Math.abs(index - fingerIndex) < Math.abs(index - i))
+		{
+			pointer = finger_double;
+			i = fingerIndex;
+		}
+		for(; i < index; i++)
+		{
+			pointer = pointer.next;
+		}
+		for(; i > index; i--)
+		{
+			pointer = pointer.prev;
+		}
+		finger_double = pointer;
+		fingerIndex = index;
+		return pointer;
+	}
+	
+	/**
+	 * Removes the element at the specified position in this Linked_List.
+	 * Returns the element that was removed from the Linked_List.
+	 *
+	 * @param index the index of the element to be removed
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @return element that was removed
+	 */
+	public synchronized Object removeAtIndex(long index)
+	{
+		rangeCheck0(index);
+		Object o = null;
+		
+		if (choice[0] == ONE)
+		{
+			if((size-1) == 0)
+			{
+				o = first_char.data;
+				recycle_char(first_char);
+				first_char = last_char = null;
+				dropFinger();
+			}
+			else if(index == 0)
+			{
+				o = first_char.data;
+				first_char = first_char.next;
+				first_char.prev.next = null;
+				recycle_char(first_char.prev);
+				first_char.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
+			}
+			else if(index == (size-1))
+			{
+				o = last_char.data;
+				last_char = last_char.prev;
+				last_char.next.prev = null;
+				recycle_char(last_char.next);
+				last_char.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
+			}
+			else
+			{
+				Node_Char pointer = node_char(index);
+				o = pointer.data;
+				pointer.prev.next = pointer.next;
+				pointer.next.prev = pointer.prev;
+				finger_char = pointer.next;
+				pointer.next = null;
+				pointer.prev = null;
+				recycle_char(pointer);
+			}
+			size--;
+		}
+		else if(choice[1] == ONE)
+		{
+			if((size-1) == 0)
+			{
+				o = first_byte.data;
+				recycle_byte(first_byte);
+				first_byte = last_byte = null;
+				dropFinger();
+			}
+			else if(index == 0)
+			{
+				o = first_byte.data;
+				first_byte = first_byte.next;
+				first_byte.prev.next = null;
+				recycle_byte(first_byte.prev);
+				first_byte.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
+			}
+			else if(index == (size-1))
+			{
+				o = last_byte.data;
+				last_byte = last_byte.prev;
+				last_byte.next.prev = null;
+				recycle_byte(last_byte.next);
+				last_byte.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
+			}
+			else
+			{
+				Node_Byte pointer = node_byte(index);
+				o = pointer.data;
+				pointer.prev.next = pointer.next;
+				pointer.next.prev = pointer.prev;
+				finger_byte = pointer.next;
 				pointer.next = null;
 				pointer.prev = null;
+				recycle_byte(pointer);
+			}
+			size--;
+		}
+		else if(choice[2] == ONE)
+		{
+			if((size-1) == 0)
+			{
+				o = first_short.data;
+				recycle_short(first_short);
+				first_short = last_short = null;
+				dropFinger();
+			}
+			else if(index == 0)
+			{
+				o = first_short.data;
+				first_short = first_short.next;
+				first_short.prev.next = null;
+				recycle_short(first_short.prev);
+				first_short.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
+			}
+			else if(index == (size-1))
+			{
+				o = last_short.data;
+				last_short = last_short.prev;
+				last_short.next.prev = null;
+				recycle_short(last_short.next);
+				last_short.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
+			}
+			else
+			{
+				Node_Short pointer = node_short(index);
+				o = pointer.data;
+				pointer.prev.next = pointer.next;
+				pointer.next.prev = pointer.prev;
+				finger_short = pointer.next;
+				pointer.next = null;
+				pointer.prev = null;
+				recycle_short(pointer);
 			}
 			size--;
 		}
@@ -891,34 +1479,48 @@ public class Linked_List
 			if((size-1) == 0)
 			{
 				o = first_int.data;
+				recycle_int(first_int);
 				first_int = last_int = null;
+				dropFinger();
 			}
 			else if(index == 0)
 			{
 				o = first_int.data;
 				first_int = first_int.next;
 				first_int.prev.next = null;
+				recycle_int(first_int.prev);
 				first_int.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
 			}
 			else if(index == (size-1))
 			{
 				o = last_int.data;
 				last_int = last_int.prev;
 				last_int.next.prev = null;
+				recycle_int(last_int.next);
 				last_int.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
 			}
 			else
 			{
-				Node_Int pointer = first_int;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
+				Node_Int pointer = node_int(index);
 				o = pointer.data;
 				pointer.prev.next = pointer.next;
 				pointer.next.prev = pointer.prev;
+				finger_int = pointer.next;
 				pointer.next = null;
 				pointer.prev = null;
+				recycle_int(pointer);
 			}
 			size--;
 		}
@@ -927,34 +1529,48 @@ public class Linked_List
 			if((size-1) == 0)
 			{
 				o = first_long.data;
+				recycle_long(first_long);
 				first_long = last_long = null;
+				dropFinger();
 			}
 			else if(index == 0)
 			{
 				o = first_long.data;
 				first_long = first_long.next;
 				first_long.prev.next = null;
+				recycle_long(first_long.prev);
 				first_long.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
 			}
 			else if(index == (size-1))
 			{
 				o = last_long.data;
 				last_long = last_long.prev;
 				last_long.next.prev = null;
+				recycle_long(last_long.next);
 				last_long.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
 			}
 			else
 			{
-				Node_Long pointer = first_long;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
+				Node_Long pointer = node_long(index);
 				o = pointer.data;
 				pointer.prev.next = pointer.next;
 				pointer.next.prev = pointer.prev;
+				finger_long = pointer.next;
 				pointer.next = null;
 				pointer.prev = null;
+				recycle_long(pointer);
 			}
 			size--;
 		}
@@ -963,34 +1579,48 @@ public class Linked_List
 			if((size-1) == 0)
 			{
 				o = first_float.data;
+				recycle_float(first_float);
 				first_float = last_float = null;
+				dropFinger();
 			}
 			else if(index == 0)
 			{
 				o = first_float.data;
 				first_float = first_float.next;
 				first_float.prev.next = null;
+				recycle_float(first_float.prev);
 				first_float.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
 			}
 			else if(index == (size-1))
 			{
 				o = last_float.data;
 				last_float = last_float.prev;
 				last_float.next.prev = null;
+				recycle_float(last_float.next);
 				last_float.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
 			}
 			else
 			{
-				Node_Float pointer = first_float;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
+				Node_Float pointer = node_float(index);
 				o = pointer.data;
 				pointer.prev.next = pointer.next;
 				pointer.next.prev = pointer.prev;
+				finger_float = pointer.next;
 				pointer.next = null;
 				pointer.prev = null;
+				recycle_float(pointer);
 			}
 			size--;
 		}
@@ -999,34 +1629,48 @@ public class Linked_List
 			if((size-1) == 0)
 			{
 				o = first_double.data;
+				recycle_double(first_double);
 				first_double = last_double = null;
+				dropFinger();
 			}
 			else if(index == 0)
 			{
 				o = first_double.data;
 				first_double = first_double.next;
 				first_double.prev.next = null;
+				recycle_double(first_double.prev);
 				first_double.prev = null;
+				if(fingerIndex == 0)
+				{
+					dropFinger();
+				}
+				else if(fingerIndex > 0)
+				{
+					fingerIndex--;
+				}
 			}
 			else if(index == (size-1))
 			{
 				o = last_double.data;
 				last_double = last_double.prev;
 				last_double.next.prev = null;
+				recycle_double(last_double.next);
 				last_double.next = null;
+				if(fingerIndex == (size-1))
+				{
+					dropFinger();
+				}
 			}
 			else
 			{
-				Node_Double pointer = first_double;
-				for(long i = 1; i <= index; i++)
-				{
-					pointer = pointer.next;
-				}
+				Node_Double pointer = node_double(index);
 				o = pointer.data;
 				pointer.prev.next = pointer.next;
 				pointer.next.prev = pointer.prev;
+				finger_double = pointer.next;
 				pointer.next = null;
 				pointer.prev = null;
+				recycle_double(pointer);
 			}
 			size--;
 		}
@@ -1155,12 +1799,8 @@ public class Linked_List
 	{
 		choiceCheck(0);
 		rangeCheck0(index);
-		Node_Char pointer = first_char;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		Node_Char pointer = node_char(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1189,12 +1829,8 @@ public class Linked_List
 	{
 		choiceCheck(1);
 		rangeCheck0(index);
-		Node_Byte pointer = first_byte;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		Node_Byte pointer = node_byte(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1223,12 +1859,8 @@ public class Linked_List
 	{
 		choiceCheck(2);
 		rangeCheck0(index);
-		Node_Short pointer = first_short;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		Node_Short pointer = node_short(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1256,13 +1888,9 @@ public class Linked_List
 	public synchronized long indexOf(int element, long index) 
 	{
 		choiceCheck(3);
-		rangeCheck0(index);
-		Node_Int pointer = first_int;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		rangeCheck0(index);
+		Node_Int pointer = node_int(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1291,12 +1919,8 @@ public class Linked_List
 	{
 		choiceCheck(4);
 		rangeCheck0(index);
-		Node_Long pointer = first_long;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		Node_Long pointer = node_long(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1325,12 +1949,8 @@ public class Linked_List
 	{
 		choiceCheck(5);
 		rangeCheck0(index);
-		Node_Float pointer = first_float;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		Node_Float pointer = node_float(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1359,12 +1979,8 @@ public class Linked_List
 	{
 		choiceCheck(6);
 		rangeCheck0(index);
-		Node_Double pointer = first_double;
-		long i = 0;
-		for(; i < index; i++)
-		{
-			pointer = pointer.next;
-		}
+		Node_Double pointer = node_double(index);
+		long i = index;
 		for(; i < size; i++)
 		{
 			if(pointer.data == element)
@@ -1498,12 +2114,8 @@ public class Linked_List
 	{
 		choiceCheck(0);
 		rangeCheck0(index);
-		Node_Char pointer = last_char;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Char pointer = node_char(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1532,12 +2144,8 @@ public class Linked_List
 	{
 		choiceCheck(1);
 		rangeCheck0(index);
-		Node_Byte pointer = last_byte;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Byte pointer = node_byte(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1566,12 +2174,8 @@ public class Linked_List
 	{
 		choiceCheck(2);
 		rangeCheck0(index);
-		Node_Short pointer = last_short;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Short pointer = node_short(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1600,12 +2204,8 @@ public class Linked_List
 	{
 		choiceCheck(3);
 		rangeCheck0(index);
-		Node_Int pointer = last_int;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Int pointer = node_int(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1634,12 +2234,8 @@ public class Linked_List
 	{
 		choiceCheck(4);
 		rangeCheck0(index);
-		Node_Long pointer = last_long;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Long pointer = node_long(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1668,12 +2264,8 @@ public class Linked_List
 	{
 		choiceCheck(5);
 		rangeCheck0(index);
-		Node_Float pointer = last_float;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Float pointer = node_float(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1702,12 +2294,8 @@ public class Linked_List
 	{
 		choiceCheck(6);
 		rangeCheck0(index);
-		Node_Double pointer = last_double;
-		long i = (size - 1);
-		for(; i > index; i--)
-		{
-			pointer = pointer.prev;
-		}
+		Node_Double pointer = node_double(index);
+		long i = index;
 		for(; i > -1; i--)
 		{
 			if(pointer.data == element)
@@ -1734,10 +2322,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_char.data == element)
 			{
+				recycle_char(first_char);
 				first_char = last_char = null;
 				size--;
 				return true;
@@ -1755,6 +2345,7 @@ public class Linked_List
 						first_char = first_char.next;
 						first_char.prev.next = null;
 						first_char.prev = null;
+						recycle_char(pointer);
 						return true;
 					}
 					else if(pointer == last_char)
@@ -1762,6 +2353,7 @@ public class Linked_List
 						last_char = last_char.prev;
 						last_char.next.prev = null;
 						last_char.next = null;
+						recycle_char(pointer);
 						return true;
 					}
 					else
@@ -1770,6 +2362,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_char(pointer);
 						return true;
 					}
 				}
@@ -1793,10 +2386,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_byte.data == element)
 			{
+				recycle_byte(first_byte);
 				first_byte = last_byte = null;
 				size--;
 				return true;
@@ -1814,6 +2409,7 @@ public class Linked_List
 						first_byte = first_byte.next;
 						first_byte.prev.next = null;
 						first_byte.prev = null;
+						recycle_byte(pointer);
 						return true;
 					}
 					else if(pointer == last_byte)
@@ -1821,6 +2417,7 @@ public class Linked_List
 						last_byte = last_byte.prev;
 						last_byte.next.prev = null;
 						last_byte.next = null;
+						recycle_byte(pointer);
 						return true;
 					}
 					else
@@ -1829,6 +2426,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_byte(pointer);
 						return true;
 					}
 				}
@@ -1852,10 +2450,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_short.data == element)
 			{
+				recycle_short(first_short);
 				first_short = last_short = null;
 				size--;
 				return true;
@@ -1873,6 +2473,7 @@ public class Linked_List
 						first_short = first_short.next;
 						first_short.prev.next = null;
 						first_short.prev = null;
+						recycle_short(pointer);
 						return true;
 					}
 					else if(pointer == last_short)
@@ -1880,6 +2481,7 @@ public class Linked_List
 						last_short = last_short.prev;
 						last_short.next.prev = null;
 						last_short.next = null;
+						recycle_short(pointer);
 						return true;
 					}
 					else
@@ -1888,6 +2490,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_short(pointer);
 						return true;
 					}
 				}
@@ -1911,10 +2514,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_int.data == element)
 			{
+				recycle_int(first_int);
 				first_int = last_int = null;
 				size--;
 				return true;
@@ -1932,6 +2537,7 @@ public class Linked_List
 						first_int = first_int.next;
 						first_int.prev.next = null;
 						first_int.prev = null;
+						recycle_int(pointer);
 						return true;
 					}
 					else if(pointer == last_int)
@@ -1939,6 +2545,7 @@ public class Linked_List
 						last_int = last_int.prev;
 						last_int.next.prev = null;
 						last_int.next = null;
+						recycle_int(pointer);
 						return true;
 					}
 					else
@@ -1947,6 +2554,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_int(pointer);
 						return true;
 					}
 				}
@@ -1970,10 +2578,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_long.data == element)
 			{
+				recycle_long(first_long);
 				first_long = last_long = null;
 				size--;
 				return true;
@@ -1991,6 +2601,7 @@ public class Linked_List
 						first_long = first_long.next;
 						first_long.prev.next = null;
 						first_long.prev = null;
+						recycle_long(pointer);
 						return true;
 					}
 					else if(pointer == last_long)
@@ -1998,6 +2609,7 @@ public class Linked_List
 						last_long = last_long.prev;
 						last_long.next.prev = null;
 						last_long.next = null;
+						recycle_long(pointer);
 						return true;
 					}
 					else
@@ -2006,6 +2618,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_long(pointer);
 						return true;
 					}
 				}
@@ -2029,10 +2642,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_float.data == element)
 			{
+				recycle_float(first_float);
 				first_float = last_float = null;
 				size--;
 				return true;
@@ -2050,6 +2665,7 @@ public class Linked_List
 						first_float = first_float.next;
 						first_float.prev.next = null;
 						first_float.prev = null;
+						recycle_float(pointer);
 						return true;
 					}
 					else if(pointer == last_float)
@@ -2057,6 +2673,7 @@ public class Linked_List
 						last_float = last_float.prev;
 						last_float.next.prev = null;
 						last_float.next = null;
+						recycle_float(pointer);
 						return true;
 					}
 					else
@@ -2065,6 +2682,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_float(pointer);
 						return true;
 					}
 				}
@@ -2088,10 +2706,12 @@ public class Linked_List
 		{
 			return false;
 		}
+		dropFinger();
 		if((size-1) == 0)
 		{
 			if(first_double.data == element)
 			{
+				recycle_double(first_double);
 				first_double = last_double = null;
 				size--;
 				return true;
@@ -2109,6 +2729,7 @@ public class Linked_List
 						first_double = first_double.next;
 						first_double.prev.next = null;
 						first_double.prev = null;
+						recycle_double(pointer);
 						return true;
 					}
 					else if(pointer == last_double)
@@ -2116,6 +2737,7 @@ public class Linked_List
 						last_double = last_double.prev;
 						last_double.next.prev = null;
 						last_double.next = null;
+						recycle_double(pointer);
 						return true;
 					}
 					else
@@ -2124,6 +2746,7 @@ public class Linked_List
 						pointer.next.prev = pointer.prev;
 						pointer.next = null;
 						pointer.prev = null;
+						recycle_double(pointer);
 						return true;
 					}
 				}
@@ -2492,14 +3115,7 @@ public class Linked_List
 	{
 		choiceCheck(0);
 		rangeCheck0(index);
-		long i = 0;
-		for(Node_Char pointer = first_char; pointer != null; pointer = pointer.next, i++)
-		{
-			if(i == index)
-			{
-				pointer.data = newElement;
-			}
-		}
+		node_char(index).data = newElement;
 	}
 	
 	/**
@@ -2514,14 +3130,7 @@ public class Linked_List
 	{
 		choiceCheck(1);
 		rangeCheck0(index);
-		long i = 0;
-		for(Node_Byte pointer = first_byte; pointer != null; pointer = pointer.next, i++)
-		{
-			if(i == index)
-			{
-				pointer.data = newElement;
-			}
-		}
+		node_byte(index).data = newElement;
 	}
 	
 	/**
@@ -2536,14 +3145,7 @@ public class Linked_List
 	{
 		choiceCheck(2);
 		rangeCheck0(index);
-		long i = 0;
-		for(Node_Short pointer = first_short; pointer != null; pointer = pointer.next, i++)
-		{
-			if(i == index)
-			{
-				pointer.data = newElement;
-			}
-		}
+		node_short(index).data = newElement;
 	}
 	
 	/**
@@ -2558,14 +3160,7 @@ public class Linked_List
 	{
 		choiceCheck(3);
 		rangeCheck0(index);
-		long i = 0;
-		for(Node_Int pointer = first_int; pointer != null; pointer = pointer.next, i++)
-		{
-			if(i == index)
-			{
-				pointer.data = newElement;
-			}
-		}
+		node_int(index).data = newElement;
 	}
 	
 	/**
@@ -2580,14 +3175,7 @@ public class Linked_List
 	{
 		choiceCheck(4);
 		rangeCheck0(index);
-		long i = 0;
-		for(Node_Long pointer = first_long; pointer != null; pointer = pointer.next, i++)
-		{
-			if(i == index)
-			{
-				pointer.data = newElement;
-			}
-		}
+		node_long(index).data = newElement;
 	}
 	
 	/**
@@ -2602,286 +3190,873 @@ public class Linked_List
 	{
 		choiceCheck(5);
 		rangeCheck0(index);
-		long i = 0;
-		for(Node_Float pointer = first_float; pointer != null; pointer = pointer.next, i++)
+		node_float(index).data = newElement;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this Linked_List(double).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(double newElement, long index) 
+	{
+		choiceCheck(6);
+		rangeCheck0(index);
+		node_double(index).data = newElement;
+	}
+	
+	/**
+	 * Sorts this Linked_List according to the order specified by the character {@code c}.<br>
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public synchronized void sort(char c)
+	{
+		if (choice[0] == ONE)
+		{
+			sort(0, (int)size, c);
+		}
+		else if(choice[1] == ONE)
+		{
+			sort(0, (int)size, c);
+		}
+		else if(choice[2] == ONE)
+		{
+			sort(0, (int)size, c);
+		}
+		else if(choice[3] == ONE)
+		{
+			sort(0, (int)size, c);
+		}
+		else if(choice[4] == ONE)
+		{
+			sort(0, (int)size, c);
+		}
+		else if(choice[5] == ONE)
+		{
+			sort(0, (int)size, c);
+		}
+		else
+		{
+			sort(0, (int)size, c);
+		}
+	}
+	
+	/**
+	 * Sorts the specified range of this Linked_List according to the order specified by the
+	 * character {@code c}.<br>
+	 * The nodes are sorted with a bottom-up merge sort which relinks them in place, so no
+	 * element is copied and no node is allocated. The sort is stable.
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > size())}
+	 */
+	public synchronized void sort(int fromIndex, int toIndex, char c)
+	{
+		if(c != 'a' && c != 'A' && c != 'd' && c != 'D')
+		{
+			throw new IllegalArgumentException("Invalid choice \'" + c + 
+			"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+		}
+		if(fromIndex > toIndex)
+		{
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+		if(fromIndex < 0)
+		{
+			throw new ArrayIndexOutOfBoundsException(fromIndex);
+		}
+		if(toIndex > size)
+		{
+			throw new ArrayIndexOutOfBoundsException(toIndex);
+		}
+		if(toIndex - fromIndex < 2)
+		{
+			return;
+		}
+		boolean descending = c == 'd' || c == 'D';
+		if (choice[0] == ONE)
+		{
+			sort_char(fromIndex, toIndex, descending);
+		}
+		else if(choice[1] == ONE)
+		{
+			sort_byte(fromIndex, toIndex, descending);
+		}
+		else if(choice[2] == ONE)
+		{
+			sort_short(fromIndex, toIndex, descending);
+		}
+		else if(choice[3] == ONE)
+		{
+			sort_int(fromIndex, toIndex, descending);
+		}
+		else if(choice[4] == ONE)
+		{
+			sort_long(fromIndex, toIndex, descending);
+		}
+		else if(choice[5] == ONE)
+		{
+			sort_float(fromIndex, toIndex, descending);
+		}
+		else
+		{
+			sort_double(fromIndex, toIndex, descending);
+		}
+		// nodes in the range moved to other indices
+		dropFinger();
+	}
+	
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_char(int fromIndex, int toIndex, boolean descending)
+	{
+		Node_Char list = node_char(fromIndex);
+		Node_Char before = list.prev;
+		Node_Char end = node_char(toIndex - 1);
+		Node_Char after = end.next;
+		end.next = null;
+		Node_Char pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Char owner = null;
+			Node_Char run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Char older = run.prev;
+				run = merge_char(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
+				{
+					pending = run;
+				}
+				else
+				{
+					owner.prev = run;
+				}
+			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
+		}
+		list = pending;
+		for(pending = pending.prev; pending != null; )
+		{
+			Node_Char older = pending.prev;
+			list = merge_char(pending, list, descending);
+			pending = older;
+		}
+		Node_Char prev = before;
+		for(Node_Char pointer = list; pointer != null; pointer = pointer.next)
+		{
+			pointer.prev = prev;
+			prev = pointer;
+		}
+		if(before == null)
+		{
+			first_char = list;
+		}
+		else
+		{
+			before.next = list;
+		}
+		prev.next = after;
+		if(after == null)
+		{
+			last_char = prev;
+		}
+		else
+		{
+			after.prev = prev;
+		}
+	}
+	
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Char merge_char(Node_Char a, Node_Char b, boolean descending)
+	{
+		Node_Char head;
+		if(descending ? a.data >= b.data : a.data <= b.data)
+		{
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Char tail = head;
+		while(a != null && b != null)
+		{
+			if(descending ? a.data >= b.data : a.data <= b.data)
+			{
+				tail.next = a;
+				a = a.next;
+			}
+			else
+			{
+				tail.next = b;
+				b = b.next;
+			}
+			tail = tail.next;
+		}
+		tail.next = a != null ? a : b;
+		return head;
+	}
+	
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_byte(int fromIndex, int toIndex, boolean descending)
+	{
+		Node_Byte list = node_byte(fromIndex);
+		Node_Byte before = list.prev;
+		Node_Byte end = node_byte(toIndex - 1);
+		Node_Byte after = end.next;
+		end.next = null;
+		Node_Byte pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Byte owner = null;
+			Node_Byte run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Byte older = run.prev;
+				run = merge_byte(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
+				{
+					pending = run;
+				}
+				else
+				{
+					owner.prev = run;
+				}
+			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
+		}
+		list = pending;
+		for(pending = pending.prev; pending != null; )
+		{
+			Node_Byte older = pending.prev;
+			list = merge_byte(pending, list, descending);
+			pending = older;
+		}
+		Node_Byte prev = before;
+		for(Node_Byte pointer = list; pointer != null; pointer = pointer.next)
+		{
+			pointer.prev = prev;
+			prev = pointer;
+		}
+		if(before == null)
+		{
+			first_byte = list;
+		}
+		else
+		{
+			before.next = list;
+		}
+		prev.next = after;
+		if(after == null)
+		{
+			last_byte = prev;
+		}
+		else
+		{
+			after.prev = prev;
+		}
+	}
+	
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Byte merge_byte(Node_Byte a, Node_Byte b, boolean descending)
+	{
+		Node_Byte head;
+		if(descending ? a.data >= b.data : a.data <= b.data)
+		{
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Byte tail = head;
+		while(a != null && b != null)
+		{
+			if(descending ? a.data >= b.data : a.data <= b.data)
+			{
+				tail.next = a;
+				a = a.next;
+			}
+			else
+			{
+				tail.next = b;
+				b = b.next;
+			}
+			tail = tail.next;
+		}
+		tail.next = a != null ? a : b;
+		return head;
+	}
+	
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_short(int fromIndex, int toIndex, boolean descending)
+	{
+		Node_Short list = node_short(fromIndex);
+		Node_Short before = list.prev;
+		Node_Short end = node_short(toIndex - 1);
+		Node_Short after = end.next;
+		end.next = null;
+		Node_Short pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Short owner = null;
+			Node_Short run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Short older = run.prev;
+				run = merge_short(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
+				{
+					pending = run;
+				}
+				else
+				{
+					owner.prev = run;
+				}
+			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
+		}
+		list = pending;
+		for(pending = pending.prev; pending != null; )
+		{
+			Node_Short older = pending.prev;
+			list = merge_short(pending, list, descending);
+			pending = older;
+		}
+		Node_Short prev = before;
+		for(Node_Short pointer = list; pointer != null; pointer = pointer.next)
+		{
+			pointer.prev = prev;
+			prev = pointer;
+		}
+		if(before == null)
+		{
+			first_short = list;
+		}
+		else
+		{
+			before.next = list;
+		}
+		prev.next = after;
+		if(after == null)
 		{
-			if(i == index)
-			{
-				pointer.data = newElement;
-			}
+			last_short = prev;
+		}
+		else
+		{
+			after.prev = prev;
 		}
 	}
 	
-	/**
-	 * Replace value at {@code index}, with the {@code newElement} in this Linked_List(double).
-	 *
-	 * @param newElement the new element
-	 * @param index index at which element is to be placed
-	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
-	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
-	 */
-	public synchronized void replaceAt(double newElement, long index) 
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Short merge_short(Node_Short a, Node_Short b, boolean descending)
 	{
-		choiceCheck(6);
-		rangeCheck0(index);
-		long i = 0;
-		for(Node_Double pointer = first_double; pointer != null; pointer = pointer.next, i++)
+		Node_Short head;
+		if(descending ? a.data >= b.data : a.data <= b.data)
+		{
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Short tail = head;
+		while(a != null && b != null)
 		{
-			if(i == index)
+			if(descending ? a.data >= b.data : a.data <= b.data)
 			{
-				pointer.data = newElement;
+				tail.next = a;
+				a = a.next;
 			}
+			else
+			{
+				tail.next = b;
+				b = b.next;
+			}
+			tail = tail.next;
 		}
+		tail.next = a != null ? a : b;
+		return head;
 	}
 	
-	/**
-	 * Sorts this Linked_List according to the order specified by the character {@code c}.<br>
-	 *
-	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
-	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
-	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 */
-	public synchronized void sort(char c)
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_int(int fromIndex, int toIndex, boolean descending)
 	{
-		if (choice[0] == ONE)
-		{
-			sort(0, (int)size, c);
+		Node_Int list = node_int(fromIndex);
+		Node_Int before = list.prev;
+		Node_Int end = node_int(toIndex - 1);
+		Node_Int after = end.next;
+		end.next = null;
+		Node_Int pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Int owner = null;
+			Node_Int run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Int older = run.prev;
+				run = merge_int(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
+				{
+					pending = run;
+				}
+				else
+				{
+					owner.prev = run;
+				}
+			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
 		}
-		else if(choice[1] == ONE)
+		list = pending;
+		for(pending = pending.prev; pending != null; )
 		{
-			sort(0, (int)size, c);
+			Node_Int older = pending.prev;
+			list = merge_int(pending, list, descending);
+			pending = older;
 		}
-		else if(choice[2] == ONE)
+		Node_Int prev = before;
+		for(Node_Int pointer = list; pointer != null; pointer = pointer.next)
 		{
-			sort(0, (int)size, c);
+			pointer.prev = prev;
+			prev = pointer;
 		}
-		else if(choice[3] == ONE)
+		if(before == null)
 		{
-			sort(0, (int)size, c);
+			first_int = list;
 		}
-		else if(choice[4] == ONE)
+		else
 		{
-			sort(0, (int)size, c);
+			before.next = list;
 		}
-		else if(choice[5] == ONE)
+		prev.next = after;
+		if(after == null)
 		{
-			sort(0, (int)size, c);
+			last_int = prev;
 		}
 		else
 		{
-			sort(0, (int)size, c);
+			after.prev = prev;
 		}
 	}
 	
-	/**
-	 * Sorts this Linked_List according to the order specified by the character {@code c}.<br>
-	 *
-	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
-	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
-	 * @param fromIndex the index of the first element, inclusive, to be sorted
-	 * @param toIndex the index of the last element, exclusive, to be sorted
-	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
-	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > array.length)}
-	 */
-	public synchronized void sort(int fromIndex, int toIndex, char c)
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Int merge_int(Node_Int a, Node_Int b, boolean descending)
 	{
-		if (choice[0] == ONE)
+		Node_Int head;
+		if(descending ? a.data >= b.data : a.data <= b.data)
 		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((char)o[i]);
-				}
-			}
-			else if (c == 'd' || c == 'D')
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Int tail = head;
+		while(a != null && b != null)
+		{
+			if(descending ? a.data >= b.data : a.data <= b.data)
 			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((char)o[i]);
-				}
+				tail.next = a;
+				a = a.next;
 			}
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				tail.next = b;
+				b = b.next;
 			}
+			tail = tail.next;
 		}
-		else if(choice[1] == ONE)
-		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
+		tail.next = a != null ? a : b;
+		return head;
+	}
+	
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_long(int fromIndex, int toIndex, boolean descending)
+	{
+		Node_Long list = node_long(fromIndex);
+		Node_Long before = list.prev;
+		Node_Long end = node_long(toIndex - 1);
+		Node_Long after = end.next;
+		end.next = null;
+		Node_Long pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Long owner = null;
+			Node_Long run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Long older = run.prev;
+				run = merge_long(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
 				{
-					add((byte)o[i]);
+					pending = run;
 				}
-			}
-			else if (c == 'd' || c == 'D')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
+				else
 				{
-					add((byte)o[i]);
+					owner.prev = run;
 				}
 			}
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
 		}
-		else if(choice[2] == ONE)
+		list = pending;
+		for(pending = pending.prev; pending != null; )
 		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((short)o[i]);
-				}
-			}
-			else if (c == 'd' || c == 'D')
+			Node_Long older = pending.prev;
+			list = merge_long(pending, list, descending);
+			pending = older;
+		}
+		Node_Long prev = before;
+		for(Node_Long pointer = list; pointer != null; pointer = pointer.next)
+		{
+			pointer.prev = prev;
+			prev = pointer;
+		}
+		if(before == null)
+		{
+			first_long = list;
+		}
+		else
+		{
+			before.next = list;
+		}
+		prev.next = after;
+		if(after == null)
+		{
+			last_long = prev;
+		}
+		else
+		{
+			after.prev = prev;
+		}
+	}
+	
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Long merge_long(Node_Long a, Node_Long b, boolean descending)
+	{
+		Node_Long head;
+		if(descending ? a.data >= b.data : a.data <= b.data)
+		{
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Long tail = head;
+		while(a != null && b != null)
+		{
+			if(descending ? a.data >= b.data : a.data <= b.data)
 			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((short)o[i]);
-				}
+				tail.next = a;
+				a = a.next;
 			}
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				tail.next = b;
+				b = b.next;
 			}
+			tail = tail.next;
 		}
-		else if(choice[3] == ONE)
-		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
+		tail.next = a != null ? a : b;
+		return head;
+	}
+	
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_float(int fromIndex, int toIndex, boolean descending)
+	{
+		Node_Float list = node_float(fromIndex);
+		Node_Float before = list.prev;
+		Node_Float end = node_float(toIndex - 1);
+		Node_Float after = end.next;
+		end.next = null;
+		Node_Float pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Float owner = null;
+			Node_Float run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Float older = run.prev;
+				run = merge_float(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
 				{
-					add((int)o[i]);
+					pending = run;
 				}
-			}
-			else if (c == 'd' || c == 'D')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
+				else
 				{
-					add((int)o[i]);
+					owner.prev = run;
 				}
 			}
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
 		}
-		else if(choice[4] == ONE)
+		list = pending;
+		for(pending = pending.prev; pending != null; )
 		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((long)o[i]);
-				}
-			}
-			else if (c == 'd' || c == 'D')
+			Node_Float older = pending.prev;
+			list = merge_float(pending, list, descending);
+			pending = older;
+		}
+		Node_Float prev = before;
+		for(Node_Float pointer = list; pointer != null; pointer = pointer.next)
+		{
+			pointer.prev = prev;
+			prev = pointer;
+		}
+		if(before == null)
+		{
+			first_float = list;
+		}
+		else
+		{
+			before.next = list;
+		}
+		prev.next = after;
+		if(after == null)
+		{
+			last_float = prev;
+		}
+		else
+		{
+			after.prev = prev;
+		}
+	}
+	
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Float merge_float(Node_Float a, Node_Float b, boolean descending)
+	{
+		Node_Float head;
+		if(descending ? Float.compare(a.data, b.data) >= 0 : Float.compare(a.data, b.data) <= 0)
+		{
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Float tail = head;
+		while(a != null && b != null)
+		{
+			if(descending ? Float.compare(a.data, b.data) >= 0 : Float.compare(a.data, b.data) <= 0)
 			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((long)o[i]);
-				}
+				tail.next = a;
+				a = a.next;
 			}
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				tail.next = b;
+				b = b.next;
 			}
+			tail = tail.next;
 		}
-		else if(choice[5] == ONE)
-		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
+		tail.next = a != null ? a : b;
+		return head;
+	}
+	
+	// merge sort of the nodes in [fromIndex, toIndex), relinking them in place. Nodes are taken
+	// one at a time onto a stack of sorted runs, linked by prev, and two runs of equal length are
+	// merged once a run of that length follows them, so the runs being merged were touched recently
+	private void sort_double(int fromIndex, int toIndex, boolean descending)
+	{
+		Node_Double list = node_double(fromIndex);
+		Node_Double before = list.prev;
+		Node_Double end = node_double(toIndex - 1);
+		Node_Double after = end.next;
+		end.next = null;
+		Node_Double pending = null;
+		for(long count = 0; list != null; count++)
+		{
+			// the lengths of the runs are the bits of count, merge the two runs below the lowest 0 bit
+			Node_Double owner = null;
+			Node_Double run = pending;
+			long bits = count;
+			for(; (bits & 1) == 1; bits >>= 1)
+			{
+				owner = run;
+				run = run.prev;
+			}
+			if(bits != 0)
+			{
+				Node_Double older = run.prev;
+				run = merge_double(older, run, descending);
+				run.prev = older.prev;
+				if(owner == null)
 				{
-					add((float)o[i]);
+					pending = run;
 				}
-			}
-			else if (c == 'd' || c == 'D')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
+				else
 				{
-					add((float)o[i]);
+					owner.prev = run;
 				}
 			}
-			else
-			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
-			}
+			list.prev = pending;
+			pending = list;
+			list = list.next;
+			pending.next = null;
+		}
+		list = pending;
+		for(pending = pending.prev; pending != null; )
+		{
+			Node_Double older = pending.prev;
+			list = merge_double(pending, list, descending);
+			pending = older;
+		}
+		Node_Double prev = before;
+		for(Node_Double pointer = list; pointer != null; pointer = pointer.next)
+		{
+			pointer.prev = prev;
+			prev = pointer;
+		}
+		if(before == null)
+		{
+			first_double = list;
 		}
 		else
 		{
-			if(c == 'a' || c == 'A')
-			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex);
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((double)o[i]);
-				}
-			}
-			else if (c == 'd' || c == 'D')
+			before.next = list;
+		}
+		prev.next = after;
+		if(after == null)
+		{
+			last_double = prev;
+		}
+		else
+		{
+			after.prev = prev;
+		}
+	}
+	
+	// merges the sorted lists a and b linked by next, on a tie the node of a goes first
+	private Node_Double merge_double(Node_Double a, Node_Double b, boolean descending)
+	{
+		Node_Double head;
+		if(descending ? Double.compare(a.data, b.data) >= 0 : Double.compare(a.data, b.data) <= 0)
+		{
+			head = a;
+			a = a.next;
+		}
+		else
+		{
+			head = b;
+			b = b.next;
+		}
+		Node_Double tail = head;
+		while(a != null && b != null)
+		{
+			if(descending ? Double.compare(a.data, b.data) >= 0 : Double.compare(a.data, b.data) <= 0)
 			{
-				Object[] o = toArray();
-				Arrays.sort(o, fromIndex, toIndex, Collections.reverseOrder());
-				clear();
-				for(int i = 0; i < o.length ; i++)
-				{
-					add((double)o[i]);
-				}
+				tail.next = a;
+				a = a.next;
 			}
 			else
 			{
-				throw new IllegalArgumentException("Invalid choice \'" + c + 
-				"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				tail.next = b;
+				b = b.next;
 			}
+			tail = tail.next;
 		}
+		tail.next = a != null ? a : b;
+		return head;
 	}
 	
 	/**
@@ -2894,78 +4069,34 @@ public class Linked_List
 	public synchronized Object get(long index) 
 	{
 		rangeCheck0(index);
-		long temp = 0;
 		if (choice[0] == ONE)
 		{
-			for(Node_Char pointer = first_char; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_char(index).data;
 		}
 		else if(choice[1] == ONE)
 		{
-			for(Node_Byte pointer = first_byte; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_byte(index).data;
 		}
 		else if(choice[2] == ONE)
 		{
-			for(Node_Short pointer = first_short; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_short(index).data;
 		}
 		else if(choice[3] == ONE)
 		{
-			for(Node_Int pointer = first_int; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_int(index).data;
 		}
 		else if(choice[4] == ONE)
 		{
-			for(Node_Long pointer = first_long; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_long(index).data;
 		}
 		else if(choice[5] == ONE)
 		{
-			for(Node_Float pointer = first_float; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_float(index).data;
 		}
 		else
 		{
-			for(Node_Double pointer = first_double; pointer != null; pointer = pointer.next, temp++)
-			{
-				if(index == temp)
-				{
-					return (Object)pointer.data;
-				}
-			}
+			return (Object)node_double(index).data;
 		}
-		return null;
 	}	
 	
 	/**
@@ -3058,43 +4189,120 @@ public class Linked_List
 	public synchronized void clear() 
 	{
 		size = 0;
+		dropFinger();
 		if (choice[0] == ONE)
 		{
+			for(Node_Char pointer = first_char; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Char next = pointer.next;
+				recycle_char(pointer);
+				pointer = next;
+			}
 			first_char = null;
 			last_char = null;
 		}
 		else if(choice[1] == ONE)
 		{
+			for(Node_Byte pointer = first_byte; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Byte next = pointer.next;
+				recycle_byte(pointer);
+				pointer = next;
+			}
 			first_byte = null;
 			last_byte = null;
 		}
 		else if(choice[2] == ONE)
 		{
+			for(Node_Short pointer = first_short; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Short next = pointer.next;
+				recycle_short(pointer);
+				pointer = next;
+			}
 			first_short = null;
 			last_short = null;
 		}
 		else if(choice[3] == ONE)
 		{	
+			for(Node_Int pointer = first_int; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Int next = pointer.next;
+				recycle_int(pointer);
+				pointer = next;
+			}
 			first_int = null;
 			last_int = null;
 		}
 		else if(choice[4] == ONE)
 		{
+			for(Node_Long pointer = first_long; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Long next = pointer.next;
+				recycle_long(pointer);
+				pointer = next;
+			}
 			first_long = null;
 			last_long = null;
 		}
 		else if(choice[5] == ONE)
 		{
+			for(Node_Float pointer = first_float; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Float next = pointer.next;
+				recycle_float(pointer);
+				pointer = next;
+			}
 			first_float = null;
 			last_float = null;
 		}
 		else
 		{
+			for(Node_Double pointer = first_double; pointer != null && pooled < poolCapacity; )
+			{
+				Node_Double next = pointer.next;
+				recycle_double(pointer);
+				pointer = next;
+			}
 			first_double = null;
 			last_double = null;
 		}
 	}
 	
+	/**
+	 * Returns the number of nodes added to this Linked_List which were taken from the pool of
+	 * removed nodes.
+	 *
+	 * @return the number of pooled nodes reused
+	 * @see #Linked_List(String, int)
+	 */
+	public synchronized long poolHits()
+	{
+		return poolHits;
+	}
+	
+	/**
+	 * Returns the number of nodes added to this Linked_List which were allocated because the pool
+	 * of removed nodes was empty, always {@code 0} if the Linked_List does not pool nodes.
+	 *
+	 * @return the number of nodes allocated while pooling
+	 * @see #Linked_List(String, int)
+	 */
+	public synchronized long poolMisses()
+	{
+		return poolMisses;
+	}
+	
+	/**
+	 * Returns the number of removed nodes this Linked_List keeps for reuse.
+	 *
+	 * @return the number of nodes in the pool
+	 */
+	public synchronized int poolSize()
+	{
+		return pooled;
+	}
+	
 	/**
 	 * Returns the number of components in this Linked_List.
 	 *
@@ -0,0 +1,3746 @@
+package dsa.datastructures.linkedlist;
+
+import java.util.Arrays;
+
+/**
+ * The {@code UnrolledLinkedList} class contains components that can be accessed using an integer index. 
+ *
+ * <p>It is a doubly linked list of <b>chunks</b>, each chunk holds up to {@code chunkCapacity}
+ * components (64 by default) in a primitive array. Compared to {@link Linked_List}, which
+ * allocates one node with two links per component, it stores a list of ints in about a tenth
+ * of the memory, and a scan reads consecutive components from one array instead of following
+ * a link per component.</p>
+ *
+ * <p>A component is located by walking the chunks from the nearer end of the list, adding and
+ * removing at either end takes O(1) time. Inserting into a full chunk splits it in two, and a
+ * chunk left less than a quarter full is merged with or refilled from its neighbour, so
+ * every chunk but a lone one stays at least a quarter full.</p>
+ *
+ * <p>{@code UnrolledLinkedList} is <b>thread-safe</b> and is implemented for <b>primitive types</b> only.</p>
+ * 
+ * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time complexity">
+ * 	<tr>
+ *   <th style = "border: 1px solid black; padding: 15px;"></th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Best)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Average)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Worst)</th>
+ * 	</tr>
+ * 	<tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Insert(add)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n/chunkCapacity)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n/chunkCapacity)</td>
+ * 	</tr>
+ * 	<tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Delete(remove)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n/chunkCapacity)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n/chunkCapacity)</td>
+ * 	</tr>
+ *	<tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Random Access(get)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n/chunkCapacity)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n/chunkCapacity)</td>
+ * 	</tr>
+ *  <tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Search(contains)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n/2)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n)</td>
+ * 	</tr>
+ *	<tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Sort(sort)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(n)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(n logn)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(n logn)</td>
+ * 	</tr>
+ * </table>
+ *
+ * @author  Sathvik
+ * @version 1.0
+ * @see <a href="Linked_List.html">Linked_List</a>
+ */
+public class UnrolledLinkedList
+{
+	private static final class Chunk_Char
+	{
+		Chunk_Char prev = null;
+		final char[] data;
+		int count = 0;
+		Chunk_Char next = null;
+		Chunk_Char(int capacity)
+		{
+			data = new char[capacity];
+		}
+	}
+
+	private static final class Chunk_Byte
+	{
+		Chunk_Byte prev = null;
+		final byte[] data;
+		int count = 0;
+		Chunk_Byte next = null;
+		Chunk_Byte(int capacity)
+		{
+			data = new byte[capacity];
+		}
+	}
+
+	private static final class Chunk_Short
+	{
+		Chunk_Short prev = null;
+		final short[] data;
+		int count = 0;
+		Chunk_Short next = null;
+		Chunk_Short(int capacity)
+		{
+			data = new short[capacity];
+		}
+	}
+
+	private static final class Chunk_Int
+	{
+		Chunk_Int prev = null;
+		final int[] data;
+		int count = 0;
+		Chunk_Int next = null;
+		Chunk_Int(int capacity)
+		{
+			data = new int[capacity];
+		}
+	}
+
+	private static final class Chunk_Long
+	{
+		Chunk_Long prev = null;
+		final long[] data;
+		int count = 0;
+		Chunk_Long next = null;
+		Chunk_Long(int capacity)
+		{
+			data = new long[capacity];
+		}
+	}
+
+	private static final class Chunk_Float
+	{
+		Chunk_Float prev = null;
+		final float[] data;
+		int count = 0;
+		Chunk_Float next = null;
+		Chunk_Float(int capacity)
+		{
+			data = new float[capacity];
+		}
+	}
+
+	private static final class Chunk_Double
+	{
+		Chunk_Double prev = null;
+		final double[] data;
+		int count = 0;
+		Chunk_Double next = null;
+		Chunk_Double(int capacity)
+		{
+			data = new double[capacity];
+		}
+	}
+
+	private Chunk_Char first_char = null;
+	private Chunk_Char last_char = null;
+	private Chunk_Byte first_byte = null;
+	private Chunk_Byte last_byte = null;
+	private Chunk_Short first_short = null;
+	private Chunk_Short last_short = null;
+	private Chunk_Int first_int = null;
+	private Chunk_Int last_int = null;
+	private Chunk_Long first_long = null;
+	private Chunk_Long last_long = null;
+	private Chunk_Float first_float = null;
+	private Chunk_Float last_float = null;
+	private Chunk_Double first_double = null;
+	private Chunk_Double last_double = null;
+	
+	private byte[] choice = {0, 0, 0, 0, 0, 0, 0};
+	
+	private final byte ONE = 1;
+	
+	private long size = 0;
+	
+	private final int chunkCapacity;
+	
+	// index within its chunk of the component found by the last locate
+	private int position;
+	
+	/**
+	 * Constructs an unrolled linked list according to choice specified, with chunks of 64 components. 
+	 *
+	 * @param choice <pre style="display: inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 *
+	 * @throws NullPointerException {@code if(choice == null)}
+	 * @throws IllegalArgumentException <pre style="display: inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 */
+	public UnrolledLinkedList(String choice)
+	{
+		this(choice, 64);
+	}
+	
+	/**
+	 * Constructs an unrolled linked list according to choice specified, with chunks of
+	 * {@code chunkCapacity} components. 
+	 *
+	 * @param choice <pre style="display: inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * @param chunkCapacity the number of components a chunk holds
+	 *
+	 * @throws NullPointerException {@code if(choice == null)}
+	 * @throws IllegalArgumentException <pre style="display: inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 * @throws IllegalArgumentException {@code if(chunkCapacity < 4)}
+	 */
+	public UnrolledLinkedList(String choice, int chunkCapacity)
+	{
+		if (choice == null)
+		{
+			throw new NullPointerException();
+		}
+		if (chunkCapacity < 4)
+		{
+			throw new IllegalArgumentException("Illegal Chunk Capacity: " + chunkCapacity);
+		}
+		this.chunkCapacity = chunkCapacity;
+		
+		choice = choice.trim().toLowerCase();
+		if (choice.equals("char"))
+		{
+			this.choice[0] = ONE;
+		}
+		else if (choice.equals("byte"))
+		{
+			this.choice[1] = ONE;
+		}
+		else if (choice.equals("short"))
+		{
+			this.choice[2] = ONE;
+		}
+		else if (choice.equals("int"))
+		{
+			this.choice[3] = ONE;
+		}
+		else if (choice.equals("long"))
+		{
+			this.choice[4] = ONE;
+		}
+		else if (choice.equals("float"))
+		{
+			this.choice[5] = ONE;
+		}
+		else if (choice.equals("double"))
+		{
+			this.choice[6] = ONE;
+		}
+		else
+		{
+			throw new IllegalArgumentException("Invalid choice \"" + choice +  
+			"\", excepted \"char\" or \"byte\" or \"short\" or \"int\" or \"long\" or \"float\" or \"double\".");
+		}
+	}
+
+	private void choiceCheck(int index)
+	{
+		if(choice[index] != ONE)
+		{
+			if(index == 0)
+			{
+				throw new IllegalArgumentException("\'char\' method call not allowed");
+			}
+			else if(index == 1)
+			{
+				throw new IllegalArgumentException("\'byte\' method call not allowed");
+			}
+			else if(index == 2)
+			{
+				throw new IllegalArgumentException("\'short\' method call not allowed");
+			}
+			else if(index == 3)
+			{
+				throw new IllegalArgumentException("\'int\' method call not allowed");
+			}
+			else if(index == 4)
+			{
+				throw new IllegalArgumentException("\'long\' method call not allowed");
+			}
+			else if(index == 5)
+			{
+				throw new IllegalArgumentException("\'float\' method call not allowed");
+			}
+			else
+			{
+				throw new IllegalArgumentException("\'double\' method call not allowed");
+			}
+		}
+	}
+	
+	private void rangeCheck(long index)
+	{
+		if(index > size)
+		{
+			throw new IndexOutOfBoundsException(index + " > " + size);
+		}
+		if(index < 0)
+		{
+			throw new IndexOutOfBoundsException();
+		}
+	}
+	
+	private void rangeCheck0(long index)
+	{
+		if(index >= size)
+		{
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		if(index < 0)
+		{
+			throw new IndexOutOfBoundsException("" + index);
+		}
+	}
+	
+	// char chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Char locate_char(long index)
+	{
+		Chunk_Char chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_char;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_char;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Char linkAfter_char(Chunk_Char chunk)
+	{
+		Chunk_Char temp = new Chunk_Char(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_char : chunk.next;
+		if(temp.prev == null)
+		{
+			first_char = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_char = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_char(Chunk_Char chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_char = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_char = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_char(Chunk_Char chunk, int p, char element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Char next = linkAfter_char(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_char(Chunk_Char chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_char(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Char a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_char(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	// byte chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Byte locate_byte(long index)
+	{
+		Chunk_Byte chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_byte;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_byte;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Byte linkAfter_byte(Chunk_Byte chunk)
+	{
+		Chunk_Byte temp = new Chunk_Byte(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_byte : chunk.next;
+		if(temp.prev == null)
+		{
+			first_byte = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_byte = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_byte(Chunk_Byte chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_byte = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_byte = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_byte(Chunk_Byte chunk, int p, byte element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Byte next = linkAfter_byte(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_byte(Chunk_Byte chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_byte(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Byte a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_byte(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	// short chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Short locate_short(long index)
+	{
+		Chunk_Short chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_short;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_short;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Short linkAfter_short(Chunk_Short chunk)
+	{
+		Chunk_Short temp = new Chunk_Short(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_short : chunk.next;
+		if(temp.prev == null)
+		{
+			first_short = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_short = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_short(Chunk_Short chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_short = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_short = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_short(Chunk_Short chunk, int p, short element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Short next = linkAfter_short(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_short(Chunk_Short chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_short(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Short a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_short(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	// int chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Int locate_int(long index)
+	{
+		Chunk_Int chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_int;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_int;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Int linkAfter_int(Chunk_Int chunk)
+	{
+		Chunk_Int temp = new Chunk_Int(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_int : chunk.next;
+		if(temp.prev == null)
+		{
+			first_int = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_int = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_int(Chunk_Int chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_int = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_int = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_int(Chunk_Int chunk, int p, int element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Int next = linkAfter_int(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_int(Chunk_Int chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_int(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Int a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_int(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	// long chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Long locate_long(long index)
+	{
+		Chunk_Long chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_long;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_long;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Long linkAfter_long(Chunk_Long chunk)
+	{
+		Chunk_Long temp = new Chunk_Long(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_long : chunk.next;
+		if(temp.prev == null)
+		{
+			first_long = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_long = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_long(Chunk_Long chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_long = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_long = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_long(Chunk_Long chunk, int p, long element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Long next = linkAfter_long(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_long(Chunk_Long chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_long(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Long a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_long(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	// float chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Float locate_float(long index)
+	{
+		Chunk_Float chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_float;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_float;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Float linkAfter_float(Chunk_Float chunk)
+	{
+		Chunk_Float temp = new Chunk_Float(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_float : chunk.next;
+		if(temp.prev == null)
+		{
+			first_float = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_float = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_float(Chunk_Float chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_float = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_float = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_float(Chunk_Float chunk, int p, float element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Float next = linkAfter_float(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_float(Chunk_Float chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_float(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Float a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_float(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	// double chunks
+	// returns the chunk holding the component at index, 0 <= index < size, and sets position
+	private Chunk_Double locate_double(long index)
+	{
+		Chunk_Double chunk;
+		if(index < (size >> 1))
+		{
+			chunk = first_double;
+			while(index >= chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		else
+		{
+			// walk back over the remaining size - index components
+			chunk = last_double;
+			index = size - index;
+			while(index > chunk.count)
+			{
+				index -= chunk.count;
+				chunk = chunk.prev;
+			}
+			index = chunk.count - index;
+		}
+		position = (int)index;
+		return chunk;
+	}
+	
+	// links a new chunk after chunk, or first if chunk is null
+	private Chunk_Double linkAfter_double(Chunk_Double chunk)
+	{
+		Chunk_Double temp = new Chunk_Double(chunkCapacity);
+		temp.prev = chunk;
+		temp.next = chunk == null ? first_double : chunk.next;
+		if(temp.prev == null)
+		{
+			first_double = temp;
+		}
+		else
+		{
+			temp.prev.next = temp;
+		}
+		if(temp.next == null)
+		{
+			last_double = temp;
+		}
+		else
+		{
+			temp.next.prev = temp;
+		}
+		return temp;
+	}
+	
+	private void unlink_double(Chunk_Double chunk)
+	{
+		if(chunk.prev == null)
+		{
+			first_double = chunk.next;
+		}
+		else
+		{
+			chunk.prev.next = chunk.next;
+		}
+		if(chunk.next == null)
+		{
+			last_double = chunk.prev;
+		}
+		else
+		{
+			chunk.next.prev = chunk.prev;
+		}
+		chunk.prev = chunk.next = null;
+	}
+	
+	// inserts element at position p of chunk, splitting the chunk if it is full
+	private void insert_double(Chunk_Double chunk, int p, double element)
+	{
+		if(chunk.count == chunkCapacity)
+		{
+			Chunk_Double next = linkAfter_double(chunk);
+			int half = chunkCapacity >> 1;
+			System.arraycopy(chunk.data, half, next.data, 0, chunkCapacity - half);
+			next.count = chunkCapacity - half;
+			chunk.count = half;
+			if(p > half)
+			{
+				chunk = next;
+				p -= half;
+			}
+		}
+		System.arraycopy(chunk.data, p, chunk.data, p + 1, chunk.count - p);
+		chunk.data[p] = element;
+		chunk.count++;
+		size++;
+	}
+	
+	// removes the component at position p of chunk, merging or refilling the chunk
+	// once it is less than a quarter full
+	private void delete_double(Chunk_Double chunk, int p)
+	{
+		System.arraycopy(chunk.data, p + 1, chunk.data, p, chunk.count - p - 1);
+		chunk.count--;
+		size--;
+		if(chunk.count == 0)
+		{
+			unlink_double(chunk);
+			return;
+		}
+		if(chunk.count >= (chunkCapacity >> 2))
+		{
+			return;
+		}
+		Chunk_Double a = chunk, b = chunk.next;
+		if(b == null)
+		{
+			a = chunk.prev;
+			b = chunk;
+			if(a == null)
+			{
+				return;
+			}
+		}
+		if(a.count + b.count <= chunkCapacity)
+		{
+			System.arraycopy(b.data, 0, a.data, a.count, b.count);
+			a.count += b.count;
+			unlink_double(b);
+		}
+		else
+		{
+			// both keep half of the components
+			int half = (a.count + b.count) >> 1;
+			if(a.count < half)
+			{
+				int m = half - a.count;
+				System.arraycopy(b.data, 0, a.data, a.count, m);
+				System.arraycopy(b.data, m, b.data, 0, b.count - m);
+				a.count += m;
+				b.count -= m;
+			}
+			else
+			{
+				int m = a.count - half;
+				System.arraycopy(b.data, 0, b.data, m, b.count);
+				System.arraycopy(a.data, half, b.data, 0, m);
+				a.count -= m;
+				b.count += m;
+			}
+		}
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(char).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(char element)
+	{
+		choiceCheck(0);
+		if(last_char == null || last_char.count == chunkCapacity)
+		{
+			linkAfter_char(last_char);
+		}
+		last_char.data[last_char.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(char).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, char element)
+	{
+		choiceCheck(0);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Char chunk = locate_char(index);
+		insert_char(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(char), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(char element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(char), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(char element, long index) 
+	{
+		choiceCheck(0);
+		rangeCheck0(index);
+		Chunk_Char chunk = locate_char(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			char[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(char), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(char element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(char), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(char element, long index) 
+	{
+		choiceCheck(0);
+		rangeCheck0(index);
+		Chunk_Char chunk = locate_char(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			char[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(char)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(char element)
+	{
+		choiceCheck(0);
+		for(Chunk_Char chunk = first_char; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_char(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(char) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 */
+	public synchronized boolean contains(char element) 
+	{
+		choiceCheck(0);
+		for(Chunk_Char chunk = first_char; chunk != null; chunk = chunk.next)
+		{
+			char[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(char).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(char oldElement, char newElement) 
+	{
+		choiceCheck(0);
+		boolean flag = false;
+		for(Chunk_Char chunk = first_char; chunk != null; chunk = chunk.next)
+		{
+			char[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(char).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(char newElement, long index) 
+	{
+		choiceCheck(0);
+		rangeCheck0(index);
+		locate_char(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(byte).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(byte element)
+	{
+		choiceCheck(1);
+		if(last_byte == null || last_byte.count == chunkCapacity)
+		{
+			linkAfter_byte(last_byte);
+		}
+		last_byte.data[last_byte.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(byte).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, byte element)
+	{
+		choiceCheck(1);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Byte chunk = locate_byte(index);
+		insert_byte(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(byte), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(byte element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(byte), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(byte element, long index) 
+	{
+		choiceCheck(1);
+		rangeCheck0(index);
+		Chunk_Byte chunk = locate_byte(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			byte[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(byte), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(byte element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(byte), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(byte element, long index) 
+	{
+		choiceCheck(1);
+		rangeCheck0(index);
+		Chunk_Byte chunk = locate_byte(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			byte[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(byte)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(byte element)
+	{
+		choiceCheck(1);
+		for(Chunk_Byte chunk = first_byte; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_byte(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(byte) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 */
+	public synchronized boolean contains(byte element) 
+	{
+		choiceCheck(1);
+		for(Chunk_Byte chunk = first_byte; chunk != null; chunk = chunk.next)
+		{
+			byte[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(byte).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(byte oldElement, byte newElement) 
+	{
+		choiceCheck(1);
+		boolean flag = false;
+		for(Chunk_Byte chunk = first_byte; chunk != null; chunk = chunk.next)
+		{
+			byte[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(byte).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(byte newElement, long index) 
+	{
+		choiceCheck(1);
+		rangeCheck0(index);
+		locate_byte(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(short).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(short element)
+	{
+		choiceCheck(2);
+		if(last_short == null || last_short.count == chunkCapacity)
+		{
+			linkAfter_short(last_short);
+		}
+		last_short.data[last_short.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(short).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, short element)
+	{
+		choiceCheck(2);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Short chunk = locate_short(index);
+		insert_short(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(short), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(short element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(short), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(short element, long index) 
+	{
+		choiceCheck(2);
+		rangeCheck0(index);
+		Chunk_Short chunk = locate_short(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			short[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(short), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(short element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(short), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(short element, long index) 
+	{
+		choiceCheck(2);
+		rangeCheck0(index);
+		Chunk_Short chunk = locate_short(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			short[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(short)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(short element)
+	{
+		choiceCheck(2);
+		for(Chunk_Short chunk = first_short; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_short(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(short) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 */
+	public synchronized boolean contains(short element) 
+	{
+		choiceCheck(2);
+		for(Chunk_Short chunk = first_short; chunk != null; chunk = chunk.next)
+		{
+			short[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(short).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(short oldElement, short newElement) 
+	{
+		choiceCheck(2);
+		boolean flag = false;
+		for(Chunk_Short chunk = first_short; chunk != null; chunk = chunk.next)
+		{
+			short[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(short).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(short newElement, long index) 
+	{
+		choiceCheck(2);
+		rangeCheck0(index);
+		locate_short(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(int).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(int element)
+	{
+		choiceCheck(3);
+		if(last_int == null || last_int.count == chunkCapacity)
+		{
+			linkAfter_int(last_int);
+		}
+		last_int.data[last_int.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(int).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, int element)
+	{
+		choiceCheck(3);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Int chunk = locate_int(index);
+		insert_int(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(int), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(int element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(int), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(int element, long index) 
+	{
+		choiceCheck(3);
+		rangeCheck0(index);
+		Chunk_Int chunk = locate_int(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			int[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(int), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(int element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(int), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(int element, long index) 
+	{
+		choiceCheck(3);
+		rangeCheck0(index);
+		Chunk_Int chunk = locate_int(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			int[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(int)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(int element)
+	{
+		choiceCheck(3);
+		for(Chunk_Int chunk = first_int; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_int(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(int) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 */
+	public synchronized boolean contains(int element) 
+	{
+		choiceCheck(3);
+		for(Chunk_Int chunk = first_int; chunk != null; chunk = chunk.next)
+		{
+			int[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(int).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(int oldElement, int newElement) 
+	{
+		choiceCheck(3);
+		boolean flag = false;
+		for(Chunk_Int chunk = first_int; chunk != null; chunk = chunk.next)
+		{
+			int[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(int).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(int newElement, long index) 
+	{
+		choiceCheck(3);
+		rangeCheck0(index);
+		locate_int(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(long).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(long element)
+	{
+		choiceCheck(4);
+		if(last_long == null || last_long.count == chunkCapacity)
+		{
+			linkAfter_long(last_long);
+		}
+		last_long.data[last_long.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(long).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, long element)
+	{
+		choiceCheck(4);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Long chunk = locate_long(index);
+		insert_long(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(long), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(long element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(long), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(long element, long index) 
+	{
+		choiceCheck(4);
+		rangeCheck0(index);
+		Chunk_Long chunk = locate_long(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			long[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(long), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(long element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(long), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(long element, long index) 
+	{
+		choiceCheck(4);
+		rangeCheck0(index);
+		Chunk_Long chunk = locate_long(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			long[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(long)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(long element)
+	{
+		choiceCheck(4);
+		for(Chunk_Long chunk = first_long; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_long(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(long) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 */
+	public synchronized boolean contains(long element) 
+	{
+		choiceCheck(4);
+		for(Chunk_Long chunk = first_long; chunk != null; chunk = chunk.next)
+		{
+			long[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(long).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(long oldElement, long newElement) 
+	{
+		choiceCheck(4);
+		boolean flag = false;
+		for(Chunk_Long chunk = first_long; chunk != null; chunk = chunk.next)
+		{
+			long[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(long).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(long newElement, long index) 
+	{
+		choiceCheck(4);
+		rangeCheck0(index);
+		locate_long(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(float).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(float element)
+	{
+		choiceCheck(5);
+		if(last_float == null || last_float.count == chunkCapacity)
+		{
+			linkAfter_float(last_float);
+		}
+		last_float.data[last_float.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(float).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, float element)
+	{
+		choiceCheck(5);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Float chunk = locate_float(index);
+		insert_float(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(float), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(float element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(float), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(float element, long index) 
+	{
+		choiceCheck(5);
+		rangeCheck0(index);
+		Chunk_Float chunk = locate_float(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			float[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(float), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(float element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(float), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(float element, long index) 
+	{
+		choiceCheck(5);
+		rangeCheck0(index);
+		Chunk_Float chunk = locate_float(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			float[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(float)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(float element)
+	{
+		choiceCheck(5);
+		for(Chunk_Float chunk = first_float; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_float(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(float) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 */
+	public synchronized boolean contains(float element) 
+	{
+		choiceCheck(5);
+		for(Chunk_Float chunk = first_float; chunk != null; chunk = chunk.next)
+		{
+			float[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(float).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(float oldElement, float newElement) 
+	{
+		choiceCheck(5);
+		boolean flag = false;
+		for(Chunk_Float chunk = first_float; chunk != null; chunk = chunk.next)
+		{
+			float[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(float).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(float newElement, long index) 
+	{
+		choiceCheck(5);
+		rangeCheck0(index);
+		locate_float(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Appends the specified element to the end of this UnrolledLinkedList(double).
+	 *
+	 * @param element element to be appended to this UnrolledLinkedList
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(double element)
+	{
+		choiceCheck(6);
+		if(last_double == null || last_double.count == chunkCapacity)
+		{
+			linkAfter_double(last_double);
+		}
+		last_double.data[last_double.count++] = element;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Inserts the specified element at the specified position in this UnrolledLinkedList(double).
+	 *
+	 * @param index index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean add(long index, double element)
+	{
+		choiceCheck(6);
+		rangeCheck(index);
+		if(index == size)
+		{
+			return add(element);
+		}
+		Chunk_Double chunk = locate_double(index);
+		insert_double(chunk, position, element);
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this UnrolledLinkedList(double), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */	
+	public synchronized long indexOf(double element) 
+	{
+		return indexOf(element, 0);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this UnrolledLinkedList(double), searching forwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this UnrolledLinkedList at position {@code index} or later in the UnrolledLinkedList;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long indexOf(double element, long index) 
+	{
+		choiceCheck(6);
+		rangeCheck0(index);
+		Chunk_Double chunk = locate_double(index);
+		long base = index - position;
+		for(int p = position; chunk != null; chunk = chunk.next, p = 0)
+		{
+			double[] data = chunk.data;
+			for(int n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			base += chunk.count;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this UnrolledLinkedList(double), or -1 if this UnrolledLinkedList does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this UnrolledLinkedList, or -1 if this UnrolledLinkedList does not contain the element
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException if UnrolledLinkedList is empty
+	 */
+	public synchronized long lastIndexOf(double element)
+	{
+		return lastIndexOf(element, (size-1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this UnrolledLinkedList(double), searching backwards from {@code index}, or returns -1 if
+	 * the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this UnrolledLinkedList;
+	 *         -1 if the element is not found.
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized long lastIndexOf(double element, long index) 
+	{
+		choiceCheck(6);
+		rangeCheck0(index);
+		Chunk_Double chunk = locate_double(index);
+		long base = index - position;
+		for(int p = position; chunk != null; )
+		{
+			double[] data = chunk.data;
+			for(; p > -1; p--)
+			{
+				if(data[p] == element)
+				{
+					return base + p;
+				}
+			}
+			chunk = chunk.prev;
+			if(chunk != null)
+			{
+				base -= chunk.count;
+				p = chunk.count - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the first occurrence of the specified element in this UnrolledLinkedList(double)
+	 * If the UnrolledLinkedList does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this UnrolledLinkedList, if present
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @return true if the UnrolledLinkedList contained the specified element; else false
+	 */
+	public synchronized boolean remove(double element)
+	{
+		choiceCheck(6);
+		for(Chunk_Double chunk = first_double; chunk != null; chunk = chunk.next)
+		{
+			for(int p = 0; p < chunk.count; p++)
+			{
+				if(chunk.data[p] == element)
+				{
+					delete_double(chunk, p);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if this UnrolledLinkedList(double) contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this UnrolledLinkedList is to be tested
+	 * @return {@code true} if this UnrolledLinkedList contains the specified element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 */
+	public synchronized boolean contains(double element) 
+	{
+		choiceCheck(6);
+		for(Chunk_Double chunk = first_double; chunk != null; chunk = chunk.next)
+		{
+			double[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == element)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this UnrolledLinkedList(double).
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)} 
+	 * @return {@code true} if atleast one {@code oldElement} element is replaces with {@code newElement}
+	 */
+	public synchronized boolean replace(double oldElement, double newElement) 
+	{
+		choiceCheck(6);
+		boolean flag = false;
+		for(Chunk_Double chunk = first_double; chunk != null; chunk = chunk.next)
+		{
+			double[] data = chunk.data;
+			for(int p = 0, n = chunk.count; p < n; p++)
+			{
+				if(data[p] == oldElement)
+				{
+					flag = true;
+					data[p] = newElement;
+				}
+			}
+		}
+		return flag;
+	}
+	
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this UnrolledLinkedList(double).
+	 *
+	 * @param newElement the new element
+	 * @param index index at which element is to be placed
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized void replaceAt(double newElement, long index) 
+	{
+		choiceCheck(6);
+		rangeCheck0(index);
+		locate_double(index).data[position] = newElement;
+	}
+	
+	/**
+	 * Removes the element at the specified position in this UnrolledLinkedList.
+	 * Returns the element that was removed from the UnrolledLinkedList.
+	 *
+	 * @param index the index of the element to be removed
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @return element that was removed
+	 */
+	public synchronized Object removeAtIndex(long index)
+	{
+		rangeCheck0(index);
+		Object o;
+		if (choice[0] == ONE)
+		{
+			Chunk_Char chunk = locate_char(index);
+			o = chunk.data[position];
+			delete_char(chunk, position);
+		}
+		else if(choice[1] == ONE)
+		{
+			Chunk_Byte chunk = locate_byte(index);
+			o = chunk.data[position];
+			delete_byte(chunk, position);
+		}
+		else if(choice[2] == ONE)
+		{
+			Chunk_Short chunk = locate_short(index);
+			o = chunk.data[position];
+			delete_short(chunk, position);
+		}
+		else if(choice[3] == ONE)
+		{
+			Chunk_Int chunk = locate_int(index);
+			o = chunk.data[position];
+			delete_int(chunk, position);
+		}
+		else if(choice[4] == ONE)
+		{
+			Chunk_Long chunk = locate_long(index);
+			o = chunk.data[position];
+			delete_long(chunk, position);
+		}
+		else if(choice[5] == ONE)
+		{
+			Chunk_Float chunk = locate_float(index);
+			o = chunk.data[position];
+			delete_float(chunk, position);
+		}
+		else
+		{
+			Chunk_Double chunk = locate_double(index);
+			o = chunk.data[position];
+			delete_double(chunk, position);
+		}
+		return o;
+	}
+	
+	/**
+	 * Returns the element at the specified position in this UnrolledLinkedList.
+	 *
+	 * @param index index of the element to return
+	 * @return object at the specified index
+	 * @throws IndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */	
+	public synchronized Object get(long index) 
+	{
+		rangeCheck0(index);
+		if (choice[0] == ONE)
+		{
+			return (Object)locate_char(index).data[position];
+		}
+		else if(choice[1] == ONE)
+		{
+			return (Object)locate_byte(index).data[position];
+		}
+		else if(choice[2] == ONE)
+		{
+			return (Object)locate_short(index).data[position];
+		}
+		else if(choice[3] == ONE)
+		{
+			return (Object)locate_int(index).data[position];
+		}
+		else if(choice[4] == ONE)
+		{
+			return (Object)locate_long(index).data[position];
+		}
+		else if(choice[5] == ONE)
+		{
+			return (Object)locate_float(index).data[position];
+		}
+		else
+		{
+			return (Object)locate_double(index).data[position];
+		}
+	}
+	
+	/**
+	 * Tests if this UnrolledLinkedList has no components.
+	 *
+	 * @return  {@code true} if and only if this UnrolledLinkedList has
+	 *          no components, that is, its size is zero;
+	 *          {@code false} otherwise.
+	 */	
+	public synchronized boolean isEmpty() 
+	{
+		return size == 0;
+	}
+	
+	/**
+	 * Returns the first component (the item at index {@code 0}) of
+	 * the UnrolledLinkedList.
+	 *
+	 * @return {@code null} if UnrolledLinkedList is empty, else the first component of the UnrolledLinkedList
+	 */	
+	public synchronized Object firstElement() 
+	{
+		if(isEmpty())
+		{
+			return null;
+		}
+		if (choice[0] == ONE)
+		{
+			return (Object)first_char.data[0];
+		}
+		else if(choice[1] == ONE)
+		{
+			return (Object)first_byte.data[0];
+		}
+		else if(choice[2] == ONE)
+		{
+			return (Object)first_short.data[0];
+		}
+		else if(choice[3] == ONE)
+		{
+			return (Object)first_int.data[0];
+		}
+		else if(choice[4] == ONE)
+		{
+			return (Object)first_long.data[0];
+		}
+		else if(choice[5] == ONE)
+		{
+			return (Object)first_float.data[0];
+		}
+		else
+		{
+			return (Object)first_double.data[0];
+		}
+	}
+	
+	/**
+	 * Returns the last component of the UnrolledLinkedList.
+	 *
+	 * @return {@code null} if UnrolledLinkedList is empty, else the last component of the UnrolledLinkedList
+	 */
+	public synchronized Object lastElement() 
+	{
+		if(isEmpty())
+		{
+			return null;
+		}
+		if (choice[0] == ONE)
+		{
+			return (Object)last_char.data[last_char.count - 1];
+		}
+		else if(choice[1] == ONE)
+		{
+			return (Object)last_byte.data[last_byte.count - 1];
+		}
+		else if(choice[2] == ONE)
+		{
+			return (Object)last_short.data[last_short.count - 1];
+		}
+		else if(choice[3] == ONE)
+		{
+			return (Object)last_int.data[last_int.count - 1];
+		}
+		else if(choice[4] == ONE)
+		{
+			return (Object)last_long.data[last_long.count - 1];
+		}
+		else if(choice[5] == ONE)
+		{
+			return (Object)last_float.data[last_float.count - 1];
+		}
+		else
+		{
+			return (Object)last_double.data[last_double.count - 1];
+		}
+	}
+	
+	/**
+	 * Sorts this UnrolledLinkedList according to the order specified by the character {@code c}.<br>
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public synchronized void sort(char c)
+	{
+		sort(0, (int)size, c);
+	}
+	
+	/**
+	 * Sorts the specified range of this UnrolledLinkedList according to the order specified by
+	 * the character {@code c}. The range is copied into a primitive array, sorted with
+	 * {@link Arrays#sort(int[], int, int) Arrays.sort} and copied back into the chunks.
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending order,
+	 *			{@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex the index of the last element, exclusive, to be sorted
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > size())}
+	 */
+	public synchronized void sort(int fromIndex, int toIndex, char c)
+	{
+		if(c != 'a' && c != 'A' && c != 'd' && c != 'D')
+		{
+			throw new IllegalArgumentException("Invalid choice \'" + c + 
+			"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+		}
+		if(fromIndex < 0 || toIndex > size)
+		{
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", "+toIndex + "]");
+		}
+		if(fromIndex > toIndex)
+		{
+			throw new IllegalArgumentException("fromIndex(" + fromIndex +
+												") > toIndex(" + toIndex + ")");
+		}
+		if(toIndex - fromIndex < 2)
+		{
+			return;
+		}
+		boolean descending = c == 'd' || c == 'D';
+		if (choice[0] == ONE)
+		{
+			char[] a = new char[toIndex - fromIndex];
+			Chunk_Char start = locate_char(fromIndex);
+			int p = position;
+			Chunk_Char chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				char temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+		else if(choice[1] == ONE)
+		{
+			byte[] a = new byte[toIndex - fromIndex];
+			Chunk_Byte start = locate_byte(fromIndex);
+			int p = position;
+			Chunk_Byte chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				byte temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+		else if(choice[2] == ONE)
+		{
+			short[] a = new short[toIndex - fromIndex];
+			Chunk_Short start = locate_short(fromIndex);
+			int p = position;
+			Chunk_Short chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				short temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+		else if(choice[3] == ONE)
+		{
+			int[] a = new int[toIndex - fromIndex];
+			Chunk_Int start = locate_int(fromIndex);
+			int p = position;
+			Chunk_Int chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				int temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+		else if(choice[4] == ONE)
+		{
+			long[] a = new long[toIndex - fromIndex];
+			Chunk_Long start = locate_long(fromIndex);
+			int p = position;
+			Chunk_Long chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				long temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+		else if(choice[5] == ONE)
+		{
+			float[] a = new float[toIndex - fromIndex];
+			Chunk_Float start = locate_float(fromIndex);
+			int p = position;
+			Chunk_Float chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				float temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+		else
+		{
+			double[] a = new double[toIndex - fromIndex];
+			Chunk_Double start = locate_double(fromIndex);
+			int p = position;
+			Chunk_Double chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(chunk.data, p, a, i, m);
+				i += m;
+			}
+			Arrays.sort(a);
+			if(descending)
+			{
+				double temp;
+				for(int i = 0, j = a.length - 1; i < j; i++, j--)
+				{
+					temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			}
+			p = position;
+			chunk = start;
+			for(int i = 0; i < a.length; chunk = chunk.next, p = 0)
+			{
+				int m = Math.min(chunk.count - p, a.length - i);
+				System.arraycopy(a, i, chunk.data, p, m);
+				i += m;
+			}
+		}
+	}
+	
+	/**
+	 * Removes all of the elements from this UnrolledLinkedList.  The UnrolledLinkedList will
+	 * be empty after this call returns (unless it throws an exception).
+	 */	
+	public synchronized void clear() 
+	{
+		size = 0;
+		if (choice[0] == ONE)
+		{
+			first_char = null;
+			last_char = null;
+		}
+		else if(choice[1] == ONE)
+		{
+			first_byte = null;
+			last_byte = null;
+		}
+		else if(choice[2] == ONE)
+		{
+			first_short = null;
+			last_short = null;
+		}
+		else if(choice[3] == ONE)
+		{
+			first_int = null;
+			last_int = null;
+		}
+		else if(choice[4] == ONE)
+		{
+			first_long = null;
+			last_long = null;
+		}
+		else if(choice[5] == ONE)
+		{
+			first_float = null;
+			last_float = null;
+		}
+		else
+		{
+			first_double = null;
+			last_double = null;
+		}
+	}
+	
+	/**
+	 * Returns the number of components in this UnrolledLinkedList.
+	 *
+	 * @return the number of components in this UnrolledLinkedList
+	 */	
+	public synchronized long size() 
+	{
+		return size;
+	}
+	
+	/**
+	 * Returns an array containing all of the elements in this UnrolledLinkedList.
+	 * 
+	 * <p>The returned array will be "safe" in that no references to it are
+	 * maintained by the UnrolledLinkedList.  (In other words, this method must allocate
+	 * a new array). The caller is thus free to modify the returned array.</p>
+	 * 
+	 * @return an array containing all of the elements in this UnrolledLinkedList
+	 */
+	public synchronized Object[] toArray()
+	{
+		Object[] o = new Object[(int)size];
+		int i = 0;
+		if (choice[0] == ONE)
+		{
+			for(Chunk_Char chunk = first_char; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		else if(choice[1] == ONE)
+		{
+			for(Chunk_Byte chunk = first_byte; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		else if(choice[2] == ONE)
+		{
+			for(Chunk_Short chunk = first_short; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		else if(choice[3] == ONE)
+		{
+			for(Chunk_Int chunk = first_int; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		else if(choice[4] == ONE)
+		{
+			for(Chunk_Long chunk = first_long; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		else if(choice[5] == ONE)
+		{
+			for(Chunk_Float chunk = first_float; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		else
+		{
+			for(Chunk_Double chunk = first_double; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					o[i++] = chunk.data[p];
+				}
+			}
+		}
+		return o;
+	}
+	
+	/**
+	 * Returns a string representation of the UnrolledLinkedList, enclosed in a square brackets ("[]")
+	 * and separated by comma and a space(", "). 
+	 *
+	 * @return a string representation of this UnrolledLinkedList
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		if(size == 0)
+		{
+			return "[]";
+		}
+		StringBuilder str = new StringBuilder(java.lang.Math.abs((3*(int)size) + 2));
+		str.append("[");
+		if (choice[0] == ONE)
+		{
+			for(Chunk_Char chunk = first_char; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		else if(choice[1] == ONE)
+		{
+			for(Chunk_Byte chunk = first_byte; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		else if(choice[2] == ONE)
+		{
+			for(Chunk_Short chunk = first_short; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		else if(choice[3] == ONE)
+		{
+			for(Chunk_Int chunk = first_int; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		else if(choice[4] == ONE)
+		{
+			for(Chunk_Long chunk = first_long; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		else if(choice[5] == ONE)
+		{
+			for(Chunk_Float chunk = first_float; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		else
+		{
+			for(Chunk_Double chunk = first_double; chunk != null; chunk = chunk.next)
+			{
+				for(int p = 0; p < chunk.count; p++)
+				{
+					str.append(chunk.data[p]).append(", ");
+				}
+			}
+		}
+		str.setLength(str.length() - 2);
+		return str.append("]").toString();
+	}
+}
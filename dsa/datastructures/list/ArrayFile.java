@@ -0,0 +1,90 @@
+package dsa.datastructures.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * The binary file format written by {@link DynamicArray#save(Path)}.
+ *
+ * <p>
+ * A file is a 16 byte header followed by the components in little-endian
+ * order. The header holds the magic number {@code "DYNA"}, the format
+ * version, the element type as the index of its choice
+ * ({@code 0 = char ... 6 = double}), two reserved bytes and the number of
+ * components as a little-endian {@code long}. The payload starts 16 bytes into
+ * the file, so every component is aligned to its size.
+ * </p>
+ *
+ * @author Sathvik
+ * @version 1.0
+ */
+final class ArrayFile {
+
+	// Suppresses default constructor, ensuring non-instantiability.
+	private ArrayFile() {}
+
+	static final int MAGIC = 0x414E5944; // "DYNA" read as a little-endian int
+
+	static final byte VERSION = 1;
+
+	static final int HEADER = 16;
+
+	/**
+	 * Payload is mapped in regions of at most this many bytes.
+	 */
+	static final long REGION = 1L << 30;
+
+	/**
+	 * Choice names indexed by element type.
+	 */
+	static final String[] NAMES = { "char", "byte", "short", "int", "long", "float", "double" };
+
+	/**
+	 * log2 of the component size in bytes indexed by element type.
+	 */
+	static final int[] SHIFT = { 1, 0, 1, 2, 3, 2, 3 };
+
+	static void writeHeader(FileChannel channel, int type, long size) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC).put(VERSION).put((byte) type).putShort((short) 0).putLong(size).flip();
+		while (header.hasRemaining()) {
+			channel.write(header, header.position());
+		}
+	}
+
+	/**
+	 * Reads and validates the header of {@code file}.
+	 *
+	 * @return {element type, size}
+	 * @throws IOException if {@code file} is not a valid array file
+	 */
+	static long[] readHeader(FileChannel channel, Path file) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+		while (header.hasRemaining()) {
+			if (channel.read(header, header.position()) < 0) {
+				throw new IOException("Not an array file, too short: " + file);
+			}
+		}
+		header.flip();
+		if (header.getInt() != MAGIC) {
+			throw new IOException("Not an array file, bad magic number: " + file);
+		}
+		byte version = header.get();
+		if (version != VERSION) {
+			throw new IOException("Unsupported array file version " + version + ": " + file);
+		}
+		int type = header.get();
+		if (type < 0 || type >= NAMES.length) {
+			throw new IOException("Invalid element type " + type + ": " + file);
+		}
+		header.getShort();
+		long size = header.getLong();
+		if (size < 0 || size > (channel.size() - HEADER) >> SHIFT[type]) {
+			throw new IOException("Invalid size " + size + " for a file of " + channel.size() + " bytes: " + file);
+		}
+		return new long[] { type, size };
+	}
+}
@@ -1,7 +1,31 @@
 package dsa.datastructures.list;
 
+import dsa.algorithms.search.BinarySearch;
 import dsa.algorithms.search.LinearSearch;
+import dsa.algorithms.sort.CountingSort;
+import dsa.algorithms.sort.MergeSort_Multithreading;
+import dsa.algorithms.sort.QuickSort;
+import dsa.algorithms.sort.RadixSort;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * The {@code DynamicArray} class contains components that can be accessed using
@@ -22,9 +46,55 @@ import java.util.Arrays;
  * </p>
  *
  * <p>
+ * How the capacity grows and when it shrinks back can also be given as a
+ * {@link GrowthPolicy}. {@link #growCount()} and {@link #shrinkCount()} count
+ * the reallocations a workload triggers.
+ * </p>
+ *
+ * <p>
  * {@code DynamicArray} is <b>thread-safe</b> and is implemented for
  * <b>primitive types</b> only.
  * </p>
+ *
+ * <p>
+ * A DynamicArray knows whether its components are in ascending order. Sorting
+ * it ascending makes it sorted, writes that put a component out of order make
+ * it unsorted, removals keep it as it is. While it is sorted
+ * {@code indexOf}, {@code lastIndexOf} and {@code contains} use
+ * {@link BinarySearch}, and {@code insertSorted}, {@code mergeSorted},
+ * {@code lowerBound}, {@code upperBound} and {@code rangeCount} can be used.
+ * float and double components are ordered like
+ * {@link Double#compare(double, double)}.
+ * </p>
+ *
+ * <p>
+ * When the element type is known up front, {@link CharDynamicArray},
+ * {@link ByteDynamicArray}, {@link ShortDynamicArray}, {@link IntDynamicArray},
+ * {@link LongDynamicArray}, {@link FloatDynamicArray} and
+ * {@link DoubleDynamicArray} hold a single array of that type and access it
+ * without type dispatch or boxing.
+ * </p>
+ *
+ * <p>
+ * Writers always serialize on the DynamicArray's monitor. How readers
+ * ({@code get}, {@code size}, {@code isEmpty}, {@code firstElement},
+ * {@code lastElement}, {@code indexOf}, {@code lastIndexOf}, {@code contains},
+ * {@code sum}, {@code min}, {@code max}, {@code isSorted}, {@code lowerBound},
+ * {@code upperBound} and {@code rangeCount}) synchronize is selected by the
+ * {@code concurrency} given at construction:
+ * </p>
+ * <ul>
+ * <li>{@code "synchronized"} (default) - readers take the monitor too.</li>
+ * <li>{@code "stamped"} - readers run without locking under a
+ * {@link StampedLock} optimistic read stamp and retry under the monitor only
+ * if a writer ran concurrently. Suited to many readers and rare writes.</li>
+ * <li>{@code "copyonwrite"} - every write publishes a copy of the elements
+ * and readers never lock or retry. Each write costs O(n) time and the copy
+ * doubles the memory held, so it suits small arrays that rarely change.</li>
+ * </ul>
+ * <p>
+ * The remaining methods take the monitor in every mode.
+ * </p>
  * 
  * <table style = "border: 1px solid black; border-collapse: collapse;" summary=
  * "Time complexity">
@@ -96,14 +166,31 @@ public class DynamicArray {
 	private int capacity;
 
 	/**
-	 * The amount by which the capacity of the {@code DynamicArray} is automatically
-	 * incremented when its size becomes greater than or equal to its capacity.
-	 * If {@code capacityIncrement} is not specified then incrementation is
-	 * {@code capacity += (capacity/2) + 1}.
+	 * Decides the capacity of the {@code DynamicArray} when its size becomes
+	 * greater than or equal to its capacity and when removals shrink it.
+	 * If neither {@code capacityIncrement} nor a policy is specified then
+	 * incrementation is {@code capacity += (capacity/2) + 1}.
 	 * If {@code capacityIncrement} is specified then incrementation is
 	 * {@code capacity += capacityIncrement}.
+	 * Either way the capacity shrinks to the size once the size drops below
+	 * {@code capacity/2}.
+	 */
+	private GrowthPolicy policy;
+
+	/**
+	 * Number of times the internal array was reallocated larger.
+	 */
+	private long grows = 0;
+
+	/**
+	 * Number of times the internal array was reallocated smaller.
 	 */
-	private int capacityIncrement;
+	private long shrinks = 0;
+
+	/**
+	 * {@code true} while the components are known to be in ascending order.
+	 */
+	private boolean sorted = true;
 
 	/**
 	 * {@code end} holds the last index of {@code DynamicArray}.
@@ -161,6 +248,32 @@ public class DynamicArray {
 
 	private final byte ONE = 1;
 
+	/**
+	 * Lock whose optimistic read stamps guard readers in {@code "stamped"} mode,
+	 * {@code null} in the other modes. Writers hold its write lock while they
+	 * modify the DynamicArray.
+	 */
+	private final StampedLock lock;
+
+	/**
+	 * {@code true} in {@code "copyonwrite"} mode.
+	 */
+	private final boolean copyOnWrite;
+
+	/**
+	 * Copy of this DynamicArray republished after every write in
+	 * {@code "copyonwrite"} mode, readers run against it without locking.
+	 */
+	private volatile DynamicArray view;
+
+	/**
+	 * Nesting depth of the write methods running on the current writer, only
+	 * the outermost one takes the write lock or publishes the {@code view}.
+	 */
+	private int writeDepth = 0;
+
+	private long writeStamp;
+
 	/**
 	 * Constructs an array according to choice specified, with the initial
 	 * capacity of {@code 11} and capacity increment of
@@ -226,7 +339,7 @@ public class DynamicArray {
 	 */
 	public DynamicArray(int initialCapacity, String choice) {
 		this(initialCapacity, 1, choice);
-		capacityIncrement = -1;
+		policy = GrowthPolicy.geometric(1.5);
 	}
 
 	/**
@@ -264,6 +377,108 @@ public class DynamicArray {
 	 *	 				!choice.equals("double"))}</pre>
 	 */
 	public DynamicArray(int initialCapacity, int capacityIncrement, String choice) {
+		this(initialCapacity, capacityIncrement, choice, "synchronized");
+	}
+
+	/**
+	 * Constructs an array according to choice specified, with the specified
+	 * initial capacity, capacity increment of
+	 * {@code capacity += (capacity/2) + 1} and the specified concurrency mode.<br>
+	 *
+	 * @param choice
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * 
+	 * @param concurrency
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(concurrency.equals("synchronized"))} then readers take the monitor.
+	 *	 {@code if(concurrency.equals("stamped"))} then readers use optimistic reads.
+	 *	 {@code if(concurrency.equals("copyonwrite"))} then readers use a copy published by each write.</pre>
+	 * 
+	 * @param initialCapacity the initial capacity of the DynamicArray
+	 *
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws NullPointerException     {@code if(choice == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 * @throws NullPointerException     {@code if(concurrency == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!concurrency.equals("synchronized") &&
+	 *	 				!concurrency.equals("stamped") && 
+	 *	 				!concurrency.equals("copyonwrite"))}</pre>
+	 */
+	public DynamicArray(int initialCapacity, String choice, String concurrency) {
+		this(initialCapacity, 1, choice, concurrency);
+		policy = GrowthPolicy.geometric(1.5);
+	}
+
+	/**
+	 * Constructs an array according to choice specified, with the specified
+	 * initial capacity, specified capacity increment of
+	 * {@code capacity += capacityIncrement} and the specified concurrency mode.<br>
+	 *
+	 * @param choice
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * 
+	 * @param concurrency
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(concurrency.equals("synchronized"))} then readers take the monitor.
+	 *	 {@code if(concurrency.equals("stamped"))} then readers use optimistic reads.
+	 *	 {@code if(concurrency.equals("copyonwrite"))} then readers use a copy published by each write.</pre>
+	 * 
+	 * @param initialCapacity   the initial capacity of the DynamicArray
+	 * @param capacityIncrement the amount by which the capacity is
+	 *                          increased when the DynamicArray overflows
+	 *
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws IllegalArgumentException {@code if(capacityIncrement < 1)}
+	 * @throws NullPointerException     {@code if(choice == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 * @throws NullPointerException     {@code if(concurrency == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!concurrency.equals("synchronized") &&
+	 *	 				!concurrency.equals("stamped") && 
+	 *	 				!concurrency.equals("copyonwrite"))}</pre>
+	 */
+	public DynamicArray(int initialCapacity, int capacityIncrement, String choice, String concurrency) {
 		if (initialCapacity > 0) {
 			capacity = initialCapacity;
 		} else if (initialCapacity == 0) {
@@ -273,7 +488,7 @@ public class DynamicArray {
 		}
 
 		if (capacityIncrement > 0) {
-			this.capacityIncrement = capacityIncrement;
+			this.policy = GrowthPolicy.fixed(capacityIncrement);
 		} else {
 			throw new IllegalArgumentException("Illegal Capacity Increment: " + capacityIncrement);
 		}
@@ -309,6 +524,163 @@ public class DynamicArray {
 			throw new IllegalArgumentException("Invalid choice \"" + choice +
 					"\", excepted \"char\" or \"byte\" or \"short\" or \"int\" or \"long\" or \"float\" or \"double\".");
 		}
+
+		if (concurrency == null) {
+			throw new NullPointerException();
+		}
+
+		concurrency = concurrency.trim().toLowerCase();
+
+		if (concurrency.equals("synchronized")) {
+			lock = null;
+			copyOnWrite = false;
+		} else if (concurrency.equals("stamped")) {
+			lock = new StampedLock();
+			copyOnWrite = false;
+		} else if (concurrency.equals("copyonwrite")) {
+			lock = null;
+			copyOnWrite = true;
+			view = new DynamicArray(this);
+		} else {
+			throw new IllegalArgumentException("Invalid concurrency \"" + concurrency +
+					"\", excepted \"synchronized\" or \"stamped\" or \"copyonwrite\".");
+		}
+	}
+
+	/**
+	 * Constructs an array according to choice specified, with the specified
+	 * initial capacity and growth policy.<br>
+	 *
+	 * @param choice
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * 
+	 * @param initialCapacity the initial capacity of the DynamicArray
+	 * @param policy          decides how the capacity grows and shrinks
+	 *
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws NullPointerException     {@code if(policy == null)}
+	 * @throws NullPointerException     {@code if(choice == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 */
+	public DynamicArray(int initialCapacity, GrowthPolicy policy, String choice) {
+		this(initialCapacity, policy, choice, "synchronized");
+	}
+
+	/**
+	 * Constructs an array according to choice specified, with the specified
+	 * initial capacity, growth policy and concurrency mode.<br>
+	 *
+	 * @param choice
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * 
+	 * @param concurrency
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(concurrency.equals("synchronized"))} then readers take the monitor.
+	 *	 {@code if(concurrency.equals("stamped"))} then readers use optimistic reads.
+	 *	 {@code if(concurrency.equals("copyonwrite"))} then readers use a copy published by each write.</pre>
+	 * 
+	 * @param initialCapacity the initial capacity of the DynamicArray
+	 * @param policy          decides how the capacity grows and shrinks
+	 *
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws NullPointerException     {@code if(policy == null)}
+	 * @throws NullPointerException     {@code if(choice == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 * @throws NullPointerException     {@code if(concurrency == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!concurrency.equals("synchronized") &&
+	 *	 				!concurrency.equals("stamped") && 
+	 *	 				!concurrency.equals("copyonwrite"))}</pre>
+	 */
+	public DynamicArray(int initialCapacity, GrowthPolicy policy, String choice, String concurrency) {
+		this(initialCapacity, 1, choice, concurrency);
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		this.policy = policy;
+	}
+
+	// read-only copy of src's elements, used as the view in "copyonwrite" mode
+	private DynamicArray(DynamicArray src) {
+		lock = null;
+		copyOnWrite = false;
+		capacity = end = src.end;
+		policy = src.policy;
+		sorted = src.sorted;
+		System.arraycopy(src.choice, 0, choice, 0, choice.length);
+		if (choice[0] == ONE) {
+			_char_ = Arrays.copyOf(src._char_, end);
+		} else if (choice[1] == ONE) {
+			_byte_ = Arrays.copyOf(src._byte_, end);
+		} else if (choice[2] == ONE) {
+			_short_ = Arrays.copyOf(src._short_, end);
+		} else if (choice[3] == ONE) {
+			_int_ = Arrays.copyOf(src._int_, end);
+		} else if (choice[4] == ONE) {
+			_long_ = Arrays.copyOf(src._long_, end);
+		} else if (choice[5] == ONE) {
+			_float_ = Arrays.copyOf(src._float_, end);
+		} else {
+			_double_ = Arrays.copyOf(src._double_, end);
+		}
+	}
+
+	// called by every write method after it takes the monitor, the outermost
+	// writer takes the write lock in "stamped" mode
+	private void beginWrite() {
+		if (writeDepth++ == 0 && lock != null) {
+			writeStamp = lock.writeLock();
+		}
+	}
+
+	// called by every write method before it releases the monitor, the outermost
+	// writer releases the write lock in "stamped" mode or publishes a new view in
+	// "copyonwrite" mode
+	private void endWrite() {
+		if (--writeDepth == 0) {
+			if (lock != null) {
+				lock.unlockWrite(writeStamp);
+			} else if (copyOnWrite) {
+				view = new DynamicArray(this);
+			}
+		}
 	}
 
 	private void grow(int minCapacity) {
@@ -316,104 +688,47 @@ public class DynamicArray {
 			if (minCapacity > 0) {
 				capacity = minCapacity;
 			} else {
-				if (capacityIncrement > 0) {
-					capacity += capacityIncrement;
-				} else {
-					capacity += (capacity >>> 1) + 1;
-				}
+				capacity = policy.grownCapacity(capacity, end + 1);
 			}
+			grows++;
 
 			if (choice[0] == ONE) {
-				char[] temp = new char[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _char_[i];
-				}
-				_char_ = temp;
+				_char_ = Arrays.copyOf(_char_, capacity);
 			} else if (choice[1] == ONE) {
-				byte[] temp = new byte[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _byte_[i];
-				}
-				_byte_ = temp;
+				_byte_ = Arrays.copyOf(_byte_, capacity);
 			} else if (choice[2] == ONE) {
-				short[] temp = new short[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _short_[i];
-				}
-				_short_ = temp;
+				_short_ = Arrays.copyOf(_short_, capacity);
 			} else if (choice[3] == ONE) {
-				int[] temp = new int[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _int_[i];
-				}
-				_int_ = temp;
+				_int_ = Arrays.copyOf(_int_, capacity);
 			} else if (choice[4] == ONE) {
-				long[] temp = new long[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _long_[i];
-				}
-				_long_ = temp;
+				_long_ = Arrays.copyOf(_long_, capacity);
 			} else if (choice[5] == ONE) {
-				float[] temp = new float[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _float_[i];
-				}
-				_float_ = temp;
+				_float_ = Arrays.copyOf(_float_, capacity);
 			} else {
-				double[] temp = new double[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _double_[i];
-				}
-				_double_ = temp;
+				_double_ = Arrays.copyOf(_double_, capacity);
 			}
 		}
 	}
 
 	private void shrink(boolean trim) {
-		if (end < (capacity / 2) || trim) {
-			capacity = end;
+		int next = trim ? end : policy.shrunkCapacity(capacity, end);
+		if (next != capacity) {
+			capacity = next;
+			shrinks++;
 			if (choice[0] == ONE) {
-				char[] temp = new char[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _char_[i];
-				}
-				_char_ = temp;
+				_char_ = Arrays.copyOf(_char_, capacity);
 			} else if (choice[1] == ONE) {
-				byte[] temp = new byte[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _byte_[i];
-				}
-				_byte_ = temp;
+				_byte_ = Arrays.copyOf(_byte_, capacity);
 			} else if (choice[2] == ONE) {
-				short[] temp = new short[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _short_[i];
-				}
-				_short_ = temp;
+				_short_ = Arrays.copyOf(_short_, capacity);
 			} else if (choice[3] == ONE) {
-				int[] temp = new int[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _int_[i];
-				}
-				_int_ = temp;
+				_int_ = Arrays.copyOf(_int_, capacity);
 			} else if (choice[4] == ONE) {
-				long[] temp = new long[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _long_[i];
-				}
-				_long_ = temp;
+				_long_ = Arrays.copyOf(_long_, capacity);
 			} else if (choice[5] == ONE) {
-				float[] temp = new float[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _float_[i];
-				}
-				_float_ = temp;
+				_float_ = Arrays.copyOf(_float_, capacity);
 			} else {
-				double[] temp = new double[capacity];
-				for (int i = 0; i < end; i++) {
-					temp[i] = _double_[i];
-				}
-				_double_ = temp;
+				_double_ = Arrays.copyOf(_double_, capacity);
 			}
 		}
 	}
@@ -426,10 +741,16 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(char element) {
-		choiceCheck(0);
-		grow(0);
-		_char_[end++] = element;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(0);
+			grow(0);
+			_char_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -440,10 +761,16 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(byte element) {
-		choiceCheck(1);
-		grow(0);
-		_byte_[end++] = element;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(1);
+			grow(0);
+			_byte_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -454,10 +781,16 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(short element) {
-		choiceCheck(2);
-		grow(0);
-		_short_[end++] = element;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(2);
+			grow(0);
+			_short_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -468,10 +801,16 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(int element) {
-		choiceCheck(3);
-		grow(0);
-		_int_[end++] = element;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(3);
+			grow(0);
+			_int_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -482,11 +821,17 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(long element) {
-		choiceCheck(4);
-		grow(0);
-		_long_[end++] = element;
-		return true;
-	}
+		beginWrite();
+		try {
+			choiceCheck(4);
+			grow(0);
+			_long_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
 
 	/**
 	 * Appends the specified element to the end of this DynamicArray(float).
@@ -496,10 +841,16 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(float element) {
-		choiceCheck(5);
-		grow(0);
-		_float_[end++] = element;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(5);
+			grow(0);
+			_float_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -510,10 +861,16 @@ public class DynamicArray {
 	 * @return {@code true} if successfully appended
 	 */
 	public synchronized boolean add(double element) {
-		choiceCheck(6);
-		grow(0);
-		_double_[end++] = element;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(6);
+			grow(0);
+			_double_[end++] = element;
+			keepSorted(end - 1, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	private void rangeCheck(int index) {
@@ -558,16 +915,19 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, char element) {
-		choiceCheck(0);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_char_[i] = _char_[i - 1];
-		}
-		_char_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(0);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_char_, index, _char_, index + 1, end - index);
+			_char_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -583,16 +943,19 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, byte element) {
-		choiceCheck(1);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_byte_[i] = _byte_[i - 1];
-		}
-		_byte_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(1);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_byte_, index, _byte_, index + 1, end - index);
+			_byte_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -608,16 +971,19 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, short element) {
-		choiceCheck(2);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_short_[i] = _short_[i - 1];
-		}
-		_short_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(2);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_short_, index, _short_, index + 1, end - index);
+			_short_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -633,16 +999,19 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, int element) {
-		choiceCheck(3);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_int_[i] = _int_[i - 1];
-		}
-		_int_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(3);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_int_, index, _int_, index + 1, end - index);
+			_int_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -658,16 +1027,19 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, long element) {
-		choiceCheck(4);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_long_[i] = _long_[i - 1];
-		}
-		_long_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(4);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_long_, index, _long_, index + 1, end - index);
+			_long_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -683,16 +1055,19 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, float element) {
-		choiceCheck(5);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_float_[i] = _float_[i - 1];
-		}
-		_float_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(5);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_float_, index, _float_, index + 1, end - index);
+			_float_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -708,16 +1083,55 @@ public class DynamicArray {
 	 * @return {@code true} if successfully inserted
 	 */
 	public synchronized boolean add(int index, double element) {
-		choiceCheck(6);
-		rangeCheck(index);
-		grow(0);
-		int i = end;
-		for (; i > index; i--) {
-			_double_[i] = _double_[i - 1];
-		}
-		_double_[i] = element;
-		end++;
-		return true;
+		beginWrite();
+		try {
+			choiceCheck(6);
+			rangeCheck(index);
+			grow(0);
+			System.arraycopy(_double_, index, _double_, index + 1, end - index);
+			_double_[index] = element;
+			end++;
+			keepSorted(index, index + 1);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	private void growBy(int len) {
+		if (len > capacity - end) {
+			if (end + len < 0) {
+				throw new OutOfMemoryError("Required capacity too large: " + end + " + " + len);
+			}
+			grow(policy.grownCapacity(capacity, end + len));
+		}
+	}
+
+	private void rangeCheck(int length, int off, int len) {
+		if (off < 0 || len < 0 || off > length - len) {
+			throw new ArrayIndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + length);
+		}
+	}
+
+	/**
+	 * Returns the array of the initialized choice.
+	 */
+	private Object array() {
+		if (choice[0] == ONE) {
+			return _char_;
+		} else if (choice[1] == ONE) {
+			return _byte_;
+		} else if (choice[2] == ONE) {
+			return _short_;
+		} else if (choice[3] == ONE) {
+			return _int_;
+		} else if (choice[4] == ONE) {
+			return _long_;
+		} else if (choice[5] == ONE) {
+			return _float_;
+		} else {
+			return _double_;
+		}
 	}
 
 	private void rangeCheck0(int index) {
@@ -739,60 +1153,51 @@ public class DynamicArray {
 	 * @return element that was removed
 	 */
 	public synchronized Object removeAtIndex(int index) {
-		rangeCheck0(index);
-		Object o = null;
+		beginWrite();
+		try {
+			rangeCheck0(index);
+			Object o = null;
 
-		if (choice[0] == ONE) {
-			shrink(false);
-			o = _char_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_char_[i] = _char_[i + 1];
-			}
-		} else if (choice[1] == ONE) {
-			shrink(false);
-			o = _byte_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_byte_[i] = _byte_[i + 1];
-			}
-		} else if (choice[2] == ONE) {
-			shrink(false);
-			o = _short_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_short_[i] = _short_[i + 1];
-			}
-		} else if (choice[3] == ONE) {
-			shrink(false);
-			o = _int_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_int_[i] = _int_[i + 1];
-			}
-		} else if (choice[4] == ONE) {
-			shrink(false);
-			o = _long_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_long_[i] = _long_[i + 1];
-			}
-		} else if (choice[5] == ONE) {
-			shrink(false);
-			o = _float_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_float_[i] = _float_[i + 1];
-			}
-		} else {
-			shrink(false);
-			o = _double_[index];
-			end--;
-			for (int i = index; i < end; i++) {
-				_double_[i] = _double_[i + 1];
+			if (choice[0] == ONE) {
+				shrink(false);
+				o = _char_[index];
+				end--;
+				System.arraycopy(_char_, index + 1, _char_, index, end - index);
+			} else if (choice[1] == ONE) {
+				shrink(false);
+				o = _byte_[index];
+				end--;
+				System.arraycopy(_byte_, index + 1, _byte_, index, end - index);
+			} else if (choice[2] == ONE) {
+				shrink(false);
+				o = _short_[index];
+				end--;
+				System.arraycopy(_short_, index + 1, _short_, index, end - index);
+			} else if (choice[3] == ONE) {
+				shrink(false);
+				o = _int_[index];
+				end--;
+				System.arraycopy(_int_, index + 1, _int_, index, end - index);
+			} else if (choice[4] == ONE) {
+				shrink(false);
+				o = _long_[index];
+				end--;
+				System.arraycopy(_long_, index + 1, _long_, index, end - index);
+			} else if (choice[5] == ONE) {
+				shrink(false);
+				o = _float_[index];
+				end--;
+				System.arraycopy(_float_, index + 1, _float_, index, end - index);
+			} else {
+				shrink(false);
+				o = _double_[index];
+				end--;
+				System.arraycopy(_double_, index + 1, _double_, index, end - index);
 			}
+			return o;
+		} finally {
+			endWrite();
 		}
-		return o;
 	}
 
 	/**
@@ -807,7 +1212,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(char element) {
+	public int indexOf(char element) {
 		return indexOf(element, 0);
 	}
 
@@ -823,7 +1228,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(byte element) {
+	public int indexOf(byte element) {
 		return indexOf(element, 0);
 	}
 
@@ -839,7 +1244,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(short element) {
+	public int indexOf(short element) {
 		return indexOf(element, 0);
 	}
 
@@ -855,7 +1260,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(int element) {
+	public int indexOf(int element) {
 		return indexOf(element, 0);
 	}
 
@@ -871,7 +1276,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(long element) {
+	public int indexOf(long element) {
 		return indexOf(element, 0);
 	}
 
@@ -887,7 +1292,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(float element) {
+	public int indexOf(float element) {
 		return indexOf(element, 0);
 	}
 
@@ -903,7 +1308,7 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int indexOf(double element) {
+	public int indexOf(double element) {
 		return indexOf(element, 0);
 	}
 
@@ -922,9 +1327,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(char element, int index) {
+	public int indexOf(char element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(char element, int index) {
 		choiceCheck(0);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.search(_char_, index, end, element);
+		}
 		for (int i = index; i < end; i++) {
 			if (_char_[i] == element) {
 				return i;
@@ -948,9 +1377,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(byte element, int index) {
+	public int indexOf(byte element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(byte element, int index) {
 		choiceCheck(1);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.search(_byte_, index, end, element);
+		}
 		for (int i = index; i < end; i++) {
 			if (_byte_[i] == element) {
 				return i;
@@ -974,9 +1427,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(short element, int index) {
+	public int indexOf(short element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(short element, int index) {
 		choiceCheck(2);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.search(_short_, index, end, element);
+		}
 		for (int i = index; i < end; i++) {
 			if (_short_[i] == element) {
 				return i;
@@ -1000,15 +1477,34 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(int element, int index) {
+	public int indexOf(int element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(int element, int index) {
 		choiceCheck(3);
 		rangeCheck0(index);
-		for (int i = index; i < end; i++) {
-			if (_int_[i] == element) {
-				return i;
-			}
+		if (sorted) {
+			return BinarySearch.search(_int_, index, end, element);
 		}
-		return -1;
+		return LinearSearch.search(_int_, index, end, element);
 	}
 
 	/**
@@ -1026,15 +1522,34 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(long element, int index) {
+	public int indexOf(long element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(long element, int index) {
 		choiceCheck(4);
 		rangeCheck0(index);
-		for (int i = index; i < end; i++) {
-			if (_long_[i] == element) {
-				return i;
-			}
+		if (sorted) {
+			return BinarySearch.search(_long_, index, end, element);
 		}
-		return -1;
+		return LinearSearch.search(_long_, index, end, element);
 	}
 
 	/**
@@ -1052,15 +1567,34 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(float element, int index) {
+	public int indexOf(float element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(float element, int index) {
 		choiceCheck(5);
 		rangeCheck0(index);
-		for (int i = index; i < end; i++) {
-			if (_float_[i] == element) {
-				return i;
-			}
+		if (sorted) {
+			return BinarySearch.search(_float_, index, end, element);
 		}
-		return -1;
+		return LinearSearch.search(_float_, index, end, element);
 	}
 
 	/**
@@ -1078,15 +1612,34 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int indexOf(double element, int index) {
+	public int indexOf(double element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = indexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.indexOf0(element, index);
+		}
+		synchronized (this) {
+			return indexOf0(element, index);
+		}
+	}
+
+	private int indexOf0(double element, int index) {
 		choiceCheck(6);
 		rangeCheck0(index);
-		for (int i = index; i < end; i++) {
-			if (_double_[i] == element) {
-				return i;
-			}
+		if (sorted) {
+			return BinarySearch.search(_double_, index, end, element);
 		}
-		return -1;
+		return LinearSearch.search(_double_, index, end, element);
 	}
 
 	/**
@@ -1101,8 +1654,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(char element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(char element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(char element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1117,8 +1691,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(byte element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(byte element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(byte element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1133,8 +1728,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(short element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(short element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(short element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1149,8 +1765,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(int element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(int element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(int element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1165,8 +1802,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(long element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(long element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(long element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1181,8 +1839,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(float element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(float element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(float element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1197,8 +1876,29 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException if array is empty
 	 */
-	public synchronized int lastIndexOf(double element) {
-		return lastIndexOf(element, (end - 1));
+	public int lastIndexOf(double element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element);
+		}
+	}
+
+	private int lastIndexOf0(double element) {
+		return lastIndexOf0(element, (end - 1));
 	}
 
 	/**
@@ -1215,9 +1915,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(char element, int index) {
+	public int lastIndexOf(char element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(char element, int index) {
 		choiceCheck(0);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_char_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_char_[i] == element) {
 				return i;
@@ -1240,9 +1964,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(byte element, int index) {
+	public int lastIndexOf(byte element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(byte element, int index) {
 		choiceCheck(1);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_byte_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_byte_[i] == element) {
 				return i;
@@ -1265,9 +2013,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(short element, int index) {
+	public int lastIndexOf(short element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(short element, int index) {
 		choiceCheck(2);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_short_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_short_[i] == element) {
 				return i;
@@ -1290,9 +2062,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(int element, int index) {
+	public int lastIndexOf(int element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(int element, int index) {
 		choiceCheck(3);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_int_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_int_[i] == element) {
 				return i;
@@ -1315,9 +2111,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(long element, int index) {
+	public int lastIndexOf(long element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(long element, int index) {
 		choiceCheck(4);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_long_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_long_[i] == element) {
 				return i;
@@ -1340,9 +2160,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(float element, int index) {
+	public int lastIndexOf(float element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(float element, int index) {
 		choiceCheck(5);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_float_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_float_[i] == element) {
 				return i;
@@ -1365,9 +2209,33 @@ public class DynamicArray {
 	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized int lastIndexOf(double element, int index) {
+	public int lastIndexOf(double element, int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lastIndexOf0(element, index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastIndexOf0(element, index);
+		}
+		synchronized (this) {
+			return lastIndexOf0(element, index);
+		}
+	}
+
+	private int lastIndexOf0(double element, int index) {
 		choiceCheck(6);
 		rangeCheck0(index);
+		if (sorted) {
+			return BinarySearch.searchLast(_double_, 0, index + 1, element);
+		}
 		for (int i = index; i > -1; i--) {
 			if (_double_[i] == element) {
 				return i;
@@ -1383,8 +2251,29 @@ public class DynamicArray {
 	 * @return {@code null} if DynamicArray is empty, else the first component of
 	 *         the DynamicArray
 	 */
-	public synchronized Object firstElement() {
-		if (isEmpty()) {
+	public Object firstElement() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				Object r = firstElement0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.firstElement0();
+		}
+		synchronized (this) {
+			return firstElement0();
+		}
+	}
+
+	private Object firstElement0() {
+		if (end == 0) {
 			return null;
 		}
 		if (choice[0] == ONE) {
@@ -1410,8 +2299,29 @@ public class DynamicArray {
 	 * @return {@code null} if DynamicArray is empty, else the last component of the
 	 *         DynamicArray
 	 */
-	public synchronized Object lastElement() {
-		if (isEmpty()) {
+	public Object lastElement() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				Object r = lastElement0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lastElement0();
+		}
+		synchronized (this) {
+			return lastElement0();
+		}
+	}
+
+	private Object lastElement0() {
+		if (end == 0) {
 			return null;
 		}
 		if (choice[0] == ONE) {
@@ -1434,16 +2344,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(char) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(char element) {
+	public boolean contains(char element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(char element) {
 		choiceCheck(0);
+		if (sorted) {
+			return BinarySearch.search(_char_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_char_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1453,16 +2389,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(byte) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(byte element) {
+	public boolean contains(byte element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(byte element) {
 		choiceCheck(1);
+		if (sorted) {
+			return BinarySearch.search(_byte_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_byte_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1472,16 +2434,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(short) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(short element) {
+	public boolean contains(short element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(short element) {
 		choiceCheck(2);
+		if (sorted) {
+			return BinarySearch.search(_short_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_short_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1491,16 +2479,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(int) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(int element) {
+	public boolean contains(int element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(int element) {
 		choiceCheck(3);
+		if (sorted) {
+			return BinarySearch.search(_int_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_int_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1510,16 +2524,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(long) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(long element) {
+	public boolean contains(long element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(long element) {
 		choiceCheck(4);
+		if (sorted) {
+			return BinarySearch.search(_long_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_long_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1529,16 +2569,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(float) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(float element) {
+	public boolean contains(float element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(float element) {
 		choiceCheck(5);
+		if (sorted) {
+			return BinarySearch.search(_float_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_float_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1548,16 +2614,42 @@ public class DynamicArray {
 	/**
 	 * Returns {@code true} if this DynamicArray(double) contains the specified
 	 * element.
-	 * Algorithm used to search elements is linear search.
+	 * Algorithm used to search elements is linear search, or binary search while
+	 * this DynamicArray is sorted.
 	 *
 	 * @param element element whose presence in this DynamicArray is to be tested
 	 * @return {@code true} if this DynamicArray contains the specified element;
 	 *         else {@code false}
 	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
 	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 * @see <a href="../../algorithms/search/BinarySearch.html">BinarySearch</a>
 	 */
-	public synchronized boolean contains(double element) {
+	public boolean contains(double element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = contains0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.contains0(element);
+		}
+		synchronized (this) {
+			return contains0(element);
+		}
+	}
+
+	private boolean contains0(double element) {
 		choiceCheck(6);
+		if (sorted) {
+			return BinarySearch.search(_double_, 0, end, element) > -1;
+		}
 		if (LinearSearch.search(_double_, 0, end, element) > -1) {
 			return true;
 		}
@@ -1571,7 +2663,28 @@ public class DynamicArray {
 	 * @return object at the specified index
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
-	public synchronized Object get(int index) {
+	public Object get(int index) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				Object r = get0(index);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.get0(index);
+		}
+		synchronized (this) {
+			return get0(index);
+		}
+	}
+
+	private Object get0(int index) {
 		rangeCheck0(index);
 		if (choice[0] == ONE) {
 			return (Object) _char_[index];
@@ -1597,7 +2710,28 @@ public class DynamicArray {
 	 *         no components, that is, its size is zero;
 	 *         {@code false} otherwise.
 	 */
-	public synchronized boolean isEmpty() {
+	public boolean isEmpty() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = isEmpty0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.isEmpty0();
+		}
+		synchronized (this) {
+			return isEmpty0();
+		}
+	}
+
+	private boolean isEmpty0() {
 		return end == 0;
 	}
 
@@ -1611,15 +2745,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(char element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1632,15 +2771,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(byte element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1653,15 +2797,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(short element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1674,15 +2823,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(int element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1695,15 +2849,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(long element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1716,15 +2875,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(float element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1737,15 +2901,20 @@ public class DynamicArray {
 	 * @return true if the DynamicArray contained the specified element; else false
 	 */
 	public synchronized boolean remove(double element) {
-		if (isEmpty()) {
+		beginWrite();
+		try {
+			if (end == 0) {
+				return false;
+			}
+			int i = indexOf0(element, 0);
+			if (i > -1) {
+				removeAtIndex(i);
+				return true;
+			}
 			return false;
+		} finally {
+			endWrite();
 		}
-		int i = indexOf(element);
-		if (i > -1) {
-			removeAtIndex(i);
-			return true;
-		}
-		return false;
 	}
 
 	/**
@@ -1759,18 +2928,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(char oldElement, char newElement) {
-		choiceCheck(0);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_char_[i] == oldElement) {
-				flag = true;
-				_char_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(0);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_char_[i] == oldElement) {
+					flag = true;
+					_char_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1784,18 +2961,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(byte oldElement, byte newElement) {
-		choiceCheck(1);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_byte_[i] == oldElement) {
-				flag = true;
-				_byte_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(1);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_byte_[i] == oldElement) {
+					flag = true;
+					_byte_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1809,18 +2994,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(short oldElement, short newElement) {
-		choiceCheck(2);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_short_[i] == oldElement) {
-				flag = true;
-				_short_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(2);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_short_[i] == oldElement) {
+					flag = true;
+					_short_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1834,18 +3027,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(int oldElement, int newElement) {
-		choiceCheck(3);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_int_[i] == oldElement) {
-				flag = true;
-				_int_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(3);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_int_[i] == oldElement) {
+					flag = true;
+					_int_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1859,18 +3060,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(long oldElement, long newElement) {
-		choiceCheck(4);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_long_[i] == oldElement) {
-				flag = true;
-				_long_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(4);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_long_[i] == oldElement) {
+					flag = true;
+					_long_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1884,18 +3093,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(float oldElement, float newElement) {
-		choiceCheck(5);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_float_[i] == oldElement) {
-				flag = true;
-				_float_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(5);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_float_[i] == oldElement) {
+					flag = true;
+					_float_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1909,18 +3126,26 @@ public class DynamicArray {
 	 *         with {@code newElement}
 	 */
 	public synchronized boolean replace(double oldElement, double newElement) {
-		choiceCheck(6);
-		if (isEmpty()) {
-			return false;
-		}
-		boolean flag = false;
-		for (int i = 0; i < end; i++) {
-			if (_double_[i] == oldElement) {
-				flag = true;
-				_double_[i] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(6);
+			if (end == 0) {
+				return false;
+			}
+			boolean flag = false;
+			for (int i = 0; i < end; i++) {
+				if (_double_[i] == oldElement) {
+					flag = true;
+					_double_[i] = newElement;
+				}
 			}
+			if (flag) {
+				keepSorted(0, end);
+			}
+			return flag;
+		} finally {
+			endWrite();
 		}
-		return flag;
 	}
 
 	/**
@@ -1933,9 +3158,15 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(char newElement, int index) {
-		choiceCheck(0);
-		rangeCheck0(index);
-		_char_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(0);
+			rangeCheck0(index);
+			_char_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -1948,9 +3179,15 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(byte newElement, int index) {
-		choiceCheck(1);
-		rangeCheck0(index);
-		_byte_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(1);
+			rangeCheck0(index);
+			_byte_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -1963,9 +3200,15 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(short newElement, int index) {
-		choiceCheck(2);
-		rangeCheck0(index);
-		_short_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(2);
+			rangeCheck0(index);
+			_short_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -1978,9 +3221,15 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(int newElement, int index) {
-		choiceCheck(3);
-		rangeCheck0(index);
-		_int_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(3);
+			rangeCheck0(index);
+			_int_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -1993,9 +3242,15 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(long newElement, int index) {
-		choiceCheck(4);
-		rangeCheck0(index);
-		_long_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(4);
+			rangeCheck0(index);
+			_long_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -2008,9 +3263,15 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(float newElement, int index) {
-		choiceCheck(5);
-		rangeCheck0(index);
-		_float_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(5);
+			rangeCheck0(index);
+			_float_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
@@ -2023,231 +3284,3654 @@ public class DynamicArray {
 	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
 	 */
 	public synchronized void replaceAt(double newElement, int index) {
-		choiceCheck(6);
-		rangeCheck0(index);
-		_double_[index] = newElement;
+		beginWrite();
+		try {
+			choiceCheck(6);
+			rangeCheck0(index);
+			_double_[index] = newElement;
+			keepSorted(index, index + 1);
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
-	 * Removes all of the elements from this DynamicArray. The DynamicArray will
-	 * be empty after this call returns (unless it throws an exception).
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(char). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
 	 */
-	public synchronized void clear() {
-		end = 0;
-		shrink(true);
+	public synchronized boolean addAll(char[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(0);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _char_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
-	 * Returns the number of components in this DynamicArray.
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(char). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
 	 *
-	 * @return the number of components in this DynamicArray
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
 	 */
-	public synchronized int size() {
-		return end;
+	public synchronized boolean insertAll(int index, char[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(0);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_char_, index, _char_, index + len, end - index);
+			System.arraycopy(src, off, _char_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
-	 * Returns the current capacity of this DynamicArray.
+	 * Copies {@code len} elements of this DynamicArray(char), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
 	 *
-	 * @return the current capacity (the length of its internal data array)
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
 	 */
-	public synchronized int capacity() {
-		return capacity;
+	public synchronized void copyInto(int index, char[] dst, int off, int len) {
+		choiceCheck(0);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_char_, index, dst, off, len);
 	}
 
 	/**
-	 * Increases the capacity of this DynamicArray, if necessary, to ensure
-	 * that it can hold at least the number of components specified by
-	 * the minimum capacity argument.
-	 *
-	 * <p>
-	 * If the current capacity of this DynamicArray is less than
-	 * {@code minCapacity}, then its capacity is increased.
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(byte). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
 	 *
-	 * @param minCapacity the desired minimum capacity
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
 	 */
-	public synchronized void ensureCapacity(int minCapacity) {
-		if (minCapacity > 0 && capacity < minCapacity) {
-			grow(minCapacity);
+	public synchronized boolean addAll(byte[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(1);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _byte_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
 		}
 	}
 
 	/**
-	 * Trims the capacity of this DynamicArray to be the DynamicArray's current
-	 * size. If the capacity of this DynamicArray is larger than its current
-	 * size, then the capacity is changed to equal the size by replacing
-	 * its internal data array. An application can use this operation to
-	 * minimize the storage of a DynamicArray.
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(byte). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
 	 */
-	public synchronized void trimToSize() {
-		shrink(true);
+	public synchronized boolean insertAll(int index, byte[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(1);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_byte_, index, _byte_, index + len, end - index);
+			System.arraycopy(src, off, _byte_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
 	}
 
 	/**
-	 * Sorts this DynamicArray according to the order specified by the character
-	 * {@code c}.<br>
-	 * <b>Note: Array trims to it's size before sorting.</b>
+	 * Copies {@code len} elements of this DynamicArray(byte), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
 	 *
-	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending
-	 *          order,
-	 *          {@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, byte[] dst, int off, int len) {
+		choiceCheck(1);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_byte_, index, dst, off, len);
+	}
+
+	/**
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(short). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addAll(short[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(2);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _short_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(short). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean insertAll(int index, short[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(2);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_short_, index, _short_, index + len, end - index);
+			System.arraycopy(src, off, _short_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Copies {@code len} elements of this DynamicArray(short), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
+	 *
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, short[] dst, int off, int len) {
+		choiceCheck(2);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_short_, index, dst, off, len);
+	}
+
+	/**
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(int). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addAll(int[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(3);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _int_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(int). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean insertAll(int index, int[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(3);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_int_, index, _int_, index + len, end - index);
+			System.arraycopy(src, off, _int_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Copies {@code len} elements of this DynamicArray(int), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
+	 *
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, int[] dst, int off, int len) {
+		choiceCheck(3);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_int_, index, dst, off, len);
+	}
+
+	/**
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(long). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addAll(long[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(4);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _long_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(long). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean insertAll(int index, long[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(4);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_long_, index, _long_, index + len, end - index);
+			System.arraycopy(src, off, _long_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Copies {@code len} elements of this DynamicArray(long), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
+	 *
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, long[] dst, int off, int len) {
+		choiceCheck(4);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_long_, index, dst, off, len);
+	}
+
+	/**
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(float). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addAll(float[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(5);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _float_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(float). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean insertAll(int index, float[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(5);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_float_, index, _float_, index + len, end - index);
+			System.arraycopy(src, off, _float_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Copies {@code len} elements of this DynamicArray(float), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
+	 *
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, float[] dst, int off, int len) {
+		choiceCheck(5);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_float_, index, dst, off, len);
+	}
+
+	/**
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this DynamicArray(double). The capacity is checked once for the
+	 * whole batch and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addAll(double[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(6);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(src, off, _double_, end, len);
+			end += len;
+			keepSorted(end - len, end);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this DynamicArray(double). Shifts the element
+	 * currently at that position (if any) and any subsequent elements to the
+	 * right (adds {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean insertAll(int index, double[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(6);
+			rangeCheck(index);
+			rangeCheck(src.length, off, len);
+			growBy(len);
+			System.arraycopy(_double_, index, _double_, index + len, end - index);
+			System.arraycopy(src, off, _double_, index, len);
+			end += len;
+			keepSorted(index, index + len);
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Copies {@code len} elements of this DynamicArray(double), starting at
+	 * {@code index}, into {@code dst} starting at {@code off}.
+	 *
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, double[] dst, int off, int len) {
+		choiceCheck(6);
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(_double_, index, dst, off, len);
+	}
+
+	/**
+	 * Removes from this DynamicArray all of the elements whose index is between
+	 * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Shifts any
+	 * subsequent elements to the left with a single bulk copy.
+	 *
+	 * @param fromIndex index of the first element to be removed
+	 * @param toIndex   index after the last element to be removed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > end)}
+	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
+	 */
+	public synchronized void removeRange(int fromIndex, int toIndex) {
+		beginWrite();
+		try {
+			if (fromIndex < 0 || toIndex > end) {
+				throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + "]");
+			}
+			if (fromIndex > toIndex) {
+				throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+			}
+			Object a = array();
+			System.arraycopy(a, toIndex, a, fromIndex, end - toIndex);
+			end -= toIndex - fromIndex;
+			shrink(false);
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Removes all of the elements from this DynamicArray. The DynamicArray will
+	 * be empty after this call returns (unless it throws an exception).
+	 */
+	public synchronized void clear() {
+		beginWrite();
+		try {
+			end = 0;
+			sorted = true;
+			shrink(true);
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the number of components in this DynamicArray.
+	 *
+	 * @return the number of components in this DynamicArray
+	 */
+	public int size() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = size0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.size0();
+		}
+		synchronized (this) {
+			return size0();
+		}
+	}
+
+	private int size0() {
+		return end;
+	}
+
+	/**
+	 * Returns the current capacity of this DynamicArray.
+	 *
+	 * @return the current capacity (the length of its internal data array)
+	 */
+	public synchronized int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of times the internal data array of this DynamicArray
+	 * was reallocated to grow its capacity.
+	 *
+	 * @return the number of times the capacity grew
+	 */
+	public synchronized long growCount() {
+		return grows;
+	}
+
+	/**
+	 * Returns the number of times the internal data array of this DynamicArray
+	 * was reallocated to shrink its capacity, by removals or by
+	 * {@link #trimToSize()}.
+	 *
+	 * @return the number of times the capacity shrank
+	 */
+	public synchronized long shrinkCount() {
+		return shrinks;
+	}
+
+	/**
+	 * Increases the capacity of this DynamicArray, if necessary, to ensure
+	 * that it can hold at least the number of components specified by
+	 * the minimum capacity argument.
+	 *
+	 * <p>
+	 * If the current capacity of this DynamicArray is less than
+	 * {@code minCapacity}, then its capacity is increased.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	public synchronized void ensureCapacity(int minCapacity) {
+		beginWrite();
+		try {
+			if (minCapacity > 0 && capacity < minCapacity) {
+				grow(minCapacity);
+			}
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Trims the capacity of this DynamicArray to be the DynamicArray's current
+	 * size. If the capacity of this DynamicArray is larger than its current
+	 * size, then the capacity is changed to equal the size by replacing
+	 * its internal data array. An application can use this operation to
+	 * minimize the storage of a DynamicArray.
+	 */
+	public synchronized void trimToSize() {
+		beginWrite();
+		try {
+			shrink(true);
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Sorts this DynamicArray according to the order specified by the character
+	 * {@code c}, with the algorithm chosen by {@code "auto"}.
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in ascending
+	 *          order,
+	 *          {@code if(c == 'd' || c == 'D')} then sort <b>a</b> in descending
 	 *          order
 	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @see #sort(int, int, String, char)
+	 */
+	public synchronized void sort(char c) {
+		sort(0, end, "auto", c);
+	}
+
+	/**
+	 * Sorts the specified range of this DynamicArray according to the order
+	 * specified by the character {@code c}, with the algorithm chosen by
+	 * {@code "auto"}.
+	 *
+	 * @param c         {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in
+	 *                  ascending order,
+	 *                  {@code if(c == 'd' || c == 'D')} then sort <b>a</b> in
+	 *                  descending order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex   the index of the last element, exclusive, to be sorted
+	 * @throws IllegalArgumentException       {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > size())}
+	 * @see #sort(int, int, String, char)
+	 */
+	public synchronized void sort(int fromIndex, int toIndex, char c) {
+		sort(fromIndex, toIndex, "auto", c);
+	}
+
+	/**
+	 * Sorts this DynamicArray according to the order specified by the character
+	 * {@code c}, with the specified algorithm.
+	 *
+	 * @param algorithm the sort algorithm, see
+	 *                  {@link #sort(int, int, String, char)}
+	 * @param c         {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in
+	 *                  ascending order,
+	 *                  {@code if(c == 'd' || c == 'D')} then sort <b>a</b> in
+	 *                  descending order
+	 * @throws NullPointerException     {@code if(algorithm == null)}
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException if {@code algorithm} is unknown or does not
+	 *                                  sort the element type
+	 */
+	public synchronized void sort(String algorithm, char c) {
+		sort(0, end, algorithm, c);
+	}
+
+	/**
+	 * Sorts the specified range of this DynamicArray according to the order
+	 * specified by the character {@code c}, with the specified algorithm. The
+	 * range is sorted in place, the capacity is left as it is.
+	 *
+	 * <pre style="display: inline;">
+	 *	 {@code "quick"}    - {@link QuickSort}.
+	 *	 {@code "merge"}    - {@link MergeSort_Multithreading}, on the common pool.
+	 *	 {@code "radix"}    - {@link RadixSort}.
+	 *	 {@code "counting"} - {@link CountingSort}, char, byte, short and int only.
+	 *	 {@code "parallel"} - {@link CountingSort} for char, byte and short and {@link RadixSort}
+	 *	                  for int, long, float and double, on the common pool.
+	 *	 {@code "auto"}     - chosen from the element type and the size of the range.</pre>
+	 *
+	 * <p>
+	 * {@code "auto"} sorts ranges shorter than {@code 4096} with {@code "quick"}
+	 * and longer ones with {@code "radix"}, except that byte ranges, and char and
+	 * short ranges of {@code 2^18} or more, are sorted with {@code "counting"}.
+	 * If the common pool has more than one thread, ranges of {@code 2^17} or
+	 * more are sorted with {@code "parallel"}. Every algorithm sorts descending
+	 * order in a single pass and orders float and double like
+	 * {@link Double#compare(double, double)}.
+	 * </p>
+	 *
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex   the index of the last element, exclusive, to be sorted
+	 * @param algorithm {@code "auto"}, {@code "quick"}, {@code "merge"},
+	 *                  {@code "radix"}, {@code "counting"} or
+	 *                  {@code "parallel"}
+	 * @param c         {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in
+	 *                  ascending order,
+	 *                  {@code if(c == 'd' || c == 'D')} then sort <b>a</b> in
+	 *                  descending order
+	 * @throws NullPointerException           {@code if(algorithm == null)}
+	 * @throws IllegalArgumentException       {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException       if {@code algorithm} is unknown or
+	 *                                        does not sort the element type
+	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > size())}
+	 */
+	public synchronized void sort(int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm == null) {
+			throw new NullPointerException();
+		}
+		beginWrite();
+		try {
+			if (fromIndex < 0 || toIndex > end) {
+				throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + "]");
+			}
+			if (fromIndex > toIndex) {
+				throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+			}
+			if (c != 'a' && c != 'A' && c != 'd' && c != 'D') {
+				throw new IllegalArgumentException("Invalid choice \'" + c +
+						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+			}
+			if (algorithm.equals("auto")) {
+				algorithm = sortAlgorithm(type(), toIndex - fromIndex);
+			} else if (!algorithm.equals("quick") && !algorithm.equals("merge") && !algorithm.equals("radix")
+					&& !algorithm.equals("counting") && !algorithm.equals("parallel")) {
+				throw new IllegalArgumentException("Invalid algorithm \"" + algorithm +
+						"\", excepted \"auto\", \"quick\", \"merge\", \"radix\", \"counting\" or \"parallel\".");
+			}
+			if (choice[0] == ONE) {
+				sort(_char_, fromIndex, toIndex, algorithm, c);
+			} else if (choice[1] == ONE) {
+				sort(_byte_, fromIndex, toIndex, algorithm, c);
+			} else if (choice[2] == ONE) {
+				sort(_short_, fromIndex, toIndex, algorithm, c);
+			} else if (choice[3] == ONE) {
+				sort(_int_, fromIndex, toIndex, algorithm, c);
+			} else if (choice[4] == ONE) {
+				sort(_long_, fromIndex, toIndex, algorithm, c);
+			} else if (choice[5] == ONE) {
+				sort(_float_, fromIndex, toIndex, algorithm, c);
+			} else {
+				sort(_double_, fromIndex, toIndex, algorithm, c);
+			}
+			if (fromIndex == 0 && toIndex == end && (c == 'a' || c == 'A')) {
+				sorted = true;
+			} else {
+				keepSorted(fromIndex, toIndex);
+			}
+		} finally {
+			endWrite();
+		}
+	}
+
+	// the algorithm "auto" uses for n components of the element type
+	private static String sortAlgorithm(int type, int n) {
+		if (ForkJoinPool.getCommonPoolParallelism() > 1 && n >= 1 << 17) {
+			return "parallel";
+		}
+		if (n < 1 << 12) {
+			return "quick";
+		}
+		if (type == 1 || (type == 0 || type == 2) && n >= 1 << 18) {
+			return "counting";
+		}
+		return "radix";
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(char[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("counting")) {
+			CountingSort.sort(a, fromIndex, toIndex, c);
+		} else {
+			CountingSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		}
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(byte[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("counting")) {
+			CountingSort.sort(a, fromIndex, toIndex, c);
+		} else {
+			CountingSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		}
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(short[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("counting")) {
+			CountingSort.sort(a, fromIndex, toIndex, c);
+		} else {
+			CountingSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		}
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(int[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("counting")) {
+			CountingSort.sort(a, fromIndex, toIndex, c);
+		} else {
+			RadixSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		}
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(long[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("parallel")) {
+			RadixSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		} else {
+			throw new IllegalArgumentException("\'" + algorithm + "\' sort not allowed for long");
+		}
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(float[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("parallel")) {
+			RadixSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		} else {
+			throw new IllegalArgumentException("\'" + algorithm + "\' sort not allowed for float");
+		}
+	}
+
+	// sorts a[fromIndex, toIndex) with algorithm, which is not "auto"
+	private static void sort(double[] a, int fromIndex, int toIndex, String algorithm, char c) {
+		if (algorithm.equals("quick")) {
+			QuickSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("merge")) {
+			MergeSort_Multithreading.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("radix")) {
+			RadixSort.sort(a, fromIndex, toIndex, c);
+		} else if (algorithm.equals("parallel")) {
+			RadixSort.sort(a, fromIndex, toIndex, c, ForkJoinPool.commonPool());
+		} else {
+			throw new IllegalArgumentException("\'" + algorithm + "\' sort not allowed for double");
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the components of this DynamicArray are known to
+	 * be in ascending order.
+	 *
+	 * @return {@code true} if this DynamicArray is sorted
+	 */
+	public boolean isSorted() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				boolean r = isSorted0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.isSorted0();
+		}
+		synchronized (this) {
+			return isSorted0();
+		}
+	}
+
+	private boolean isSorted0() {
+		return sorted;
+	}
+
+	private void sortedCheck() {
+		if (!sorted) {
+			throw new IllegalStateException("DynamicArray is not sorted");
+		}
+	}
+
+	// called after the components [from, to) were written, this DynamicArray stays
+	// sorted only if they are in order with each other and their neighbours
+	private void keepSorted(int from, int to) {
+		if (sorted) {
+			sorted = ordered(Math.max(0, from - 1), Math.min(end, to + 1));
+		}
+	}
+
+	// true if the components [from, to) are in ascending order
+	private boolean ordered(int from, int to) {
+		if (choice[0] == ONE) {
+			for (int i = from + 1; i < to; i++) {
+				if (_char_[i - 1] > _char_[i]) {
+					return false;
+				}
+			}
+		} else if (choice[1] == ONE) {
+			for (int i = from + 1; i < to; i++) {
+				if (_byte_[i - 1] > _byte_[i]) {
+					return false;
+				}
+			}
+		} else if (choice[2] == ONE) {
+			for (int i = from + 1; i < to; i++) {
+				if (_short_[i - 1] > _short_[i]) {
+					return false;
+				}
+			}
+		} else if (choice[3] == ONE) {
+			for (int i = from + 1; i < to; i++) {
+				if (_int_[i - 1] > _int_[i]) {
+					return false;
+				}
+			}
+		} else if (choice[4] == ONE) {
+			for (int i = from + 1; i < to; i++) {
+				if (_long_[i - 1] > _long_[i]) {
+					return false;
+				}
+			}
+		} else if (choice[5] == ONE) {
+			for (int i = from + 1; i < to; i++) {
+				if (Float.compare(_float_[i - 1], _float_[i]) > 0) {
+					return false;
+				}
+			}
+		} else {
+			for (int i = from + 1; i < to; i++) {
+				if (Double.compare(_double_[i - 1], _double_[i]) > 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(char)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(char element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(char element) {
+		choiceCheck(0);
+		sortedCheck();
+		return BinarySearch.lowerBound(_char_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(char)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(char element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(char element) {
+		choiceCheck(0);
+		sortedCheck();
+		return BinarySearch.upperBound(_char_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(char) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(char fromElement, char toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(char fromElement, char toElement) {
+		choiceCheck(0);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_char_, 0, end, toElement)
+				- BinarySearch.lowerBound(_char_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(char) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(char element) {
+		beginWrite();
+		try {
+			choiceCheck(0);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_char_, 0, end, element);
+			grow(0);
+			System.arraycopy(_char_, index, _char_, index + 1, end - index);
+			_char_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(char) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(char[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(0);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (src[j - 1] > src[j]) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && _char_[i] > src[j]) {
+					_char_[k--] = _char_[i--];
+				} else {
+					_char_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(byte)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(byte element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(byte element) {
+		choiceCheck(1);
+		sortedCheck();
+		return BinarySearch.lowerBound(_byte_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(byte)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(byte element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(byte element) {
+		choiceCheck(1);
+		sortedCheck();
+		return BinarySearch.upperBound(_byte_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(byte) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(byte fromElement, byte toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(byte fromElement, byte toElement) {
+		choiceCheck(1);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_byte_, 0, end, toElement)
+				- BinarySearch.lowerBound(_byte_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(byte) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(byte element) {
+		beginWrite();
+		try {
+			choiceCheck(1);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_byte_, 0, end, element);
+			grow(0);
+			System.arraycopy(_byte_, index, _byte_, index + 1, end - index);
+			_byte_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(byte) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(byte[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(1);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (src[j - 1] > src[j]) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && _byte_[i] > src[j]) {
+					_byte_[k--] = _byte_[i--];
+				} else {
+					_byte_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(short)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(short element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(short element) {
+		choiceCheck(2);
+		sortedCheck();
+		return BinarySearch.lowerBound(_short_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(short)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(short element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(short element) {
+		choiceCheck(2);
+		sortedCheck();
+		return BinarySearch.upperBound(_short_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(short) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(short fromElement, short toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(short fromElement, short toElement) {
+		choiceCheck(2);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_short_, 0, end, toElement)
+				- BinarySearch.lowerBound(_short_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(short) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(short element) {
+		beginWrite();
+		try {
+			choiceCheck(2);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_short_, 0, end, element);
+			grow(0);
+			System.arraycopy(_short_, index, _short_, index + 1, end - index);
+			_short_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(short) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(short[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(2);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (src[j - 1] > src[j]) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && _short_[i] > src[j]) {
+					_short_[k--] = _short_[i--];
+				} else {
+					_short_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(int)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(int element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(int element) {
+		choiceCheck(3);
+		sortedCheck();
+		return BinarySearch.lowerBound(_int_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(int)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(int element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(int element) {
+		choiceCheck(3);
+		sortedCheck();
+		return BinarySearch.upperBound(_int_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(int) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(int fromElement, int toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(int fromElement, int toElement) {
+		choiceCheck(3);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_int_, 0, end, toElement)
+				- BinarySearch.lowerBound(_int_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(int) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(int element) {
+		beginWrite();
+		try {
+			choiceCheck(3);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_int_, 0, end, element);
+			grow(0);
+			System.arraycopy(_int_, index, _int_, index + 1, end - index);
+			_int_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(int) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(int[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(3);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (src[j - 1] > src[j]) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && _int_[i] > src[j]) {
+					_int_[k--] = _int_[i--];
+				} else {
+					_int_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(long)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(long element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(long element) {
+		choiceCheck(4);
+		sortedCheck();
+		return BinarySearch.lowerBound(_long_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(long)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(long element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(long element) {
+		choiceCheck(4);
+		sortedCheck();
+		return BinarySearch.upperBound(_long_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(long) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(long fromElement, long toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(long fromElement, long toElement) {
+		choiceCheck(4);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_long_, 0, end, toElement)
+				- BinarySearch.lowerBound(_long_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(long) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(long element) {
+		beginWrite();
+		try {
+			choiceCheck(4);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_long_, 0, end, element);
+			grow(0);
+			System.arraycopy(_long_, index, _long_, index + 1, end - index);
+			_long_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(long) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(long[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(4);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (src[j - 1] > src[j]) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && _long_[i] > src[j]) {
+					_long_[k--] = _long_[i--];
+				} else {
+					_long_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(float)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(float element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(float element) {
+		choiceCheck(5);
+		sortedCheck();
+		return BinarySearch.lowerBound(_float_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(float)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(float element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(float element) {
+		choiceCheck(5);
+		sortedCheck();
+		return BinarySearch.upperBound(_float_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(float) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(float fromElement, float toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(float fromElement, float toElement) {
+		choiceCheck(5);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_float_, 0, end, toElement)
+				- BinarySearch.lowerBound(_float_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(float) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(float element) {
+		beginWrite();
+		try {
+			choiceCheck(5);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_float_, 0, end, element);
+			grow(0);
+			System.arraycopy(_float_, index, _float_, index + 1, end - index);
+			_float_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(float) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(float[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(5);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (Float.compare(src[j - 1], src[j]) > 0) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && Float.compare(_float_[i], src[j]) > 0) {
+					_float_[k--] = _float_[i--];
+				} else {
+					_float_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(double)
+	 * that is not less than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the lower bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int lowerBound(double element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = lowerBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.lowerBound0(element);
+		}
+		synchronized (this) {
+			return lowerBound0(element);
+		}
+	}
+
+	private int lowerBound0(double element) {
+		choiceCheck(6);
+		sortedCheck();
+		return BinarySearch.lowerBound(_double_, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first component of this sorted DynamicArray(double)
+	 * that is greater than {@code element}, or {@code size()} if there is none.
+	 *
+	 * @param element the element to search for
+	 * @return the upper bound of {@code element}
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int upperBound(double element) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = upperBound0(element);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.upperBound0(element);
+		}
+		synchronized (this) {
+			return upperBound0(element);
+		}
+	}
+
+	private int upperBound0(double element) {
+		choiceCheck(6);
+		sortedCheck();
+		return BinarySearch.upperBound(_double_, 0, end, element);
+	}
+
+	/**
+	 * Returns the number of components of this sorted DynamicArray(double) that are
+	 * greater than or equal to {@code fromElement} and less than
+	 * {@code toElement}, in O(log n) time.
+	 *
+	 * @param fromElement low endpoint (inclusive) of the range
+	 * @param toElement   high endpoint (exclusive) of the range
+	 * @return the number of components in the range, {@code 0} if
+	 *         {@code toElement <= fromElement}
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public int rangeCount(double fromElement, double toElement) {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				int r = rangeCount0(fromElement, toElement);
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.rangeCount0(fromElement, toElement);
+		}
+		synchronized (this) {
+			return rangeCount0(fromElement, toElement);
+		}
+	}
+
+	private int rangeCount0(double fromElement, double toElement) {
+		choiceCheck(6);
+		sortedCheck();
+		return Math.max(0, BinarySearch.lowerBound(_double_, 0, end, toElement)
+				- BinarySearch.lowerBound(_double_, 0, end, fromElement));
+	}
+
+	/**
+	 * Inserts the specified element into this sorted DynamicArray(double) after the
+	 * components equal to it, so that it stays sorted.
+	 *
+	 * @param element element to be inserted
+	 * @return the index at which {@code element} was inserted
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 */
+	public synchronized int insertSorted(double element) {
+		beginWrite();
+		try {
+			choiceCheck(6);
+			sortedCheck();
+			int index = BinarySearch.upperBound(_double_, 0, end, element);
+			grow(0);
+			System.arraycopy(_double_, index, _double_, index + 1, end - index);
+			_double_[index] = element;
+			end++;
+			return index;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Merges {@code len} sorted elements of {@code src}, starting at
+	 * {@code off}, into this sorted DynamicArray(double) in O(n + len) time, so
+	 * that it stays sorted. Elements equal to components already held are
+	 * placed after them.
+	 *
+	 * @param src the array containing the elements to be merged, sorted in
+	 *            ascending order from {@code off} to {@code off + len}
+	 * @param off the index of the first element of {@code src} to merge
+	 * @param len the number of elements to merge
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    {@code if(!isSorted())}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @throws IllegalArgumentException       if the elements are not sorted
+	 * @return {@code true} if successfully merged
+	 */
+	public synchronized boolean mergeSorted(double[] src, int off, int len) {
+		beginWrite();
+		try {
+			choiceCheck(6);
+			sortedCheck();
+			rangeCheck(src.length, off, len);
+			for (int j = off + 1; j < off + len; j++) {
+				if (Double.compare(src[j - 1], src[j]) > 0) {
+					throw new IllegalArgumentException("Elements to merge are not sorted");
+				}
+			}
+			growBy(len);
+			// merges from the back into the free capacity, every component moves once
+			int i = end - 1, j = off + len - 1, k = end + len - 1;
+			while (j >= off) {
+				if (i >= 0 && Double.compare(_double_[i], src[j]) > 0) {
+					_double_[k--] = _double_[i--];
+				} else {
+					_double_[k--] = src[j--];
+				}
+			}
+			end += len;
+			return true;
+		} finally {
+			endWrite();
+		}
+	}
+
+	/**
+	 * Returns the sum of the components of this DynamicArray, as a {@code Long}
+	 * for the integral choices (wrapping around on overflow like {@code long}
+	 * addition) and as a {@code Double} for {@code float} and {@code double}.
+	 * {@code float} and {@code double} components are added in four interleaved
+	 * partial sums, so the result can differ in the last bits from adding them
+	 * in order.
+	 *
+	 * @return the sum of the components, zero if this DynamicArray is empty
+	 */
+	public Object sum() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				Object r = sum0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.sum0();
+		}
+		synchronized (this) {
+			return sum0();
+		}
+	}
+
+	private Object sum0() {
+		if (choice[0] == ONE) {
+			long s = 0;
+			for (int i = 0; i < end; i++) {
+				s += _char_[i];
+			}
+			return (Object) s;
+		} else if (choice[1] == ONE) {
+			long s = 0;
+			for (int i = 0; i < end; i++) {
+				s += _byte_[i];
+			}
+			return (Object) s;
+		} else if (choice[2] == ONE) {
+			long s = 0;
+			for (int i = 0; i < end; i++) {
+				s += _short_[i];
+			}
+			return (Object) s;
+		} else if (choice[3] == ONE) {
+			return (Object) sum(_int_, end);
+		} else if (choice[4] == ONE) {
+			return (Object) sum(_long_, end);
+		} else if (choice[5] == ONE) {
+			return (Object) sum(_float_, end);
+		} else {
+			return (Object) sum(_double_, end);
+		}
+	}
+
+	/**
+	 * Returns the smallest component of this DynamicArray. {@code float} and
+	 * {@code double} components are compared like {@link Math#min(double, double)},
+	 * so the result is {@code NaN} if any component is {@code NaN}.
+	 *
+	 * @return {@code null} if DynamicArray is empty, else the smallest component
 	 */
-	public synchronized void sort(char c) {
+	public Object min() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				Object r = min0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.min0();
+		}
+		synchronized (this) {
+			return min0();
+		}
+	}
+
+	private Object min0() {
+		if (end == 0) {
+			return null;
+		}
+		if (choice[0] == ONE) {
+			char m = _char_[0];
+			for (int i = 1; i < end; i++) {
+				if (_char_[i] < m) {
+					m = _char_[i];
+				}
+			}
+			return (Object) m;
+		} else if (choice[1] == ONE) {
+			byte m = _byte_[0];
+			for (int i = 1; i < end; i++) {
+				if (_byte_[i] < m) {
+					m = _byte_[i];
+				}
+			}
+			return (Object) m;
+		} else if (choice[2] == ONE) {
+			short m = _short_[0];
+			for (int i = 1; i < end; i++) {
+				if (_short_[i] < m) {
+					m = _short_[i];
+				}
+			}
+			return (Object) m;
+		} else if (choice[3] == ONE) {
+			return (Object) min(_int_, end);
+		} else if (choice[4] == ONE) {
+			return (Object) min(_long_, end);
+		} else if (choice[5] == ONE) {
+			return (Object) min(_float_, end);
+		} else {
+			return (Object) min(_double_, end);
+		}
+	}
+
+	/**
+	 * Returns the largest component of this DynamicArray. {@code float} and
+	 * {@code double} components are compared like {@link Math#max(double, double)},
+	 * so the result is {@code NaN} if any component is {@code NaN}.
+	 *
+	 * @return {@code null} if DynamicArray is empty, else the largest component
+	 */
+	public Object max() {
+		if (lock != null) {
+			long stamp = lock.tryOptimisticRead();
+			try {
+				Object r = max0();
+				if (lock.validate(stamp)) {
+					return r;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		} else if (copyOnWrite) {
+			return view.max0();
+		}
+		synchronized (this) {
+			return max0();
+		}
+	}
+
+	private Object max0() {
+		if (end == 0) {
+			return null;
+		}
 		if (choice[0] == ONE) {
-			sort(0, end, c);
+			char m = _char_[0];
+			for (int i = 1; i < end; i++) {
+				if (_char_[i] > m) {
+					m = _char_[i];
+				}
+			}
+			return (Object) m;
 		} else if (choice[1] == ONE) {
-			sort(0, end, c);
+			byte m = _byte_[0];
+			for (int i = 1; i < end; i++) {
+				if (_byte_[i] > m) {
+					m = _byte_[i];
+				}
+			}
+			return (Object) m;
 		} else if (choice[2] == ONE) {
-			sort(0, end, c);
+			short m = _short_[0];
+			for (int i = 1; i < end; i++) {
+				if (_short_[i] > m) {
+					m = _short_[i];
+				}
+			}
+			return (Object) m;
 		} else if (choice[3] == ONE) {
-			sort(0, end, c);
+			return (Object) max(_int_, end);
 		} else if (choice[4] == ONE) {
-			sort(0, end, c);
+			return (Object) max(_long_, end);
 		} else if (choice[5] == ONE) {
-			sort(0, end, c);
+			return (Object) max(_float_, end);
+		} else {
+			return (Object) max(_double_, end);
+		}
+	}
+
+	/**
+	 * Returns the number of components of this DynamicArray(char, byte, short or
+	 * int) for which {@code predicate} is {@code true}. The predicate is run
+	 * while holding the monitor, except in {@code "copyonwrite"} mode.
+	 *
+	 * @param predicate the test applied to every component
+	 * @return the number of components matching {@code predicate}
+	 * @throws NullPointerException     {@code if(predicate == null)}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE && choice[1] != ONE && choice[2] != ONE && choice[3] != ONE)}
+	 */
+	public int countInt(IntPredicate predicate) {
+		if (copyOnWrite) {
+			return view.countInt0(predicate);
+		}
+		synchronized (this) {
+			return countInt0(predicate);
+		}
+	}
+
+	private int countInt0(IntPredicate predicate) {
+		if (predicate == null) {
+			throw new NullPointerException();
+		}
+		int count = 0;
+		if (choice[0] == ONE) {
+			for (int i = 0; i < end; i++) {
+				if (predicate.test(_char_[i])) {
+					count++;
+				}
+			}
+		} else if (choice[1] == ONE) {
+			for (int i = 0; i < end; i++) {
+				if (predicate.test(_byte_[i])) {
+					count++;
+				}
+			}
+		} else if (choice[2] == ONE) {
+			for (int i = 0; i < end; i++) {
+				if (predicate.test(_short_[i])) {
+					count++;
+				}
+			}
+		} else if (choice[3] == ONE) {
+			for (int i = 0; i < end; i++) {
+				if (predicate.test(_int_[i])) {
+					count++;
+				}
+			}
+		} else {
+			throw new IllegalArgumentException("\'countInt\' method call not allowed");
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of components of this DynamicArray(long) for which
+	 * {@code predicate} is {@code true}. The predicate is run while holding the
+	 * monitor, except in {@code "copyonwrite"} mode.
+	 *
+	 * @param predicate the test applied to every component
+	 * @return the number of components matching {@code predicate}
+	 * @throws NullPointerException     {@code if(predicate == null)}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 */
+	public int countLong(LongPredicate predicate) {
+		if (copyOnWrite) {
+			return view.countLong0(predicate);
+		}
+		synchronized (this) {
+			return countLong0(predicate);
+		}
+	}
+
+	private int countLong0(LongPredicate predicate) {
+		choiceCheck(4);
+		if (predicate == null) {
+			throw new NullPointerException();
+		}
+		int count = 0;
+		for (int i = 0; i < end; i++) {
+			if (predicate.test(_long_[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of components of this DynamicArray(float or double) for
+	 * which {@code predicate} is {@code true}. The predicate is run while holding
+	 * the monitor, except in {@code "copyonwrite"} mode.
+	 *
+	 * @param predicate the test applied to every component
+	 * @return the number of components matching {@code predicate}
+	 * @throws NullPointerException     {@code if(predicate == null)}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE && choice[6] != ONE)}
+	 */
+	public int countDouble(DoublePredicate predicate) {
+		if (copyOnWrite) {
+			return view.countDouble0(predicate);
+		}
+		synchronized (this) {
+			return countDouble0(predicate);
+		}
+	}
+
+	private int countDouble0(DoublePredicate predicate) {
+		if (predicate == null) {
+			throw new NullPointerException();
+		}
+		int count = 0;
+		if (choice[5] == ONE) {
+			for (int i = 0; i < end; i++) {
+				if (predicate.test(_float_[i])) {
+					count++;
+				}
+			}
+		} else if (choice[6] == ONE) {
+			for (int i = 0; i < end; i++) {
+				if (predicate.test(_double_[i])) {
+					count++;
+				}
+			}
+		} else {
+			throw new IllegalArgumentException("\'countDouble\' method call not allowed");
+		}
+		return count;
+	}
+
+	// sum of a[0, n) in four partial sums, which do not wait on each other
+	private static long sum(int[] a, int n) {
+		long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = 0;
+		for (; i < n - 3; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < n; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	// min of a[0, n), n > 0, in four partial results
+	private static int min(int[] a, int n) {
+		int m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+	// max of a[0, n), n > 0, in four partial results
+	private static int max(int[] a, int n) {
+		int m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+	// sum of a[0, n) in four partial sums, which do not wait on each other
+	private static long sum(long[] a, int n) {
+		long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = 0;
+		for (; i < n - 3; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < n; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	// min of a[0, n), n > 0, in four partial results
+	private static long min(long[] a, int n) {
+		long m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+	// max of a[0, n), n > 0, in four partial results
+	private static long max(long[] a, int n) {
+		long m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+	// sum of a[0, n) in four partial sums, which do not wait on each other
+	private static double sum(float[] a, int n) {
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = 0;
+		for (; i < n - 3; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < n; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	// min of a[0, n), n > 0, in four partial results, NaN if any is NaN
+	private static float min(float[] a, int n) {
+		float m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+	// max of a[0, n), n > 0, in four partial results, NaN if any is NaN
+	private static float max(float[] a, int n) {
+		float m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+	// sum of a[0, n) in four partial sums, which do not wait on each other
+	private static double sum(double[] a, int n) {
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = 0;
+		for (; i < n - 3; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < n; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	// min of a[0, n), n > 0, in four partial results, NaN if any is NaN
+	private static double min(double[] a, int n) {
+		double m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+	// max of a[0, n), n > 0, in four partial results, NaN if any is NaN
+	private static double max(double[] a, int n) {
+		double m0 = a[0], m1 = m0, m2 = m0, m3 = m0;
+		int i = 1;
+		for (; i < n - 3; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for (; i < n; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+	/**
+	 * Performs {@code action} on every component of this DynamicArray(char, byte, short or int), in
+	 * order, taking the monitor once for the whole traversal. In
+	 * {@code "copyonwrite"} mode the traversal runs over the copy published by
+	 * the last write and takes no lock.
+	 *
+	 * @param action the action to be performed on every component
+	 * @throws NullPointerException     {@code if(action == null)}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE && choice[1] != ONE && choice[2] != ONE && choice[3] != ONE)}
+	 */
+	public void forEachInt(IntConsumer action) {
+		if (copyOnWrite) {
+			view.forEachInt0(action);
+			return;
+		}
+		synchronized (this) {
+			forEachInt0(action);
+		}
+	}
+
+	private void forEachInt0(IntConsumer action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		if (choice[0] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_char_[i]);
+			}
+
+		} else if (choice[1] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_byte_[i]);
+			}
+
+		} else if (choice[2] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_short_[i]);
+			}
+
+		} else if (choice[3] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_int_[i]);
+			}
+
+		} else {
+			throw new IllegalArgumentException("\'forEachInt\' method call not allowed");
+		}
+	}
+
+	// copies up to dst.length components from index on into dst, widened to int,
+	// and returns how many were copied
+	private int copyBlock(int index, int[] dst) {
+		int n = Math.max(0, Math.min(dst.length, end - index));
+		if (choice[0] == ONE) {
+			for (int i = 0; i < n; i++) {
+				dst[i] = _char_[index + i];
+			}
+
+		} else if (choice[1] == ONE) {
+			for (int i = 0; i < n; i++) {
+				dst[i] = _byte_[index + i];
+			}
+
+		} else if (choice[2] == ONE) {
+			for (int i = 0; i < n; i++) {
+				dst[i] = _short_[index + i];
+			}
+
+		} else if (choice[3] == ONE) {
+			System.arraycopy(_int_, index, dst, 0, n);
+
+		} else {
+			throw new IllegalArgumentException("\'intCursor\' method call not allowed");
+		}
+		return n;
+	}
+
+	/**
+	 * Returns a {@code Spliterator.OfInt} over the components of this
+	 * DynamicArray(char, byte, short or int), widened to {@code int}. It traverses the components
+	 * held when this method is called: in {@code "copyonwrite"} mode those of
+	 * the published copy, without copying it again if the components are ints, in the other modes a copy taken while holding the
+	 * monitor. It reports {@code SIZED}, {@code SUBSIZED}, {@code ORDERED} and
+	 * {@code IMMUTABLE} and splits evenly, so parallel streams divide it well.
+	 *
+	 * @return a spliterator over the components of this DynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE && choice[1] != ONE && choice[2] != ONE && choice[3] != ONE)}
+	 */
+	public Spliterator.OfInt spliteratorInt() {
+		DynamicArray s;
+		if (copyOnWrite) {
+			s = view;
+		} else {
+			synchronized (this) {
+				s = this;
+				if (choice[3] != ONE) {
+					return Arrays.spliterator(s.toIntArray());
+				}
+				return Arrays.spliterator(Arrays.copyOf(_int_, end));
+			}
+		}
+		if (s.choice[3] == ONE) {
+			return Arrays.spliterator(s._int_, 0, s.end);
+		}
+		return Arrays.spliterator(s.toIntArray());
+	}
+
+	// components widened to int
+	private int[] toIntArray() {
+		int[] a = new int[end];
+		copyBlock(0, a);
+		return a;
+	}
+
+	/**
+	 * Returns a sequential {@code IntStream} over the components of this
+	 * DynamicArray(char, byte, short or int), backed by {@link #spliteratorInt()}. Call
+	 * {@code parallel()} on it to consume the components in parallel.
+	 *
+	 * @return a stream of the components of this DynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE && choice[1] != ONE && choice[2] != ONE && choice[3] != ONE)}
+	 */
+	public IntStream intStream() {
+		return StreamSupport.intStream(spliteratorInt(), false);
+	}
+
+	/**
+	 * Returns a cursor over the components of this DynamicArray(char, byte, short or int), widened to
+	 * {@code int}.
+	 *
+	 * @return a cursor positioned before the first component
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE && choice[1] != ONE && choice[2] != ONE && choice[3] != ONE)}
+	 * @see IntCursor
+	 */
+	public IntCursor intCursor() {
+		if (choice[0] != ONE && choice[1] != ONE && choice[2] != ONE && choice[3] != ONE) {
+			throw new IllegalArgumentException("\'intCursor\' method call not allowed");
+		}
+		return new IntCursor();
+	}
+
+	/**
+	 * Performs {@code action} on every component of this DynamicArray(long), in
+	 * order, taking the monitor once for the whole traversal. In
+	 * {@code "copyonwrite"} mode the traversal runs over the copy published by
+	 * the last write and takes no lock.
+	 *
+	 * @param action the action to be performed on every component
+	 * @throws NullPointerException     {@code if(action == null)}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 */
+	public void forEachLong(LongConsumer action) {
+		if (copyOnWrite) {
+			view.forEachLong0(action);
+			return;
+		}
+		synchronized (this) {
+			forEachLong0(action);
+		}
+	}
+
+	private void forEachLong0(LongConsumer action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		if (choice[4] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_long_[i]);
+			}
+
+		} else {
+			throw new IllegalArgumentException("\'forEachLong\' method call not allowed");
+		}
+	}
+
+	// copies up to dst.length components from index on into dst, widened to long,
+	// and returns how many were copied
+	private int copyBlock(int index, long[] dst) {
+		int n = Math.max(0, Math.min(dst.length, end - index));
+		if (choice[4] == ONE) {
+			System.arraycopy(_long_, index, dst, 0, n);
+
 		} else {
-			sort(0, end, c);
+			throw new IllegalArgumentException("\'longCursor\' method call not allowed");
 		}
+		return n;
 	}
 
 	/**
-	 * Sorts this DynamicArray according to the order specified by the character
-	 * {@code c}.<br>
-	 * <b>Note: Array trims to it's size before sorting.</b>
+	 * Returns a {@code Spliterator.OfLong} over the components of this
+	 * DynamicArray(long), widened to {@code long}. It traverses the components
+	 * held when this method is called: in {@code "copyonwrite"} mode those of
+	 * the published copy, without copying it again if the components are longs, in the other modes a copy taken while holding the
+	 * monitor. It reports {@code SIZED}, {@code SUBSIZED}, {@code ORDERED} and
+	 * {@code IMMUTABLE} and splits evenly, so parallel streams divide it well.
 	 *
-	 * @param c         {@code if(c == 'a' || c == 'A')} then sort <b>a</b> in
-	 *                  ascending order,
-	 *                  {@code if(c == 'd' || c == 'D')} then sort <b>a</b> in
-	 *                  descending order
-	 * @param fromIndex the index of the first element, inclusive, to be sorted
-	 * @param toIndex   the index of the last element, exclusive, to be sorted
-	 * @throws IllegalArgumentException       {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
-	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
-	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > array.length)}
+	 * @return a spliterator over the components of this DynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
 	 */
-	public synchronized void sort(int fromIndex, int toIndex, char c) {
-		if (choice[0] == ONE) {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_char_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_char_, fromIndex, toIndex);
-				char temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _char_[i];
-					_char_[i] = _char_[j];
-					_char_[j] = temp;
+	public Spliterator.OfLong spliteratorLong() {
+		DynamicArray s;
+		if (copyOnWrite) {
+			s = view;
+		} else {
+			synchronized (this) {
+				s = this;
+				if (choice[4] != ONE) {
+					return Arrays.spliterator(s.toLongArray());
 				}
-			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				return Arrays.spliterator(Arrays.copyOf(_long_, end));
 			}
-		} else if (choice[1] == ONE) {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_byte_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_byte_, fromIndex, toIndex);
-				byte temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _byte_[i];
-					_byte_[i] = _byte_[j];
-					_byte_[j] = temp;
+		}
+		if (s.choice[4] == ONE) {
+			return Arrays.spliterator(s._long_, 0, s.end);
+		}
+		return Arrays.spliterator(s.toLongArray());
+	}
+
+	// components widened to long
+	private long[] toLongArray() {
+		long[] a = new long[end];
+		copyBlock(0, a);
+		return a;
+	}
+
+	/**
+	 * Returns a sequential {@code LongStream} over the components of this
+	 * DynamicArray(long), backed by {@link #spliteratorLong()}. Call
+	 * {@code parallel()} on it to consume the components in parallel.
+	 *
+	 * @return a stream of the components of this DynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 */
+	public LongStream longStream() {
+		return StreamSupport.longStream(spliteratorLong(), false);
+	}
+
+	/**
+	 * Returns a cursor over the components of this DynamicArray(long), widened to
+	 * {@code long}.
+	 *
+	 * @return a cursor positioned before the first component
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @see LongCursor
+	 */
+	public LongCursor longCursor() {
+		if (choice[4] != ONE) {
+			throw new IllegalArgumentException("\'longCursor\' method call not allowed");
+		}
+		return new LongCursor();
+	}
+
+	/**
+	 * Performs {@code action} on every component of this DynamicArray(float or double), in
+	 * order, taking the monitor once for the whole traversal. In
+	 * {@code "copyonwrite"} mode the traversal runs over the copy published by
+	 * the last write and takes no lock.
+	 *
+	 * @param action the action to be performed on every component
+	 * @throws NullPointerException     {@code if(action == null)}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE && choice[6] != ONE)}
+	 */
+	public void forEachDouble(DoubleConsumer action) {
+		if (copyOnWrite) {
+			view.forEachDouble0(action);
+			return;
+		}
+		synchronized (this) {
+			forEachDouble0(action);
+		}
+	}
+
+	private void forEachDouble0(DoubleConsumer action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		if (choice[5] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_float_[i]);
+			}
+
+		} else if (choice[6] == ONE) {
+			for (int i = 0; i < end; i++) {
+				action.accept(_double_[i]);
+			}
+
+		} else {
+			throw new IllegalArgumentException("\'forEachDouble\' method call not allowed");
+		}
+	}
+
+	// copies up to dst.length components from index on into dst, widened to double,
+	// and returns how many were copied
+	private int copyBlock(int index, double[] dst) {
+		int n = Math.max(0, Math.min(dst.length, end - index));
+		if (choice[5] == ONE) {
+			for (int i = 0; i < n; i++) {
+				dst[i] = _float_[index + i];
+			}
+
+		} else if (choice[6] == ONE) {
+			System.arraycopy(_double_, index, dst, 0, n);
+
+		} else {
+			throw new IllegalArgumentException("\'doubleCursor\' method call not allowed");
+		}
+		return n;
+	}
+
+	/**
+	 * Returns a {@code Spliterator.OfDouble} over the components of this
+	 * DynamicArray(float or double), widened to {@code double}. It traverses the components
+	 * held when this method is called: in {@code "copyonwrite"} mode those of
+	 * the published copy, without copying it again if the components are doubles, in the other modes a copy taken while holding the
+	 * monitor. It reports {@code SIZED}, {@code SUBSIZED}, {@code ORDERED} and
+	 * {@code IMMUTABLE} and splits evenly, so parallel streams divide it well.
+	 *
+	 * @return a spliterator over the components of this DynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE && choice[6] != ONE)}
+	 */
+	public Spliterator.OfDouble spliteratorDouble() {
+		DynamicArray s;
+		if (copyOnWrite) {
+			s = view;
+		} else {
+			synchronized (this) {
+				s = this;
+				if (choice[6] != ONE) {
+					return Arrays.spliterator(s.toDoubleArray());
 				}
-			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				return Arrays.spliterator(Arrays.copyOf(_double_, end));
 			}
-		} else if (choice[2] == ONE) {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_short_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_short_, fromIndex, toIndex);
-				short temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _short_[i];
-					_short_[i] = _short_[j];
-					_short_[j] = temp;
+		}
+		if (s.choice[6] == ONE) {
+			return Arrays.spliterator(s._double_, 0, s.end);
+		}
+		return Arrays.spliterator(s.toDoubleArray());
+	}
+
+	// components widened to double
+	private double[] toDoubleArray() {
+		double[] a = new double[end];
+		copyBlock(0, a);
+		return a;
+	}
+
+	/**
+	 * Returns a sequential {@code DoubleStream} over the components of this
+	 * DynamicArray(float or double), backed by {@link #spliteratorDouble()}. Call
+	 * {@code parallel()} on it to consume the components in parallel.
+	 *
+	 * @return a stream of the components of this DynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE && choice[6] != ONE)}
+	 */
+	public DoubleStream doubleStream() {
+		return StreamSupport.doubleStream(spliteratorDouble(), false);
+	}
+
+	/**
+	 * Returns a cursor over the components of this DynamicArray(float or double), widened to
+	 * {@code double}.
+	 *
+	 * @return a cursor positioned before the first component
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE && choice[6] != ONE)}
+	 * @see DoubleCursor
+	 */
+	public DoubleCursor doubleCursor() {
+		if (choice[5] != ONE && choice[6] != ONE) {
+			throw new IllegalArgumentException("\'doubleCursor\' method call not allowed");
+		}
+		return new DoubleCursor();
+	}
+
+	/**
+	 * Iterates over the components of a DynamicArray(char, byte, short or int) as {@code int}s without
+	 * boxing or allocating per component.
+	 *
+	 * <pre>{@code
+	 * IntCursor c = da.intCursor();
+	 * while (c.next()) {
+	 * 	use(c.index(), c.value());
+	 * }
+	 * }</pre>
+	 *
+	 * <p>
+	 * The cursor copies {@code 256} components at a time into its own buffer,
+	 * taking the monitor once per block. In {@code "copyonwrite"} mode it
+	 * traverses the copy published when it was created or last reset and takes
+	 * no lock. Otherwise it is weakly consistent: components added, removed or
+	 * replaced during the traversal may or may not be seen.
+	 * </p>
+	 */
+	public final class IntCursor {
+
+		private final int[] buffer = new int[256];
+
+		private DynamicArray source;
+
+		// index of the component after the buffered block
+		private int next;
+
+		private int position;
+
+		private int limit;
+
+		private IntCursor() {
+			reset();
+		}
+
+		// copies the block starting at next into the buffer
+		private void fill() {
+			DynamicArray s = source;
+			if (s == DynamicArray.this) {
+				synchronized (s) {
+					limit = s.copyBlock(next, buffer);
 				}
 			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				limit = s.copyBlock(next, buffer);
 			}
-		} else if (choice[3] == ONE) {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_int_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_int_, fromIndex, toIndex);
-				int temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _int_[i];
-					_int_[i] = _int_[j];
-					_int_[j] = temp;
+			position = 0;
+			next += limit;
+		}
+
+		/**
+		 * Moves this cursor to the next component.
+		 *
+		 * @return {@code true} if there is a next component, {@code false} if the
+		 *         cursor went past the last one
+		 */
+		public boolean next() {
+			if (position + 1 < limit) {
+				position++;
+				return true;
+			}
+			fill();
+			return limit > 0;
+		}
+
+		/**
+		 * Returns the component the cursor is at.
+		 *
+		 * @return the current component
+		 * @throws java.util.NoSuchElementException if {@link #next()} was not
+		 *                                          called or returned {@code false}
+		 */
+		public int value() {
+			if (position >= limit) {
+				throw new java.util.NoSuchElementException();
+			}
+			return buffer[position];
+		}
+
+		/**
+		 * Returns the index of the component the cursor is at.
+		 *
+		 * @return the current index
+		 * @throws java.util.NoSuchElementException if {@link #next()} was not
+		 *                                          called or returned {@code false}
+		 */
+		public int index() {
+			if (position >= limit) {
+				throw new java.util.NoSuchElementException();
+			}
+			return next - limit + position;
+		}
+
+		/**
+		 * Moves this cursor back before the first component, so it can traverse
+		 * the DynamicArray again without allocating another cursor.
+		 */
+		public void reset() {
+			source = copyOnWrite ? view : DynamicArray.this;
+			next = 0;
+			position = 0;
+			limit = 0;
+		}
+	}
+
+	/**
+	 * Iterates over the components of a DynamicArray(long) as {@code long}s without
+	 * boxing or allocating per component.
+	 *
+	 * <pre>{@code
+	 * LongCursor c = da.longCursor();
+	 * while (c.next()) {
+	 * 	use(c.index(), c.value());
+	 * }
+	 * }</pre>
+	 *
+	 * <p>
+	 * The cursor copies {@code 256} components at a time into its own buffer,
+	 * taking the monitor once per block. In {@code "copyonwrite"} mode it
+	 * traverses the copy published when it was created or last reset and takes
+	 * no lock. Otherwise it is weakly consistent: components added, removed or
+	 * replaced during the traversal may or may not be seen.
+	 * </p>
+	 */
+	public final class LongCursor {
+
+		private final long[] buffer = new long[256];
+
+		private DynamicArray source;
+
+		// index of the component after the buffered block
+		private int next;
+
+		private int position;
+
+		private int limit;
+
+		private LongCursor() {
+			reset();
+		}
+
+		// copies the block starting at next into the buffer
+		private void fill() {
+			DynamicArray s = source;
+			if (s == DynamicArray.this) {
+				synchronized (s) {
+					limit = s.copyBlock(next, buffer);
 				}
 			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				limit = s.copyBlock(next, buffer);
 			}
-		} else if (choice[4] == ONE) {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_long_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_long_, fromIndex, toIndex);
-				long temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _long_[i];
-					_long_[i] = _long_[j];
-					_long_[j] = temp;
+			position = 0;
+			next += limit;
+		}
+
+		/**
+		 * Moves this cursor to the next component.
+		 *
+		 * @return {@code true} if there is a next component, {@code false} if the
+		 *         cursor went past the last one
+		 */
+		public boolean next() {
+			if (position + 1 < limit) {
+				position++;
+				return true;
+			}
+			fill();
+			return limit > 0;
+		}
+
+		/**
+		 * Returns the component the cursor is at.
+		 *
+		 * @return the current component
+		 * @throws java.util.NoSuchElementException if {@link #next()} was not
+		 *                                          called or returned {@code false}
+		 */
+		public long value() {
+			if (position >= limit) {
+				throw new java.util.NoSuchElementException();
+			}
+			return buffer[position];
+		}
+
+		/**
+		 * Returns the index of the component the cursor is at.
+		 *
+		 * @return the current index
+		 * @throws java.util.NoSuchElementException if {@link #next()} was not
+		 *                                          called or returned {@code false}
+		 */
+		public int index() {
+			if (position >= limit) {
+				throw new java.util.NoSuchElementException();
+			}
+			return next - limit + position;
+		}
+
+		/**
+		 * Moves this cursor back before the first component, so it can traverse
+		 * the DynamicArray again without allocating another cursor.
+		 */
+		public void reset() {
+			source = copyOnWrite ? view : DynamicArray.this;
+			next = 0;
+			position = 0;
+			limit = 0;
+		}
+	}
+
+	/**
+	 * Iterates over the components of a DynamicArray(float or double) as {@code double}s without
+	 * boxing or allocating per component.
+	 *
+	 * <pre>{@code
+	 * DoubleCursor c = da.doubleCursor();
+	 * while (c.next()) {
+	 * 	use(c.index(), c.value());
+	 * }
+	 * }</pre>
+	 *
+	 * <p>
+	 * The cursor copies {@code 256} components at a time into its own buffer,
+	 * taking the monitor once per block. In {@code "copyonwrite"} mode it
+	 * traverses the copy published when it was created or last reset and takes
+	 * no lock. Otherwise it is weakly consistent: components added, removed or
+	 * replaced during the traversal may or may not be seen.
+	 * </p>
+	 */
+	public final class DoubleCursor {
+
+		private final double[] buffer = new double[256];
+
+		private DynamicArray source;
+
+		// index of the component after the buffered block
+		private int next;
+
+		private int position;
+
+		private int limit;
+
+		private DoubleCursor() {
+			reset();
+		}
+
+		// copies the block starting at next into the buffer
+		private void fill() {
+			DynamicArray s = source;
+			if (s == DynamicArray.this) {
+				synchronized (s) {
+					limit = s.copyBlock(next, buffer);
 				}
 			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+				limit = s.copyBlock(next, buffer);
 			}
-		} else if (choice[5] == ONE) {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_float_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_float_, fromIndex, toIndex);
-				float temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _float_[i];
-					_float_[i] = _float_[j];
-					_float_[j] = temp;
+			position = 0;
+			next += limit;
+		}
+
+		/**
+		 * Moves this cursor to the next component.
+		 *
+		 * @return {@code true} if there is a next component, {@code false} if the
+		 *         cursor went past the last one
+		 */
+		public boolean next() {
+			if (position + 1 < limit) {
+				position++;
+				return true;
+			}
+			fill();
+			return limit > 0;
+		}
+
+		/**
+		 * Returns the component the cursor is at.
+		 *
+		 * @return the current component
+		 * @throws java.util.NoSuchElementException if {@link #next()} was not
+		 *                                          called or returned {@code false}
+		 */
+		public double value() {
+			if (position >= limit) {
+				throw new java.util.NoSuchElementException();
+			}
+			return buffer[position];
+		}
+
+		/**
+		 * Returns the index of the component the cursor is at.
+		 *
+		 * @return the current index
+		 * @throws java.util.NoSuchElementException if {@link #next()} was not
+		 *                                          called or returned {@code false}
+		 */
+		public int index() {
+			if (position >= limit) {
+				throw new java.util.NoSuchElementException();
+			}
+			return next - limit + position;
+		}
+
+		/**
+		 * Moves this cursor back before the first component, so it can traverse
+		 * the DynamicArray again without allocating another cursor.
+		 */
+		public void reset() {
+			source = copyOnWrite ? view : DynamicArray.this;
+			next = 0;
+			position = 0;
+			limit = 0;
+		}
+	}
+
+	/**
+	 * Saves this DynamicArray to {@code file}, replacing its contents, through
+	 * memory mapped regions of the file. The file holds a 16 byte header with
+	 * the element type and the size followed by the components in little-endian
+	 * order; {@link #load(Path)} reads it back and
+	 * {@link OffHeapDynamicArray#map(Path)} opens it as a read-only view without
+	 * copying.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized void save(Path file) throws IOException {
+		int type = type();
+		int shift = ArrayFile.SHIFT[type];
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ArrayFile.writeHeader(channel, type, end);
+			for (int i = 0, n; i < end; i += n) {
+				n = (int) Math.min(end - i, ArrayFile.REGION >> shift);
+				ByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE,
+						ArrayFile.HEADER + ((long) i << shift), (long) n << shift).order(ByteOrder.LITTLE_ENDIAN);
+				if (choice[0] == ONE) {
+					region.asCharBuffer().put(_char_, i, n);
+				} else if (choice[1] == ONE) {
+					region.put(_byte_, i, n);
+				} else if (choice[2] == ONE) {
+					region.asShortBuffer().put(_short_, i, n);
+				} else if (choice[3] == ONE) {
+					region.asIntBuffer().put(_int_, i, n);
+				} else if (choice[4] == ONE) {
+					region.asLongBuffer().put(_long_, i, n);
+				} else if (choice[5] == ONE) {
+					region.asFloatBuffer().put(_float_, i, n);
+				} else {
+					region.asDoubleBuffer().put(_double_, i, n);
 				}
-			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
-		} else {
-			if (c == 'a' || c == 'A') {
-				shrink(true);
-				Arrays.sort(_double_, fromIndex, toIndex);
-			} else if (c == 'd' || c == 'D') {
-				shrink(true);
-				Arrays.sort(_double_, fromIndex, toIndex);
-				double temp;
-				for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
-					temp = _double_[i];
-					_double_[i] = _double_[j];
-					_double_[j] = temp;
+			channel.force(false);
+		}
+	}
+
+	/**
+	 * Loads a DynamicArray saved by {@link #save(Path)}, reading {@code file}
+	 * through memory mapped regions. The returned DynamicArray has the saved
+	 * element type, size and capacity equal to the size.
+	 *
+	 * @param file the file to read
+	 * @return the DynamicArray held in {@code file}
+	 * @throws IOException if an I/O error occurs, if {@code file} is not a file
+	 *                     written by {@code save} or if it holds more
+	 *                     components than a DynamicArray can
+	 */
+	public static DynamicArray load(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long[] header = ArrayFile.readHeader(channel, file);
+			int type = (int) header[0];
+			int shift = ArrayFile.SHIFT[type];
+			if (header[1] > Integer.MAX_VALUE - 8) {
+				throw new IOException("Too many components for a DynamicArray (" + header[1] + "): " + file);
+			}
+			int size = (int) header[1];
+			DynamicArray a = new DynamicArray(size, ArrayFile.NAMES[type]);
+			for (int i = 0, n; i < size; i += n) {
+				n = (int) Math.min(size - i, ArrayFile.REGION >> shift);
+				ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY,
+						ArrayFile.HEADER + ((long) i << shift), (long) n << shift).order(ByteOrder.LITTLE_ENDIAN);
+				if (type == 0) {
+					region.asCharBuffer().get(a._char_, i, n);
+				} else if (type == 1) {
+					region.get(a._byte_, i, n);
+				} else if (type == 2) {
+					region.asShortBuffer().get(a._short_, i, n);
+				} else if (type == 3) {
+					region.asIntBuffer().get(a._int_, i, n);
+				} else if (type == 4) {
+					region.asLongBuffer().get(a._long_, i, n);
+				} else if (type == 5) {
+					region.asFloatBuffer().get(a._float_, i, n);
+				} else {
+					region.asDoubleBuffer().get(a._double_, i, n);
 				}
-			} else {
-				throw new IllegalArgumentException("Invalid choice \'" + c +
-						"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
 			}
+			a.end = size;
+			a.sorted = a.ordered(0, size);
+			return a;
+		}
+	}
+
+	/**
+	 * Returns the index of the initialized choice.
+	 */
+	private int type() {
+		int k = 0;
+		while (choice[k] != ONE) {
+			k++;
 		}
+		return k;
 	}
 
 	/**
@@ -2300,34 +6984,39 @@ public class DynamicArray {
 	 * the capacity.
 	 */
 	public synchronized void zeroFill() {
-		if (choice[0] == ONE) {
-			for (int i = 0; i < end; i++) {
-				_char_[i] = 0;
-			}
-		} else if (choice[1] == ONE) {
-			for (int i = 0; i < end; i++) {
-				_byte_[i] = 0;
-			}
-		} else if (choice[2] == ONE) {
-			for (int i = 0; i < end; i++) {
-				_short_[i] = 0;
-			}
-		} else if (choice[3] == ONE) {
-			for (int i = 0; i < end; i++) {
-				_int_[i] = 0;
-			}
-		} else if (choice[4] == ONE) {
-			for (int i = 0; i < end; i++) {
-				_long_[i] = 0;
-			}
-		} else if (choice[5] == ONE) {
-			for (int i = 0; i < end; i++) {
-				_float_[i] = 0;
-			}
-		} else {
-			for (int i = 0; i < end; i++) {
-				_double_[i] = 0;
+		beginWrite();
+		try {
+			if (choice[0] == ONE) {
+				for (int i = 0; i < end; i++) {
+					_char_[i] = 0;
+				}
+			} else if (choice[1] == ONE) {
+				for (int i = 0; i < end; i++) {
+					_byte_[i] = 0;
+				}
+			} else if (choice[2] == ONE) {
+				for (int i = 0; i < end; i++) {
+					_short_[i] = 0;
+				}
+			} else if (choice[3] == ONE) {
+				for (int i = 0; i < end; i++) {
+					_int_[i] = 0;
+				}
+			} else if (choice[4] == ONE) {
+				for (int i = 0; i < end; i++) {
+					_long_[i] = 0;
+				}
+			} else if (choice[5] == ONE) {
+				for (int i = 0; i < end; i++) {
+					_float_[i] = 0;
+				}
+			} else {
+				for (int i = 0; i < end; i++) {
+					_double_[i] = 0;
+				}
 			}
+		} finally {
+			endWrite();
 		}
 	}
 
@@ -0,0 +1,664 @@
+package dsa.datastructures.list;
+
+import dsa.algorithms.search.LinearSearch;
+import java.util.Arrays;
+
+/**
+ * The {@code FloatDynamicArray} class is a {@link DynamicArray} specialized for {@code float}.
+ * Its components can be accessed using an integer index and its size grows or
+ * shrinks as needed, with the same {@code capacity} and
+ * {@code capacityIncrement} policy as {@code DynamicArray}, or with the
+ * specified {@link GrowthPolicy}.
+ *
+ * <p>
+ * Unlike {@code DynamicArray} it holds a single {@code float[]}, so no type
+ * dispatch is done per call and {@link #getFloat(int)}, {@link #setFloat(int, float)}
+ * and {@link #addFloat(float)} take and return {@code float} without boxing.
+ * </p>
+ *
+ * <p>
+ * {@code FloatDynamicArray} is <b>thread-safe</b>.
+ * </p>
+ *
+ * <p>
+ * The seven primitive DynamicArrays are maintained by hand, a change to
+ * {@code FloatDynamicArray} is made to the other six as well.
+ * </p>
+ *
+ * @author Sathvik
+ * @version 1.0
+ * @see DynamicArray
+ */
+public class FloatDynamicArray {
+
+	/**
+	 * {@code capacity} is the actual capacity of dynamic array.
+	 * Default capacity is {@code 11} if not specified.
+	 */
+	private int capacity;
+
+	/**
+	 * Decides the capacity of the {@code FloatDynamicArray} when its size becomes greater
+	 * than or equal to its capacity and when removals shrink it.
+	 * If neither {@code capacityIncrement} nor a policy is specified then
+	 * incrementation is {@code capacity += (capacity/2) + 1}.
+	 * If {@code capacityIncrement} is specified then incrementation is
+	 * {@code capacity += capacityIncrement}.
+	 * Either way the capacity shrinks to the size once the size drops below
+	 * {@code capacity/2}.
+	 */
+	private GrowthPolicy policy;
+
+	/**
+	 * Number of times the internal array was reallocated larger.
+	 */
+	private long grows = 0;
+
+	/**
+	 * Number of times the internal array was reallocated smaller.
+	 */
+	private long shrinks = 0;
+
+	/**
+	 * {@code end} holds the last index of {@code FloatDynamicArray}.
+	 */
+	private int end = 0;
+
+	/**
+	 * float array
+	 */
+	private float[] data;
+
+	/**
+	 * Constructs an empty FloatDynamicArray, with the initial capacity of {@code 11} and
+	 * capacity increment of {@code capacity += (capacity/2) + 1}.
+	 */
+	public FloatDynamicArray() {
+		this(11);
+	}
+
+	/**
+	 * Constructs an empty FloatDynamicArray, with the specified initial capacity and
+	 * capacity increment of {@code capacity += (capacity/2) + 1}.
+	 *
+	 * @param initialCapacity the initial capacity of the FloatDynamicArray
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 */
+	public FloatDynamicArray(int initialCapacity) {
+		this(initialCapacity, 1);
+		policy = GrowthPolicy.geometric(1.5);
+	}
+
+	/**
+	 * Constructs an empty FloatDynamicArray, with the specified initial capacity and
+	 * specified capacity increment of {@code capacity += capacityIncrement}.
+	 *
+	 * @param initialCapacity   the initial capacity of the FloatDynamicArray
+	 * @param capacityIncrement the amount by which the capacity is
+	 *                          increased when the FloatDynamicArray overflows
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws IllegalArgumentException {@code if(capacityIncrement < 1)}
+	 */
+	public FloatDynamicArray(int initialCapacity, int capacityIncrement) {
+		if (initialCapacity >= 0) {
+			capacity = initialCapacity;
+		} else {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+
+		if (capacityIncrement > 0) {
+			this.policy = GrowthPolicy.fixed(capacityIncrement);
+		} else {
+			throw new IllegalArgumentException("Illegal Capacity Increment: " + capacityIncrement);
+		}
+
+		data = new float[capacity];
+	}
+
+	/**
+	 * Constructs an empty FloatDynamicArray, with the specified initial capacity and
+	 * growth policy.
+	 *
+	 * @param initialCapacity the initial capacity of the FloatDynamicArray
+	 * @param policy          decides how the capacity grows and shrinks
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws NullPointerException     {@code if(policy == null)}
+	 */
+	public FloatDynamicArray(int initialCapacity, GrowthPolicy policy) {
+		this(initialCapacity, 1);
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		this.policy = policy;
+	}
+
+	private void grow(int minCapacity) {
+		if (end >= capacity || minCapacity != 0) {
+			if (minCapacity > 0) {
+				capacity = minCapacity;
+			} else {
+				capacity = policy.grownCapacity(capacity, end + 1);
+			}
+			grows++;
+			data = Arrays.copyOf(data, capacity);
+		}
+	}
+
+	private void shrink(boolean trim) {
+		int next = trim ? end : policy.shrunkCapacity(capacity, end);
+		if (next != capacity) {
+			capacity = next;
+			shrinks++;
+			data = Arrays.copyOf(data, capacity);
+		}
+	}
+
+	private void growBy(int len) {
+		if (len > capacity - end) {
+			if (end + len < 0) {
+				throw new OutOfMemoryError("Required capacity too large: " + end + " + " + len);
+			}
+			grow(policy.grownCapacity(capacity, end + len));
+		}
+	}
+
+	private void rangeCheck(int length, int off, int len) {
+		if (off < 0 || len < 0 || off > length - len) {
+			throw new ArrayIndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + length);
+		}
+	}
+
+	private void rangeCheck(int index) {
+		if (index > end) {
+			throw new ArrayIndexOutOfBoundsException(index + " > " + end);
+		}
+		if (index < 0) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+	}
+
+	private void rangeCheck0(int index) {
+		if (index >= end) {
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + index);
+		}
+		if (index < 0) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+	}
+
+	/**
+	 * Appends the specified element to the end of this FloatDynamicArray.
+	 *
+	 * @param element element to be appended to this FloatDynamicArray
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addFloat(float element) {
+		grow(0);
+		data[end++] = element;
+		return true;
+	}
+
+	/**
+	 * Inserts the specified element at the specified position in this FloatDynamicArray.
+	 * Shifts the element currently at that position (if any) and any
+	 * subsequent elements to the right (adds one to their indices).
+	 *
+	 * @param index   index at which the specified element is to be inserted
+	 * @param element element to be inserted
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean addFloat(int index, float element) {
+		rangeCheck(index);
+		grow(0);
+		System.arraycopy(data, index, data, index + 1, end - index);
+		data[index] = element;
+		end++;
+		return true;
+	}
+
+	/**
+	 * Returns the element at the specified position in this FloatDynamicArray.
+	 *
+	 * @param index index of the element to return
+	 * @return element at the specified index
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized float getFloat(int index) {
+		rangeCheck0(index);
+		return data[index];
+	}
+
+	/**
+	 * Replaces the element at the specified position in this FloatDynamicArray with the
+	 * specified element.
+	 *
+	 * @param index   index of the element to replace
+	 * @param element element to be stored at the specified position
+	 * @return the element previously at the specified position
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized float setFloat(int index, float element) {
+		rangeCheck0(index);
+		float old = data[index];
+		data[index] = element;
+		return old;
+	}
+
+	/**
+	 * Removes the element at the specified position in this FloatDynamicArray.
+	 * Shifts any subsequent elements to the left (subtracts one from their
+	 * indices). Returns the element that was removed from the FloatDynamicArray.
+	 *
+	 * @param index the index of the element to be removed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @return element that was removed
+	 */
+	public synchronized float removeAtIndex(int index) {
+		rangeCheck0(index);
+		shrink(false);
+		float old = data[index];
+		end--;
+		System.arraycopy(data, index + 1, data, index, end - index);
+		return old;
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element in this FloatDynamicArray.
+	 * If the FloatDynamicArray does not contain the element, it is unchanged.
+	 *
+	 * @param element element to be removed from this FloatDynamicArray, if present
+	 * @return true if the FloatDynamicArray contained the specified element; else false
+	 */
+	public synchronized boolean remove(float element) {
+		int i = indexOf(element);
+		if (i > -1) {
+			removeAtIndex(i);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this FloatDynamicArray, or -1 if this FloatDynamicArray does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this FloatDynamicArray, or -1 if this FloatDynamicArray does not contain the element
+	 */
+	public synchronized int indexOf(float element) {
+		return LinearSearch.search(data, 0, end, element);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this FloatDynamicArray, searching forwards from {@code index}, or returns -1 if the
+	 * element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this FloatDynamicArray at position {@code index} or later in the FloatDynamicArray;
+	 *         {@code -1} if the element is not found.
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized int indexOf(float element, int index) {
+		rangeCheck0(index);
+		return LinearSearch.search(data, index, end, element);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the specified element
+	 * in this FloatDynamicArray, or -1 if this FloatDynamicArray does not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the last occurrence of the specified element in
+	 *         this FloatDynamicArray, or -1 if this FloatDynamicArray does not contain the element
+	 */
+	public synchronized int lastIndexOf(float element) {
+		for (int i = end - 1; i > -1; i--) {
+			if (data[i] == element) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the specified element in
+	 * this FloatDynamicArray, searching backwards from {@code index}, or returns -1 if the
+	 * element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching backwards from
+	 * @return the index of the last occurrence of the element at position
+	 *         less than or equal to {@code index} in this FloatDynamicArray;
+	 *         -1 if the element is not found.
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized int lastIndexOf(float element, int index) {
+		rangeCheck0(index);
+		for (int i = index; i > -1; i--) {
+			if (data[i] == element) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this FloatDynamicArray contains the specified element.
+	 * Algorithm used to search elements is linear search.
+	 *
+	 * @param element element whose presence in this FloatDynamicArray is to be tested
+	 * @return {@code true} if this FloatDynamicArray contains the specified element;
+	 *         else {@code false}
+	 * @see <a href="../../algorithms/search/LinearSearch.html">LinearSearch</a>
+	 */
+	public synchronized boolean contains(float element) {
+		return LinearSearch.search(data, 0, end, element) > -1;
+	}
+
+	/**
+	 * Replace all the {@code oldElement}, with the {@code newElement} in this
+	 * FloatDynamicArray.
+	 *
+	 * @param oldElement the old element
+	 * @param newElement the new element
+	 * @return {@code true} if atleast one {@code oldElement} element is replaced
+	 *         with {@code newElement}
+	 */
+	public synchronized boolean replace(float oldElement, float newElement) {
+		boolean flag = false;
+		for (int i = 0; i < end; i++) {
+			if (data[i] == oldElement) {
+				flag = true;
+				data[i] = newElement;
+			}
+		}
+		return flag;
+	}
+
+	/**
+	 * Returns the first component (the item at index {@code 0}) of the FloatDynamicArray.
+	 *
+	 * @return the first component of the FloatDynamicArray
+	 * @throws java.util.NoSuchElementException if this FloatDynamicArray is empty
+	 */
+	public synchronized float firstFloat() {
+		if (end == 0) {
+			throw new java.util.NoSuchElementException();
+		}
+		return data[0];
+	}
+
+	/**
+	 * Returns the last component of the FloatDynamicArray.
+	 *
+	 * @return the last component of the FloatDynamicArray
+	 * @throws java.util.NoSuchElementException if this FloatDynamicArray is empty
+	 */
+	public synchronized float lastFloat() {
+		if (end == 0) {
+			throw new java.util.NoSuchElementException();
+		}
+		return data[end - 1];
+	}
+
+	/**
+	 * Tests if this FloatDynamicArray has no components.
+	 *
+	 * @return {@code true} if and only if this FloatDynamicArray has no components, that
+	 *         is, its size is zero; {@code false} otherwise.
+	 */
+	public synchronized boolean isEmpty() {
+		return end == 0;
+	}
+
+	/**
+	 * Appends {@code len} elements of {@code src}, starting at {@code off}, to
+	 * the end of this FloatDynamicArray. The capacity is checked once for the whole batch
+	 * and the elements are copied in bulk.
+	 *
+	 * @param src the array containing the elements to be appended
+	 * @param off the index of the first element of {@code src} to append
+	 * @param len the number of elements to append
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean addAll(float[] src, int off, int len) {
+		rangeCheck(src.length, off, len);
+		growBy(len);
+		System.arraycopy(src, off, data, end, len);
+		end += len;
+		return true;
+	}
+
+	/**
+	 * Inserts {@code len} elements of {@code src}, starting at {@code off}, at
+	 * the specified position in this FloatDynamicArray. Shifts the element currently at that
+	 * position (if any) and any subsequent elements to the right (adds
+	 * {@code len} to their indices) with a single bulk copy.
+	 *
+	 * @param index index at which the first element is to be inserted
+	 * @param src   the array containing the elements to be inserted
+	 * @param off   the index of the first element of {@code src} to insert
+	 * @param len   the number of elements to insert
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index > end || index < 0)}
+	 * @throws NullPointerException           {@code if(src == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || len < 0 || off + len > src.length)}
+	 * @return {@code true} if successfully inserted
+	 */
+	public synchronized boolean insertAll(int index, float[] src, int off, int len) {
+		rangeCheck(index);
+		rangeCheck(src.length, off, len);
+		growBy(len);
+		System.arraycopy(data, index, data, index + len, end - index);
+		System.arraycopy(src, off, data, index, len);
+		end += len;
+		return true;
+	}
+
+	/**
+	 * Removes from this FloatDynamicArray all of the elements whose index is between
+	 * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Shifts any
+	 * subsequent elements to the left with a single bulk copy.
+	 *
+	 * @param fromIndex index of the first element to be removed
+	 * @param toIndex   index after the last element to be removed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > end)}
+	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
+	 */
+	public synchronized void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > end) {
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + "]");
+		}
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+		System.arraycopy(data, toIndex, data, fromIndex, end - toIndex);
+		end -= toIndex - fromIndex;
+		shrink(false);
+	}
+
+	/**
+	 * Copies {@code len} elements of this FloatDynamicArray, starting at {@code index}, into
+	 * {@code dst} starting at {@code off}.
+	 *
+	 * @param index the index of the first element to copy
+	 * @param dst   the array into which the elements are copied
+	 * @param off   the index in {@code dst} of the first copied element
+	 * @param len   the number of elements to copy
+	 * @throws NullPointerException           {@code if(dst == null)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index < 0 || len < 0 || index + len > end)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(off < 0 || off + len > dst.length)}
+	 */
+	public synchronized void copyInto(int index, float[] dst, int off, int len) {
+		rangeCheck(end, index, len);
+		rangeCheck(dst.length, off, len);
+		System.arraycopy(data, index, dst, off, len);
+	}
+
+	/**
+	 * Removes all of the elements from this FloatDynamicArray. The FloatDynamicArray will be empty after
+	 * this call returns.
+	 */
+	public synchronized void clear() {
+		end = 0;
+		shrink(true);
+	}
+
+	/**
+	 * Returns the number of components in this FloatDynamicArray.
+	 *
+	 * @return the number of components in this FloatDynamicArray
+	 */
+	public synchronized int size() {
+		return end;
+	}
+
+	/**
+	 * Returns the current capacity of this FloatDynamicArray.
+	 *
+	 * @return the current capacity (the length of its internal data array)
+	 */
+	public synchronized int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of times the internal data array of this FloatDynamicArray was
+	 * reallocated to grow its capacity.
+	 *
+	 * @return the number of times the capacity grew
+	 */
+	public synchronized long growCount() {
+		return grows;
+	}
+
+	/**
+	 * Returns the number of times the internal data array of this FloatDynamicArray was
+	 * reallocated to shrink its capacity, by removals or by
+	 * {@link #trimToSize()}.
+	 *
+	 * @return the number of times the capacity shrank
+	 */
+	public synchronized long shrinkCount() {
+		return shrinks;
+	}
+
+	/**
+	 * Increases the capacity of this FloatDynamicArray, if necessary, to ensure that it can
+	 * hold at least the number of components specified by the minimum
+	 * capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	public synchronized void ensureCapacity(int minCapacity) {
+		if (minCapacity > 0 && capacity < minCapacity) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Trims the capacity of this FloatDynamicArray to be the FloatDynamicArray's current size.
+	 */
+	public synchronized void trimToSize() {
+		shrink(true);
+	}
+
+	/**
+	 * Sorts this FloatDynamicArray according to the order specified by the character
+	 * {@code c}.
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort in ascending order,
+	 *          {@code if(c == 'd' || c == 'D')} then sort in descending order
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 */
+	public synchronized void sort(char c) {
+		sort(0, end, c);
+	}
+
+	/**
+	 * Sorts the specified range of this FloatDynamicArray according to the order specified
+	 * by the character {@code c}.
+	 *
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex   the index of the last element, exclusive, to be sorted
+	 * @param c         {@code if(c == 'a' || c == 'A')} then sort in ascending
+	 *                  order,
+	 *                  {@code if(c == 'd' || c == 'D')} then sort in descending
+	 *                  order
+	 * @throws IllegalArgumentException       {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > size())}
+	 */
+	public synchronized void sort(int fromIndex, int toIndex, char c) {
+		if (fromIndex < 0 || toIndex > end) {
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + "]");
+		}
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+		if (c == 'a' || c == 'A') {
+			Arrays.sort(data, fromIndex, toIndex);
+		} else if (c == 'd' || c == 'D') {
+			Arrays.sort(data, fromIndex, toIndex);
+			float temp;
+			for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+				temp = data[i];
+				data[i] = data[j];
+				data[j] = temp;
+			}
+		} else {
+			throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+		}
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this FloatDynamicArray.
+	 *
+	 * <p>
+	 * The returned array will be "safe" in that no references to it are
+	 * maintained by the FloatDynamicArray. (In other words, this method must allocate
+	 * a new array). The caller is thus free to modify the returned array.
+	 * </p>
+	 *
+	 * @return an array containing all of the elements in this FloatDynamicArray
+	 */
+	public synchronized float[] toArray() {
+		return Arrays.copyOf(data, end);
+	}
+
+	/**
+	 * All the elements in the FloatDynamicArray are initialized to zero without changing
+	 * the capacity.
+	 */
+	public synchronized void zeroFill() {
+		Arrays.fill(data, 0, end, 0);
+	}
+
+	/**
+	 * Returns a string representation of the FloatDynamicArray, enclosed in a square
+	 * brackets ("[]") and separated by comma and a space(", ").
+	 *
+	 * @return a string representation of this FloatDynamicArray
+	 */
+	@Override
+	public synchronized String toString() {
+		if (end == 0) {
+			return "[]";
+		}
+		StringBuilder str = new StringBuilder((3 * end) + 2);
+		str.append("[");
+		int i = 0;
+		for (; i < end - 1; i++) {
+			str.append(data[i]).append(", ");
+		}
+		str.append(data[i]).append("]");
+		return str.toString();
+	}
+}
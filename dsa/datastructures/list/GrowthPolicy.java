@@ -0,0 +1,171 @@
+package dsa.datastructures.list;
+
+/**
+ * The {@code GrowthPolicy} class decides how the capacity of a
+ * {@link DynamicArray} changes when it overflows and when removals leave it
+ * mostly empty.
+ *
+ * <p>
+ * The capacity grows in one of three ways:
+ * </p>
+ * <ul>
+ * <li>{@link #geometric(double)} - {@code capacity += capacity*(factor - 1) + 1}</li>
+ * <li>{@link #fixed(int)} - {@code capacity += increment}</li>
+ * <li>{@link #powerOfTwo()} - to the next power of two</li>
+ * </ul>
+ * <p>
+ * and shrinks to {@code size/shrinkTarget} once the size drops below
+ * {@code capacity*shrinkThreshold}. The policies returned by these factories
+ * shrink to the size once it drops below half of the capacity, like
+ * {@code DynamicArray} always did. {@link #shrink(double, double)} returns a
+ * copy with other thresholds. A gap between the two, e.g. shrinking to 50%
+ * occupancy once it drops below 25%, keeps a workload that adds and removes
+ * around the same size from growing right after every shrink.
+ * </p>
+ *
+ * <p>
+ * {@code GrowthPolicy} is immutable and can be shared by any number of
+ * DynamicArrays.
+ * </p>
+ *
+ * @author Sathvik
+ * @version 1.0
+ * @see DynamicArray
+ */
+public final class GrowthPolicy {
+
+	/**
+	 * Largest capacity the policy grows to on its own, some VMs reserve header
+	 * words in an array.
+	 */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private static final byte GEOMETRIC = 0;
+	private static final byte FIXED = 1;
+	private static final byte POWER_OF_TWO = 2;
+
+	private final byte kind;
+
+	private final double factor;
+
+	private final int increment;
+
+	private final double shrinkThreshold;
+
+	private final double shrinkTarget;
+
+	private GrowthPolicy(byte kind, double factor, int increment, double shrinkThreshold, double shrinkTarget) {
+		this.kind = kind;
+		this.factor = factor;
+		this.increment = increment;
+		this.shrinkThreshold = shrinkThreshold;
+		this.shrinkTarget = shrinkTarget;
+	}
+
+	/**
+	 * Returns a policy that grows the capacity by
+	 * {@code capacity += capacity*(factor - 1) + 1}.
+	 * {@code geometric(1.5)} is the default policy of {@code DynamicArray}.
+	 *
+	 * @param factor the factor by which the capacity is multiplied
+	 * @return the geometric growth policy
+	 * @throws IllegalArgumentException {@code if(!(factor > 1) || factor is infinite)}
+	 */
+	public static GrowthPolicy geometric(double factor) {
+		if (!(factor > 1.0) || Double.isInfinite(factor)) {
+			throw new IllegalArgumentException("Illegal Growth Factor: " + factor);
+		}
+		return new GrowthPolicy(GEOMETRIC, factor, 0, 0.5, 1.0);
+	}
+
+	/**
+	 * Returns a policy that grows the capacity by
+	 * {@code capacity += increment}.
+	 *
+	 * @param increment the amount by which the capacity is increased
+	 * @return the fixed increment growth policy
+	 * @throws IllegalArgumentException {@code if(increment < 1)}
+	 */
+	public static GrowthPolicy fixed(int increment) {
+		if (increment < 1) {
+			throw new IllegalArgumentException("Illegal Capacity Increment: " + increment);
+		}
+		return new GrowthPolicy(FIXED, 0.0, increment, 0.5, 1.0);
+	}
+
+	/**
+	 * Returns a policy that keeps the capacity a power of two, doubling it when
+	 * the DynamicArray overflows and shrinking it to the smallest power of two
+	 * that holds the size.
+	 *
+	 * @return the power of two growth policy
+	 */
+	public static GrowthPolicy powerOfTwo() {
+		return new GrowthPolicy(POWER_OF_TWO, 0.0, 0, 0.5, 1.0);
+	}
+
+	/**
+	 * Returns a copy of this policy which shrinks the capacity to
+	 * {@code size/target} once the size drops below {@code capacity*threshold}.
+	 * A {@code threshold} of {@code 0} never shrinks.
+	 *
+	 * @param threshold fraction of the capacity below which the size shrinks
+	 *                  the capacity
+	 * @param target    fraction of the new capacity taken by the size after
+	 *                  shrinking
+	 * @return the policy with the specified shrink thresholds
+	 * @throws IllegalArgumentException {@code if(!(0 <= threshold < target <= 1))}
+	 */
+	public GrowthPolicy shrink(double threshold, double target) {
+		if (!(threshold >= 0.0 && threshold < target && target <= 1.0)) {
+			throw new IllegalArgumentException("Illegal Shrink Thresholds: " + threshold + ", " + target);
+		}
+		return new GrowthPolicy(kind, factor, increment, threshold, target);
+	}
+
+	// the capacity to grow to from capacity, at least minCapacity
+	int grownCapacity(int capacity, int minCapacity) {
+		long next;
+		if (kind == GEOMETRIC) {
+			next = capacity + (long) (capacity * (factor - 1.0)) + 1;
+		} else if (kind == FIXED) {
+			next = (long) capacity + increment;
+		} else {
+			next = capacity == 0 ? 1 : Long.highestOneBit(capacity) << 1;
+		}
+		if (next > MAX_CAPACITY) {
+			next = MAX_CAPACITY;
+		}
+		return (int) Math.max(next, minCapacity);
+	}
+
+	// the capacity to shrink to from capacity when size elements are held, capacity if it should not shrink
+	int shrunkCapacity(int capacity, int size) {
+		if (size >= (int) (capacity * shrinkThreshold)) {
+			return capacity;
+		}
+		long next = (long) Math.ceil(size / shrinkTarget);
+		if (kind == POWER_OF_TWO && next > 1) {
+			next = Long.highestOneBit(next - 1) << 1;
+		}
+		return (int) Math.min(next, capacity);
+	}
+
+	/**
+	 * Returns a string representation of this policy.
+	 *
+	 * @return a string representation of this policy
+	 */
+	@Override
+	public String toString() {
+		String grow;
+		if (kind == GEOMETRIC) {
+			grow = "geometric(" + factor + ")";
+		} else if (kind == FIXED) {
+			grow = "fixed(" + increment + ")";
+		} else {
+			grow = "powerOfTwo()";
+		}
+		return grow + ".shrink(" + shrinkThreshold + ", " + shrinkTarget + ")";
+	}
+}
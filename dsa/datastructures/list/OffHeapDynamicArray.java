@@ -0,0 +1,1517 @@
+package dsa.datastructures.list;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The {@code OffHeapDynamicArray} class is a variant of {@link DynamicArray} whose
+ * components are held outside of the Java heap and accessed using a
+ * {@code long} index, so it can hold more than {@code Integer.MAX_VALUE}
+ * components and its payload adds nothing to garbage collection pauses.
+ *
+ * <p>
+ * The components are held in direct {@link ByteBuffer} chunks of
+ * {@code 2^20} components each. Growing allocates one more chunk and never
+ * copies the components already held. {@link #close()} frees the chunks at
+ * once; after that every method throws {@code IllegalStateException}.
+ * </p>
+ *
+ * <p>
+ * Sorting sorts every chunk on the heap, one at a time, and then merges the
+ * sorted chunks. A sort spanning several chunks therefore takes one chunk of
+ * heap and temporary off-heap space as large as the sorted range.
+ * </p>
+ *
+ * <p>
+ * {@link #map(Path)} opens a file written by {@link DynamicArray#save(Path)}
+ * as a read-only OffHeapDynamicArray whose chunks are mapped regions of the
+ * file, so opening it takes the same time whatever its size and components
+ * are read from the page cache on first access.
+ * </p>
+ *
+ * <p>
+ * {@code OffHeapDynamicArray} is <b>thread-safe</b> and is implemented for
+ * <b>primitive types</b> only.
+ * </p>
+ *
+ * @author Sathvik
+ * @version 1.0
+ * @see DynamicArray
+ */
+public class OffHeapDynamicArray implements AutoCloseable {
+
+	/**
+	 * Each chunk holds {@code 1 << CHUNK_BITS} components.
+	 */
+	private static final int CHUNK_BITS = 20;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/**
+	 * {@code sun.misc.Unsafe} and its {@code invokeCleaner} method, used to free
+	 * a chunk without waiting for it to be garbage collected. {@code null} if
+	 * the VM does not provide them.
+	 */
+	private static final Object unsafe;
+
+	private static final Method invokeCleaner;
+
+	static {
+		Object u;
+		Method m;
+		try {
+			Class<?> c = Class.forName("sun.misc.Unsafe");
+			Field f = c.getDeclaredField("theUnsafe");
+			f.setAccessible(true);
+			u = f.get(null);
+			m = c.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			u = null;
+			m = null;
+		}
+		unsafe = u;
+		invokeCleaner = m;
+	}
+
+	/**
+	 * The chunks, {@code chunks[0, chunkCount)} are allocated.
+	 */
+	private ByteBuffer[] chunks;
+
+	private int chunkCount = 0;
+
+	/**
+	 * {@code end} holds the last index of {@code OffHeapDynamicArray}.
+	 */
+	private long end = 0;
+
+	/**
+	 * log2 of the size of a component in bytes.
+	 */
+	private int shift;
+
+	private boolean closed = false;
+
+	/**
+	 * {@code true} if the chunks are read-only mapped regions of a file.
+	 */
+	private boolean readOnly = false;
+
+	/**
+	 * It is the array representaion of choices and their corresponding values. <br>
+	 * choice[0] = char <br>
+	 * choice[1] = byte <br>
+	 * choice[2] = short <br>
+	 * choice[3] = int <br>
+	 * choice[4] = long <br>
+	 * choice[5] = float <br>
+	 * choice[6] = double <br>
+	 * <br>
+	 * ex - choice = {0, 0, 0, 1, 0, 0, 0}; //choice is int
+	 */
+	private byte[] choice = { 0, 0, 0, 0, 0, 0, 0 };
+
+	private final byte ONE = 1;
+
+	/**
+	 * Constructs an empty array according to choice specified, which allocates
+	 * its first chunk when the first component is added.<br>
+	 *
+	 * @param choice
+	 * 
+	 *               <pre style="display:
+	 *               inline;">{@code if(choice.equals("char"))} then char components are held.
+	 *	 {@code if(choice.equals("byte"))} then byte components are held.
+	 *	 {@code if(choice.equals("short"))} then short components are held.
+	 *	 {@code if(choice.equals("int"))} then int components are held.
+	 *	 {@code if(choice.equals("long"))} then long components are held.
+	 *	 {@code if(choice.equals("float"))} then float components are held.
+	 *	 {@code if(choice.equals("double"))} then double components are held.</pre>
+	 *
+	 * @throws NullPointerException     {@code if(choice == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 */
+	public OffHeapDynamicArray(String choice) {
+		this(0, choice);
+	}
+
+	/**
+	 * Constructs an empty array according to choice specified, with enough
+	 * chunks allocated to hold {@code initialCapacity} components.<br>
+	 *
+	 * @param choice
+	 * 
+	 *                        <pre style="display:
+	 *                        inline;">{@code if(choice.equals("char"))} then char components are held.
+	 *	 {@code if(choice.equals("byte"))} then byte components are held.
+	 *	 {@code if(choice.equals("short"))} then short components are held.
+	 *	 {@code if(choice.equals("int"))} then int components are held.
+	 *	 {@code if(choice.equals("long"))} then long components are held.
+	 *	 {@code if(choice.equals("float"))} then float components are held.
+	 *	 {@code if(choice.equals("double"))} then double components are held.</pre>
+	 * 
+	 * @param initialCapacity the initial capacity of the OffHeapDynamicArray
+	 *
+	 * @throws IllegalArgumentException {@code if(initialCapacity < 0)}
+	 * @throws NullPointerException     {@code if(choice == null)}
+	 * @throws IllegalArgumentException
+	 * 
+	 *                                  <pre style="display:
+	 *                                  inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 */
+	public OffHeapDynamicArray(long initialCapacity, String choice) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+
+		if (choice == null) {
+			throw new NullPointerException();
+		}
+
+		choice = choice.trim().toLowerCase();
+
+		if (choice.equals("char")) {
+			shift = 1;
+			this.choice[0] = ONE;
+		} else if (choice.equals("byte")) {
+			shift = 0;
+			this.choice[1] = ONE;
+		} else if (choice.equals("short")) {
+			shift = 1;
+			this.choice[2] = ONE;
+		} else if (choice.equals("int")) {
+			shift = 2;
+			this.choice[3] = ONE;
+		} else if (choice.equals("long")) {
+			shift = 3;
+			this.choice[4] = ONE;
+		} else if (choice.equals("float")) {
+			shift = 2;
+			this.choice[5] = ONE;
+		} else if (choice.equals("double")) {
+			shift = 3;
+			this.choice[6] = ONE;
+		} else {
+			throw new IllegalArgumentException("Invalid choice \"" + choice +
+					"\", excepted \"char\" or \"byte\" or \"short\" or \"int\" or \"long\" or \"float\" or \"double\".");
+		}
+
+		chunks = new ByteBuffer[4];
+		while (capacity0() < initialCapacity) {
+			grow();
+		}
+	}
+
+	/**
+	 * Opens {@code file}, written by {@link DynamicArray#save(Path)}, as a
+	 * read-only OffHeapDynamicArray without copying: its chunks are mapped
+	 * regions of the file. The methods that would modify it throw
+	 * {@code UnsupportedOperationException}; {@link #close()} unmaps the file.
+	 *
+	 * @param file the file to map
+	 * @return the read-only OffHeapDynamicArray viewing {@code file}
+	 * @throws IOException if an I/O error occurs or if {@code file} is not a file
+	 *                     written by {@code save}
+	 */
+	public static OffHeapDynamicArray map(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long[] header = ArrayFile.readHeader(channel, file);
+			OffHeapDynamicArray a = new OffHeapDynamicArray(ArrayFile.NAMES[(int) header[0]]);
+			a.readOnly = true;
+			a.end = header[1];
+			a.chunkCount = (int) ((a.end + CHUNK_MASK) >>> CHUNK_BITS);
+			a.chunks = new ByteBuffer[Math.max(a.chunkCount, 1)];
+			for (int i = 0; i < a.chunkCount; i++) {
+				long first = (long) i << CHUNK_BITS;
+				long n = Math.min(CHUNK_SIZE, a.end - first);
+				a.chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, ArrayFile.HEADER + (first << a.shift),
+						n << a.shift).order(ByteOrder.LITTLE_ENDIAN);
+			}
+			return a;
+		}
+	}
+
+	private ByteBuffer allocate() {
+		return ByteBuffer.allocateDirect(CHUNK_SIZE << shift).order(ByteOrder.nativeOrder());
+	}
+
+	// frees a chunk now instead of when it is garbage collected, if the VM allows it
+	private static void free(ByteBuffer chunk) {
+		if (invokeCleaner != null) {
+			try {
+				invokeCleaner.invoke(unsafe, chunk);
+			} catch (ReflectiveOperationException e) {
+				// left to the garbage collector
+			}
+		}
+	}
+
+	private long capacity0() {
+		return (long) chunkCount << CHUNK_BITS;
+	}
+
+	private void grow() {
+		if (chunkCount == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunkCount * 2);
+		}
+		chunks[chunkCount++] = allocate();
+	}
+
+	private ByteBuffer chunk(long index) {
+		return chunks[(int) (index >>> CHUNK_BITS)];
+	}
+
+	// byte offset of the component at index in its chunk
+	private int offset(long index) {
+		return (int) (index & CHUNK_MASK) << shift;
+	}
+
+	private void openCheck() {
+		if (closed) {
+			throw new IllegalStateException("OffHeapDynamicArray is closed");
+		}
+	}
+
+	private void writeCheck() {
+		openCheck();
+		if (readOnly) {
+			throw new UnsupportedOperationException("OffHeapDynamicArray is read-only");
+		}
+	}
+
+	private void choiceCheck(int index) {
+		openCheck();
+		if (choice[index] != ONE) {
+			if (index == 0) {
+				throw new IllegalArgumentException("\'char\' method call not allowed");
+			} else if (index == 1) {
+				throw new IllegalArgumentException("\'byte\' method call not allowed");
+			} else if (index == 2) {
+				throw new IllegalArgumentException("\'short\' method call not allowed");
+			} else if (index == 3) {
+				throw new IllegalArgumentException("\'int\' method call not allowed");
+			} else if (index == 4) {
+				throw new IllegalArgumentException("\'long\' method call not allowed");
+			} else if (index == 5) {
+				throw new IllegalArgumentException("\'float\' method call not allowed");
+			} else {
+				throw new IllegalArgumentException("\'double\' method call not allowed");
+			}
+		}
+	}
+
+	private void rangeCheck0(long index) {
+		if (index >= end) {
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + index);
+		}
+		if (index < 0) {
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + index);
+		}
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(char).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(char element) {
+		choiceCheck(0);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).putChar(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(byte).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(byte element) {
+		choiceCheck(1);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).put(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(short).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(short element) {
+		choiceCheck(2);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).putShort(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(int).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(int element) {
+		choiceCheck(3);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).putInt(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(long).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(long element) {
+		choiceCheck(4);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).putLong(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(float).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(float element) {
+		choiceCheck(5);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).putFloat(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Appends the specified element to the end of this OffHeapDynamicArray(double).
+	 *
+	 * @param element element to be appended to this OffHeapDynamicArray
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 * @return {@code true} if successfully appended
+	 */
+	public synchronized boolean add(double element) {
+		choiceCheck(6);
+		writeCheck();
+		if (end == capacity0()) {
+			grow();
+		}
+		chunk(end).putDouble(offset(end), element);
+		end++;
+		return true;
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray.
+	 *
+	 * @param index index of the element to return
+	 * @return object at the specified index
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized Object get(long index) {
+		openCheck();
+		rangeCheck0(index);
+		ByteBuffer b = chunk(index);
+		int off = offset(index);
+		if (choice[0] == ONE) {
+			return (Object) b.getChar(off);
+		} else if (choice[1] == ONE) {
+			return (Object) b.get(off);
+		} else if (choice[2] == ONE) {
+			return (Object) b.getShort(off);
+		} else if (choice[3] == ONE) {
+			return (Object) b.getInt(off);
+		} else if (choice[4] == ONE) {
+			return (Object) b.getLong(off);
+		} else if (choice[5] == ONE) {
+			return (Object) b.getFloat(off);
+		} else {
+			return (Object) b.getDouble(off);
+		}
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(char).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized char getChar(long index) {
+		choiceCheck(0);
+		rangeCheck0(index);
+		return chunk(index).getChar(offset(index));
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(byte).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized byte getByte(long index) {
+		choiceCheck(1);
+		rangeCheck0(index);
+		return chunk(index).get(offset(index));
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(short).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized short getShort(long index) {
+		choiceCheck(2);
+		rangeCheck0(index);
+		return chunk(index).getShort(offset(index));
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(int).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized int getInt(long index) {
+		choiceCheck(3);
+		rangeCheck0(index);
+		return chunk(index).getInt(offset(index));
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(long).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long getLong(long index) {
+		choiceCheck(4);
+		rangeCheck0(index);
+		return chunk(index).getLong(offset(index));
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(float).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized float getFloat(long index) {
+		choiceCheck(5);
+		rangeCheck0(index);
+		return chunk(index).getFloat(offset(index));
+	}
+
+	/**
+	 * Returns the element at the specified position in this
+	 * OffHeapDynamicArray(double).
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified index
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized double getDouble(long index) {
+		choiceCheck(6);
+		rangeCheck0(index);
+		return chunk(index).getDouble(offset(index));
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(char).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(char newElement, long index) {
+		choiceCheck(0);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).putChar(offset(index), newElement);
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(byte).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(byte newElement, long index) {
+		choiceCheck(1);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).put(offset(index), newElement);
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(short).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(short newElement, long index) {
+		choiceCheck(2);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).putShort(offset(index), newElement);
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(int).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(int newElement, long index) {
+		choiceCheck(3);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).putInt(offset(index), newElement);
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(long).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(long newElement, long index) {
+		choiceCheck(4);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).putLong(offset(index), newElement);
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(float).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(float newElement, long index) {
+		choiceCheck(5);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).putFloat(offset(index), newElement);
+	}
+
+	/**
+	 * Replace value at {@code index}, with the {@code newElement} in this
+	 * OffHeapDynamicArray(double).
+	 *
+	 * @param newElement the new element
+	 * @param index      index at which element is to be placed
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void replaceAt(double newElement, long index) {
+		choiceCheck(6);
+		writeCheck();
+		rangeCheck0(index);
+		chunk(index).putDouble(offset(index), newElement);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(char), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(char element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(char), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(char element, long index) {
+		choiceCheck(0);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.getChar(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(char) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(char element) {
+		choiceCheck(0);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(byte), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(byte element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(byte), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(byte element, long index) {
+		choiceCheck(1);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.get(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(byte) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(byte element) {
+		choiceCheck(1);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(short), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(short element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(short), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(short element, long index) {
+		choiceCheck(2);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.getShort(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(short) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(short element) {
+		choiceCheck(2);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(int), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(int element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(int), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(int element, long index) {
+		choiceCheck(3);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.getInt(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(int) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(int element) {
+		choiceCheck(3);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(long), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(long element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(long), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(long element, long index) {
+		choiceCheck(4);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.getLong(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(long) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(long element) {
+		choiceCheck(4);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(float), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(float element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(float), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(float element, long index) {
+		choiceCheck(5);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.getFloat(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(float) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(float element) {
+		choiceCheck(5);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element
+	 * in this OffHeapDynamicArray(double), or -1 if this OffHeapDynamicArray does
+	 * not contain the element.
+	 *
+	 * @param element element to search for
+	 * @return the index of the first occurrence of the specified element in
+	 *         this OffHeapDynamicArray, or -1 if this OffHeapDynamicArray does
+	 *         not contain the element
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(end == 0)}
+	 */
+	public synchronized long indexOf(double element) {
+		return indexOf(element, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element in
+	 * this OffHeapDynamicArray(double), searching forwards from {@code index}, or
+	 * returns -1 if the element is not found.
+	 *
+	 * @param element element to search for
+	 * @param index   index to start searching from
+	 * @return the index of the first occurrence of the element in
+	 *         this OffHeapDynamicArray at position {@code index} or later;
+	 *         {@code -1} if the element is not found.
+	 * @throws IllegalArgumentException       {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws ArrayIndexOutOfBoundsException {@code if(index >= end || index < 0)}
+	 */
+	public synchronized long indexOf(double element, long index) {
+		choiceCheck(6);
+		rangeCheck0(index);
+		while (index < end) {
+			ByteBuffer b = chunk(index);
+			long base = index & ~(long) CHUNK_MASK;
+			int limit = (int) Math.min(CHUNK_SIZE, end - base);
+			for (int i = (int) (index - base); i < limit; i++) {
+				if (b.getDouble(i << shift) == element) {
+					return base + i;
+				}
+			}
+			index = base + CHUNK_SIZE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if this OffHeapDynamicArray(double) contains the
+	 * specified element.
+	 *
+	 * @param element element whose presence in this OffHeapDynamicArray is to
+	 *                be tested
+	 * @return {@code true} if this OffHeapDynamicArray contains the specified
+	 *         element; else {@code false}
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 */
+	public synchronized boolean contains(double element) {
+		choiceCheck(6);
+		return end > 0 && indexOf(element, 0) > -1;
+	}
+
+	/**
+	 * Returns the number of components in this OffHeapDynamicArray.
+	 *
+	 * @return the number of components in this OffHeapDynamicArray
+	 */
+	public synchronized long size() {
+		return end;
+	}
+
+	/**
+	 * Returns the current capacity of this OffHeapDynamicArray.
+	 *
+	 * @return the number of components the allocated chunks can hold, the size
+	 *         if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized long capacity() {
+		return readOnly ? end : capacity0();
+	}
+
+	/**
+	 * Tests if this OffHeapDynamicArray has no components.
+	 *
+	 * @return {@code true} if and only if this OffHeapDynamicArray has
+	 *         no components, that is, its size is zero;
+	 *         {@code false} otherwise.
+	 */
+	public synchronized boolean isEmpty() {
+		return end == 0;
+	}
+
+	/**
+	 * Removes all of the elements from this OffHeapDynamicArray and frees its
+	 * chunks.
+	 *
+	 * @throws IllegalStateException         if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void clear() {
+		writeCheck();
+		end = 0;
+		trimToSize();
+	}
+
+	/**
+	 * Frees the chunks this OffHeapDynamicArray does not need to hold its
+	 * current size.
+	 *
+	 * @throws IllegalStateException         if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void trimToSize() {
+		writeCheck();
+		int needed = (int) ((end + CHUNK_MASK) >>> CHUNK_BITS);
+		while (chunkCount > needed) {
+			free(chunks[--chunkCount]);
+			chunks[chunkCount] = null;
+		}
+	}
+
+	/**
+	 * Frees the chunks of this OffHeapDynamicArray, or unmaps the file it was
+	 * mapped from. Calling any method other
+	 * than {@code close}, {@code size}, {@code capacity} and {@code isEmpty}
+	 * afterwards throws {@code IllegalStateException}; closing it again has no
+	 * effect.
+	 */
+	@Override
+	public synchronized void close() {
+		if (!closed) {
+			for (int i = 0; i < chunkCount; i++) {
+				free(chunks[i]);
+			}
+			chunks = null;
+			chunkCount = 0;
+			end = 0;
+			closed = true;
+		}
+	}
+
+	/**
+	 * Sorts this OffHeapDynamicArray according to the order specified by the
+	 * character {@code c}.
+	 *
+	 * @param c {@code if(c == 'a' || c == 'A')} then sort in ascending order,
+	 *          {@code if(c == 'd' || c == 'D')} then sort in descending order
+	 * @throws IllegalArgumentException {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalStateException    if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void sort(char c) {
+		sort(0, end, c);
+	}
+
+	/**
+	 * Sorts the specified range of this OffHeapDynamicArray according to the
+	 * order specified by the character {@code c}. {@code float} and
+	 * {@code double} components are ordered like
+	 * {@link java.util.Arrays#sort(double[])}.
+	 *
+	 * @param c         {@code if(c == 'a' || c == 'A')} then sort in ascending
+	 *                  order,
+	 *                  {@code if(c == 'd' || c == 'D')} then sort in descending
+	 *                  order
+	 * @param fromIndex the index of the first element, inclusive, to be sorted
+	 * @param toIndex   the index of the last element, exclusive, to be sorted
+	 * @throws IllegalArgumentException       {@code if((c != 'a' || c != 'A') && (c != 'd' || c != 'D'))}
+	 * @throws IllegalArgumentException       {@code if(fromIndex > toIndex)}
+	 * @throws ArrayIndexOutOfBoundsException {@code if(fromIndex < 0 || toIndex > end)}
+	 * @throws IllegalStateException          if this OffHeapDynamicArray is closed
+	 * @throws UnsupportedOperationException  if this OffHeapDynamicArray is read-only
+	 */
+	public synchronized void sort(long fromIndex, long toIndex, char c) {
+		writeCheck();
+		if (fromIndex < 0 || toIndex > end) {
+			throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + "]");
+		}
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+		if (c == 'a' || c == 'A') {
+			sort0(fromIndex, toIndex);
+		} else if (c == 'd' || c == 'D') {
+			sort0(fromIndex, toIndex);
+			for (long i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+				swap(i, j);
+			}
+		} else {
+			throw new IllegalArgumentException("Invalid choice \'" + c +
+					"\', excepted \'a\'/\'A\' for ascending and \'d\'/\'D\' for descending.");
+		}
+	}
+
+	// sorts [from, to) in ascending order: every piece of the range lying in one
+	// chunk is sorted on the heap, then the pieces are merged into scratch chunks
+	// and copied back
+	private void sort0(long from, long to) {
+		if (to - from < 2) {
+			return;
+		}
+		int pieces = (int) (((to - 1) >>> CHUNK_BITS) - (from >>> CHUNK_BITS)) + 1;
+		long[] pos = new long[pieces], lim = new long[pieces];
+		Object scratch = scratch((int) Math.min(CHUNK_SIZE, to - from));
+		for (int p = 0; p < pieces; p++) {
+			pos[p] = p == 0 ? from : lim[p - 1];
+			lim[p] = Math.min(to, (pos[p] | CHUNK_MASK) + 1);
+			sortPiece(pos[p], (int) (lim[p] - pos[p]), scratch);
+		}
+		if (pieces == 1) {
+			return;
+		}
+
+		ByteBuffer[] out = new ByteBuffer[(int) ((to - from + CHUNK_MASK) >>> CHUNK_BITS)];
+		try {
+			for (int i = 0; i < out.length; i++) {
+				out[i] = allocate();
+			}
+
+			// binary min-heap of the pieces ordered by the key of their next element
+			int[] heap = new int[pieces];
+			long[] head = new long[pieces];
+			int size = 0;
+			for (int p = 0; p < pieces; p++) {
+				head[p] = key(pos[p]);
+				int i = size++;
+				while (i > 0 && head[heap[(i - 1) >>> 1]] > head[p]) {
+					heap[i] = heap[(i - 1) >>> 1];
+					i = (i - 1) >>> 1;
+				}
+				heap[i] = p;
+			}
+			for (long o = 0; size > 0; o++) {
+				int p = heap[0];
+				copyElement(chunk(pos[p]), offset(pos[p]), out[(int) (o >>> CHUNK_BITS)], offset(o));
+				if (++pos[p] < lim[p]) {
+					head[p] = key(pos[p]);
+				} else {
+					p = heap[--size];
+				}
+				int i = 0, child;
+				while ((child = 2 * i + 1) < size) {
+					if (child + 1 < size && head[heap[child + 1]] < head[heap[child]]) {
+						child++;
+					}
+					if (head[p] <= head[heap[child]]) {
+						break;
+					}
+					heap[i] = heap[child];
+					i = child;
+				}
+				if (size > 0) {
+					heap[i] = p;
+				}
+			}
+
+			for (long o = 0, n = to - from; o < n;) {
+				long d = from + o;
+				int len = (int) Math.min(n - o, CHUNK_SIZE - Math.max(d & CHUNK_MASK, o & CHUNK_MASK));
+				chunk(d).put(offset(d), out[(int) (o >>> CHUNK_BITS)], offset(o), len << shift);
+				o += len;
+			}
+		} finally {
+			for (ByteBuffer b : out) {
+				if (b != null) {
+					free(b);
+				}
+			}
+		}
+	}
+
+	private Object scratch(int length) {
+		if (choice[0] == ONE) {
+			return new char[length];
+		} else if (choice[1] == ONE) {
+			return new byte[length];
+		} else if (choice[2] == ONE) {
+			return new short[length];
+		} else if (choice[3] == ONE) {
+			return new int[length];
+		} else if (choice[4] == ONE) {
+			return new long[length];
+		} else if (choice[5] == ONE) {
+			return new float[length];
+		} else {
+			return new double[length];
+		}
+	}
+
+	// sorts the len components at index, which lie in one chunk, on the heap
+	private void sortPiece(long index, int len, Object scratch) {
+		ByteBuffer b = chunk(index).slice(offset(index), len << shift).order(ByteOrder.nativeOrder());
+		if (choice[0] == ONE) {
+			char[] a = (char[]) scratch;
+			b.asCharBuffer().get(a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.asCharBuffer().put(a, 0, len);
+		} else if (choice[1] == ONE) {
+			byte[] a = (byte[]) scratch;
+			b.get(0, a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.put(0, a, 0, len);
+		} else if (choice[2] == ONE) {
+			short[] a = (short[]) scratch;
+			b.asShortBuffer().get(a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.asShortBuffer().put(a, 0, len);
+		} else if (choice[3] == ONE) {
+			int[] a = (int[]) scratch;
+			b.asIntBuffer().get(a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.asIntBuffer().put(a, 0, len);
+		} else if (choice[4] == ONE) {
+			long[] a = (long[]) scratch;
+			b.asLongBuffer().get(a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.asLongBuffer().put(a, 0, len);
+		} else if (choice[5] == ONE) {
+			float[] a = (float[]) scratch;
+			b.asFloatBuffer().get(a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.asFloatBuffer().put(a, 0, len);
+		} else {
+			double[] a = (double[]) scratch;
+			b.asDoubleBuffer().get(a, 0, len);
+			Arrays.sort(a, 0, len);
+			b.asDoubleBuffer().put(a, 0, len);
+		}
+	}
+
+	// key of the component at index, ordered like the component by Arrays.sort
+	private long key(long index) {
+		ByteBuffer b = chunk(index);
+		int off = offset(index);
+		if (choice[0] == ONE) {
+			return b.getChar(off);
+		} else if (choice[1] == ONE) {
+			return b.get(off);
+		} else if (choice[2] == ONE) {
+			return b.getShort(off);
+		} else if (choice[3] == ONE) {
+			return b.getInt(off);
+		} else if (choice[4] == ONE) {
+			return b.getLong(off);
+		} else if (choice[5] == ONE) {
+			int bits = Float.floatToIntBits(b.getFloat(off));
+			return bits ^ ((bits >> 31) & 0x7fffffff);
+		} else {
+			long bits = Double.doubleToLongBits(b.getDouble(off));
+			return bits ^ ((bits >> 63) & 0x7fffffffffffffffL);
+		}
+	}
+
+	private void copyElement(ByteBuffer src, int srcOffset, ByteBuffer dst, int dstOffset) {
+		if (shift == 0) {
+			dst.put(dstOffset, src.get(srcOffset));
+		} else if (shift == 1) {
+			dst.putShort(dstOffset, src.getShort(srcOffset));
+		} else if (shift == 2) {
+			dst.putInt(dstOffset, src.getInt(srcOffset));
+		} else {
+			dst.putLong(dstOffset, src.getLong(srcOffset));
+		}
+	}
+
+	private void swap(long i, long j) {
+		ByteBuffer a = chunk(i), b = chunk(j);
+		int x = offset(i), y = offset(j);
+		if (shift == 0) {
+			byte temp = a.get(x);
+			a.put(x, b.get(y));
+			b.put(y, temp);
+		} else if (shift == 1) {
+			short temp = a.getShort(x);
+			a.putShort(x, b.getShort(y));
+			b.putShort(y, temp);
+		} else if (shift == 2) {
+			int temp = a.getInt(x);
+			a.putInt(x, b.getInt(y));
+			b.putInt(y, temp);
+		} else {
+			long temp = a.getLong(x);
+			a.putLong(x, b.getLong(y));
+			b.putLong(y, temp);
+		}
+	}
+}
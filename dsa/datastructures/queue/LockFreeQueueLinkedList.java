@@ -0,0 +1,412 @@
+package dsa.datastructures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code LockFreeQueueLinkedList} class contains queue operation which uses linked list to store data,
+ * without locking.
+ *
+ * <p>It is the non-blocking queue of Michael and Scott. The list starts with a dummy node, {@code head}
+ * points to the dummy node and {@code tail} to the last node or the one before it. An element is
+ * enqueued by a compare-and-set of the {@code next} link of the last node, and dequeued by a
+ * compare-and-set of {@code head} to the node after the dummy node, which becomes the new dummy node.
+ * A thread which finds {@code tail} behind the last node moves it forward before retrying, so no thread
+ * waits for another. Unlike {@link QueueLinkedList}, whose methods take a monitor, any number of
+ * producers and consumers run in parallel.</p>
+ *
+ * <p>{@link #front()}, {@link #rear()} and {@link #size()} return a value the queue had at some point
+ * during the call, under concurrent enqueue and dequeue it may already be stale when they return.
+ * {@link #size()} counts the elements and takes O(n) time.</p>
+ *
+ * <p>{@code LockFreeQueueLinkedList} is <b>thread-safe</b> and is implemented for <b>primitive types</b> only.</p>
+ * 
+ * <table style = "border: 1px solid black; border-collapse: collapse;" summary="Time complexity">
+ * 	<tr>
+ *   <th style = "border: 1px solid black; padding: 15px;"></th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Best)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Average)</th>
+ * 	 <th style = "border: 1px solid black; padding: 15px;">Time Complexity(Worst)</th>
+ * 	</tr>
+ * 	<tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Insert(enqueue)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(1)</td>
+ * 	</tr>
+ *  <tr>
+ *	 <th style = "border: 1px solid black; padding: 15px;">Delete(dequeue)</th>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#937;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">&#952;(1)</td>
+ * 	 <td style = "border: 1px solid black; text-align: center; padding: 15px;">O(1)</td>
+ * 	</tr>
+ * </table>
+ * <p>The time is per attempt, an attempt is retried when a concurrent enqueue or dequeue wins the
+ * compare-and-set.</p>
+ *
+ * @author  Sathvik
+ * @version 1.0
+ * @see <a href="QueueLinkedList.html">QueueLinkedList</a>
+ */
+public class LockFreeQueueLinkedList
+{
+	// data holds the element, float and double as their raw bits
+	private static final class Node
+	{
+		final long data;
+		volatile Node next;
+		Node(long data)
+		{
+			this.data = data;
+		}
+	}
+	
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+	private static final VarHandle NEXT;
+	
+	static
+	{
+		try
+		{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(LockFreeQueueLinkedList.class, "head", Node.class);
+			TAIL = lookup.findVarHandle(LockFreeQueueLinkedList.class, "tail", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	// the dummy node, the front element is head.next
+	private volatile Node head;
+	
+	private volatile Node tail;
+	
+	private byte[] choice = {0, 0, 0, 0, 0, 0, 0};
+	
+	private final byte ONE = 1;
+	
+	/**
+	 * Constructs a {@code LockFreeQueueLinkedList} according to choice specified.
+	 *
+	 * @param choice <pre style="display: inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 *
+	 * @throws NullPointerException {@code if(choice == null)}
+	 * @throws IllegalArgumentException <pre style="display: inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 */
+	public LockFreeQueueLinkedList(String choice)
+	{
+		if (choice == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		choice = choice.trim().toLowerCase();
+		if (choice.equals("char"))
+		{
+			this.choice[0] = ONE;
+		}
+		else if (choice.equals("byte"))
+		{
+			this.choice[1] = ONE;
+		}
+		else if (choice.equals("short"))
+		{
+			this.choice[2] = ONE;
+		}
+		else if (choice.equals("int"))
+		{
+			this.choice[3] = ONE;
+		}
+		else if (choice.equals("long"))
+		{
+			this.choice[4] = ONE;
+		}
+		else if (choice.equals("float"))
+		{
+			this.choice[5] = ONE;
+		}
+		else if (choice.equals("double"))
+		{
+			this.choice[6] = ONE;
+		}
+		else
+		{
+			throw new IllegalArgumentException("Invalid choice \"" + choice +  
+			"\", excepted \"char\" or \"byte\" or \"short\" or \"int\" or \"long\" or \"float\" or \"double\".");
+		}
+		head = tail = new Node(0);
+	}
+	
+	private void choiceCheck(int index)
+	{
+		if(choice[index] != ONE)
+		{
+			if(index == 0)
+			{
+				throw new IllegalArgumentException("\'char\' method call not allowed");
+			}
+			else if(index == 1)
+			{
+				throw new IllegalArgumentException("\'byte\' method call not allowed");
+			}
+			else if(index == 2)
+			{
+				throw new IllegalArgumentException("\'short\' method call not allowed");
+			}
+			else if(index == 3)
+			{
+				throw new IllegalArgumentException("\'int\' method call not allowed");
+			}
+			else if(index == 4)
+			{
+				throw new IllegalArgumentException("\'long\' method call not allowed");
+			}
+			else if(index == 5)
+			{
+				throw new IllegalArgumentException("\'float\' method call not allowed");
+			}
+			else
+			{
+				throw new IllegalArgumentException("\'double\' method call not allowed");
+			}
+		}
+	}
+	
+	// returns the element held by data as an object of the type of the queue
+	private Object box(long data)
+	{
+		if (choice[0] == ONE)
+		{
+			return (char)data;
+		}
+		else if(choice[1] == ONE)
+		{
+			return (byte)data;
+		}
+		else if(choice[2] == ONE)
+		{
+			return (short)data;
+		}
+		else if(choice[3] == ONE)
+		{
+			return (int)data;
+		}
+		else if(choice[4] == ONE)
+		{
+			return data;
+		}
+		else if(choice[5] == ONE)
+		{
+			return Float.intBitsToFloat((int)data);
+		}
+		else
+		{
+			return Double.longBitsToDouble(data);
+		}
+	}
+	
+	private void enqueue0(long data)
+	{
+		Node node = new Node(data);
+		for(;;)
+		{
+			Node last = tail;
+			Node next = last.next;
+			if(next == null)
+			{
+				if(NEXT.compareAndSet(last, (Node)null, node))
+				{
+					// a failure means another thread has already moved tail past node
+					TAIL.compareAndSet(this, last, node);
+					return;
+				}
+			}
+			else
+			{
+				// tail is behind the last node, help the enqueue which linked next
+				TAIL.compareAndSet(this, last, next);
+			}
+		}
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[0] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(char element) 
+	{
+		choiceCheck(0);
+		enqueue0(element);
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[1] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(byte element) 
+	{
+		choiceCheck(1);
+		enqueue0(element);
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[2] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(short element) 
+	{
+		choiceCheck(2);
+		enqueue0(element);
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[3] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(int element) 
+	{
+		choiceCheck(3);
+		enqueue0(element);
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[4] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(long element) 
+	{
+		choiceCheck(4);
+		enqueue0(element);
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[5] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(float element) 
+	{
+		choiceCheck(5);
+		enqueue0(Float.floatToRawIntBits(element));
+	}
+	
+	/**
+	 * adds an element to the collection.
+	 *
+	 * @throws IllegalArgumentException {@code if(choice[6] != ONE)}
+	 * @param element the element to add
+	 */
+	public void enqueue(double element) 
+	{
+		choiceCheck(6);
+		enqueue0(Double.doubleToRawLongBits(element));
+	}
+	
+	/**
+	 * Removes the least recently added element.
+	 *
+	 * @return the element which is removed
+	 * @throws NoSuchElementException if this queue is empty
+	 */
+	public Object dequeue() 
+	{
+		for(;;)
+		{
+			Node first = head;
+			Node last = tail;
+			Node next = first.next;
+			if(next == null)
+			{
+				throw new NoSuchElementException();
+			}
+			if(first == last)
+			{
+				// tail is behind the last node, move it before head passes it
+				TAIL.compareAndSet(this, last, next);
+			}
+			else if(HEAD.compareAndSet(this, first, next))
+			{
+				return box(next.data);
+			}
+		}
+	}
+	
+	/**
+	 * Retrieves, but does not remove, the front element of queue.
+	 *
+	 * @return the front element of queue, or {@code null} if the queue is empty
+	 */
+	public Object front() 
+	{
+		Node next = head.next;
+		return next == null ? null : box(next.data);
+	}
+
+	/**
+	 * Retrieves, but does not remove, the rear element of queue.
+	 *
+	 * @return the rear element of queue, or {@code null} if the queue is empty
+	 */	
+	public Object rear() 
+	{
+		Node last = tail;
+		for(Node next = last.next; next != null; next = last.next)
+		{
+			last = next;
+		}
+		return last == head ? null : box(last.data);
+	}
+	
+	/**
+	 * Tests if this queue has no elements.
+	 *
+	 * @return {@code true} if this queue has no elements; {@code false} otherwise
+	 */
+	public boolean isEmpty() 
+	{
+		return head.next == null;
+	}
+	
+	/**
+	 * Returns the number of elements in this queue, by counting them.
+	 *
+	 * @return the number of elements in this queue
+	 */
+	public long size() 
+	{
+		long count = 0;
+		for(Node next = head.next; next != null; next = next.next)
+		{
+			count++;
+		}
+		return count;
+	}
+}
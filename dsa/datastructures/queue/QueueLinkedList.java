@@ -59,6 +59,34 @@ public class QueueLinkedList extends Linked_List
 		super(choice);
 	}
 	
+	/**
+	 * Constructs a {@code Linked_List} according to choice specified, which keeps up to
+	 * {@code poolCapacity} removed nodes and reuses them for the elements added next.
+	 *
+	 * @param choice <pre style="display: inline;">{@code if(choice.equals("char"))} then _char_ is initialized.
+	 *	 {@code if(choice.equals("byte"))} then _byte_ is initialized.
+	 *	 {@code if(choice.equals("short"))} then _short_ is initialized.
+	 *	 {@code if(choice.equals("int"))} then _int_ is initialized.
+	 *	 {@code if(choice.equals("long"))} then _long_ is initialized.
+	 *	 {@code if(choice.equals("float"))} then _float_ is initialized.
+	 *	 {@code if(choice.equals("double"))} then _double_ is initialized.</pre>
+	 * @param poolCapacity the most removed nodes kept for reuse, {@code 0} to not keep any
+	 *
+	 * @throws NullPointerException {@code if(choice == null)}
+	 * @throws IllegalArgumentException <pre style="display: inline;">{@code if(!choice.equals("char") &&
+	 *	 				!choice.equals("byte") && 
+	 *	 				!choice.equals("short") && 
+	 *	 				!choice.equals("int") && 
+	 *	 				!choice.equals("long") && 
+	 *	 				!choice.equals("float") && 
+	 *	 				!choice.equals("double"))}</pre>
+	 * @throws IllegalArgumentException {@code if(poolCapacity < 0)}
+	 */
+	public QueueLinkedList(String choice, int poolCapacity)
+	{
+		super(choice, poolCapacity);
+	}
+	
 	/**
 	 * Adds an element to the collection.
 	 *